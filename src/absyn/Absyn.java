@@ -4,6 +4,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 
 import semantical.TypeChecker;
+import types.CompilationContext;
 
 /**
  * A node of abstract syntax.
@@ -18,7 +19,7 @@ public abstract class Absyn {
 	 * syntax represented by this abstract syntax.
 	 */
 
-	private final int pos;
+	private int pos;
 
 	/**
 	 * The unique identifier of this node of abstract syntax.
@@ -26,13 +27,6 @@ public abstract class Absyn {
 
 	private final int identifier;
 
-	/**
-	 * A counter used to assign distinct values to the <tt>identifier</tt>
-	 * field.
-	 */
-
-	private static int counter = 0;
-
 	/**
 	 * A type error that occurred in this node during type-checking.
 	 */
@@ -50,8 +44,9 @@ public abstract class Absyn {
 	protected Absyn(int pos) {
 		this.pos = pos;
 
-		// we assign a unique identifier to this node of abstract syntax
-		this.identifier = counter++;
+		// we assign a unique identifier to this node of abstract syntax,
+		// distinct from those of the other nodes of the same compilation
+		this.identifier = CompilationContext.current().nextNodeIdentifier();
 
 		// no type-checking error at the beginning
 		this.typeError = null;
@@ -69,6 +64,28 @@ public abstract class Absyn {
 		return pos;
 	}
 
+	/**
+	 * Shifts the position of this node and of its components, as it happens
+	 * when the source code before them has been edited.
+	 *
+	 * @param delta the number of characters added before this node
+	 *              (negative if characters have been removed)
+	 */
+
+	final void shift(int delta) {
+		pos += delta;
+		shiftAux(delta);
+	}
+
+	/**
+	 * Shifts the positions of the components of this node.
+	 * By default, a node has no components.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	protected void shiftAux(int delta) {}
+
 	/**
 	 * Yields a the string for labeling the class of abstract syntax represented by
 	 * this node. By default, this is the name of the class of abstract
@@ -90,6 +90,18 @@ public class ArrayAccess extends Lvalue {
 		linkToNode("index", index.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #array} and {@link #index}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		array.shift(delta);
+		index.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of an array access expression,
 	 * by using a given type-checker. It type-checks {@link #array} and
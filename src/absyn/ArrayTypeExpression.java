@@ -34,6 +34,16 @@ public class ArrayTypeExpression extends TypeExpression {
 		this.elementsType = elementsType;
 	}
 
+	/**
+	 * Yields the abstract syntax of the type of the elements of the array.
+	 *
+	 * @return the abstract syntax of the type of the elements of the array
+	 */
+
+	public TypeExpression getElementsType() {
+		return elementsType;
+	}
+
 	/**
 	 * Type-checks this array type expression. It type-checks the elements
 	 * of the array and then returns the array type for such an elements type.
@@ -72,6 +82,17 @@ public class ArrayTypeExpression extends TypeExpression {
 		linkToNode("elementsType", elementsType.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #elementsType}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		elementsType.shift(delta);
+	}
+
 	@Override
 	public String toString() {
 		return "array of " + elementsType;
@@ -3,6 +3,7 @@ package absyn;
 import java.io.FileWriter;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import translation.Block;
 import types.BooleanType;
 import types.ClassType;
@@ -46,6 +47,16 @@ public class Assert extends Command {
 		this.condition = condition;
 	}
 
+	/**
+	 * Yields the abstract syntax of the asserted condition.
+	 *
+	 * @return the abstract syntax of the asserted condition
+	 */
+
+	public Expression getCondition() {
+		return condition;
+	}
+
 	/**
 	 * Adds abstract syntax class-specific information in the dot file representing the abstract syntax of the {@code assert} command. This amounts to adding an arc from the node for the {@code assert} command to the abstract syntax for
 	 * {@link #returned}.
@@ -59,6 +70,17 @@ public class Assert extends Command {
 		linkToNode("condition", condition.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #condition}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		condition.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the {@code return} command by using a given type-checker. It type-checks the expression whose value is returned, if it is not {@code null}, and checks that its static type can be assigned to the type expected by
 	 * the type-checker for the {@code return} instructions. If no returned expression is present, then the it checks that the type-checker expects {@code void} as a return type. It returns the same type-checker passed as a parameter.
@@ -115,13 +137,13 @@ public class Assert extends Command {
 		// Ciò causa la stampa di un warning dovuto al 
 		// ClassType.mk(where.getDefiningClass() + "Test")
 		// poichè tale classe non è presente
-		FieldSignature posAsserts = new FieldSignature(ClassType.mk(where.getDefiningClass() + "Test"), stringClass, "posAsserts", new FieldDeclaration(0,
-				new ClassTypeExpression(0, "String"), "posAsserts", null));
+		FieldSignature posAsserts = new FieldSignature(ClassType.mk(where.getDefiningClass() + "Test"), stringClass, Symbol.of("posAsserts"), new FieldDeclaration(0,
+				new ClassTypeExpression(0, "String"), Symbol.of("posAsserts"), null));
 
 		// i vari bytecode da porre davanti alla continuation nel caso di fallimento
 		Bytecode getfield = new GETSTATIC(posAsserts);
 		Bytecode newstring = new NEWSTRING(", " + position);
-		Bytecode concat = new VIRTUALCALL(stringClass, stringClass.methodLookup("concat", TypeList.EMPTY.push(stringClass)));
+		Bytecode concat = new VIRTUALCALL(stringClass, stringClass.methodLookup(Symbol.of("concat"), TypeList.EMPTY.push(stringClass)));
 		Bytecode putfield = new PUTSTATIC(posAsserts);
 
 		// if there is an initialising expression, we translate it
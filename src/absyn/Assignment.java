@@ -81,6 +81,18 @@ public class Assignment extends Command {
     	linkToNode("rvalue", rvalue.toDot(where), where);
     }
 
+    /**
+     * Shifts the positions of {@link #lvalue} and {@link #rvalue}.
+     *
+     * @param delta the number of characters added before them
+     */
+
+    @Override
+    protected void shiftAux(int delta) {
+    	lvalue.shift(delta);
+    	rvalue.shift(delta);
+    }
+
     /**
      * Performs the type-checking of this assignment by using a given
      * type-checker. Namely, it type-checks both sides of the assignment
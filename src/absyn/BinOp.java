@@ -78,6 +78,18 @@ public abstract class BinOp extends Expression {
 		linkToNode("right", right.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #left} and {@link #right}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		left.shift(delta);
+		right.shift(delta);
+	}
+
 	/**
 	 * Translates this expression into its intermediate Kitten code.
 	 * The result is a piece of code which pushes onto the stack
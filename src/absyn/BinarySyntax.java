@@ -0,0 +1,967 @@
+package absyn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import symbol.Symbol;
+
+/**
+ * A compact binary serialisation of the abstract syntax of a class. Each node
+ * is written as a byte for its kind, followed by its position in the source
+ * file, by its identifiers and literals, if any, and then by its children,
+ * with the subsequent element of a sequence as last child. The class members
+ * are written in order, followed by a {@code NULL} kind. The body of each
+ * constructor, method, test and fixture is preceded by its length in bytes,
+ * so that it can be skipped, and is kept in a {@link CompactSyntax} rather
+ * than built, if required.
+ * The identifiers, the names of the classes and the string literals are
+ * written only once, in a table that precedes the nodes, and are then
+ * referred to through their index in that table. Each position is written as
+ * its difference from the previous one, except that the positions after
+ * a body are written as a difference from the position before that body,
+ * so that the body can be read alone. Positions and indexes are written as
+ * variable-length integers, so that most of them take one or two bytes.
+ * <br><br>
+ * When read back, each node is built after its children. This is the order
+ * used by the syntactical analysers, hence the nodes get their identifiers
+ * in the same order as if the class had been parsed. Deferred bodies cannot
+ * be serialised.
+ */
+
+public final class BinarySyntax {
+
+	// the kinds of nodes
+
+	private final static int NULL = 0;
+	private final static int FIELD = 1;
+	private final static int CONSTRUCTOR = 2;
+	private final static int METHOD = 3;
+	private final static int TEST = 4;
+	private final static int FIXTURE = 5;
+	private final static int FORMALS = 6;
+	private final static int BOOLEAN_TYPE = 7;
+	private final static int INT_TYPE = 8;
+	private final static int FLOAT_TYPE = 9;
+	private final static int VOID_TYPE = 10;
+	private final static int CLASS_TYPE = 11;
+	private final static int ARRAY_TYPE = 12;
+	private final static int ASSIGNMENT = 13;
+	private final static int LOCAL_DECLARATION = 14;
+	private final static int RETURN = 15;
+	private final static int IF_THEN_ELSE = 16;
+	private final static int WHILE = 17;
+	private final static int FOR = 18;
+	private final static int LOCAL_SCOPE = 19;
+	private final static int SKIP = 20;
+	private final static int METHOD_CALL_COMMAND = 21;
+	private final static int ASSERT = 22;
+	private final static int COMMAND_SEQ = 23;
+	private final static int EXPRESSION_SEQ = 24;
+	private final static int VARIABLE = 25;
+	private final static int FIELD_ACCESS = 26;
+	private final static int ARRAY_ACCESS = 27;
+	private final static int TRUE = 28;
+	private final static int FALSE = 29;
+	private final static int INT = 30;
+	private final static int FLOAT = 31;
+	private final static int STRING = 32;
+	private final static int NIL = 33;
+	private final static int NEW_OBJECT = 34;
+	private final static int NEW_ARRAY = 35;
+	private final static int CAST = 36;
+	private final static int MINUS = 37;
+	private final static int NOT = 38;
+	private final static int METHOD_CALL_EXPRESSION = 39;
+	private final static int ADDITION = 40;
+	private final static int SUBTRACTION = 41;
+	private final static int MULTIPLICATION = 42;
+	private final static int DIVISION = 43;
+	private final static int AND = 44;
+	private final static int OR = 45;
+	private final static int EQUAL = 46;
+	private final static int NOT_EQUAL = 47;
+	private final static int LESS_THAN = 48;
+	private final static int LESS_THAN_OR_EQUAL = 49;
+	private final static int GREATER_THAN = 50;
+	private final static int GREATER_THAN_OR_EQUAL = 51;
+
+	/**
+	 * The kind of each class of nodes that can be serialised.
+	 */
+
+	private final static Map<Class<? extends Absyn>, Integer> KINDS = new HashMap<>();
+
+	static {
+		KINDS.put(FieldDeclaration.class, FIELD);
+		KINDS.put(ConstructorDeclaration.class, CONSTRUCTOR);
+		KINDS.put(MethodDeclaration.class, METHOD);
+		KINDS.put(TestDeclaration.class, TEST);
+		KINDS.put(FixtureDeclaration.class, FIXTURE);
+		KINDS.put(FormalParameters.class, FORMALS);
+		KINDS.put(BooleanTypeExpression.class, BOOLEAN_TYPE);
+		KINDS.put(IntTypeExpression.class, INT_TYPE);
+		KINDS.put(FloatTypeExpression.class, FLOAT_TYPE);
+		KINDS.put(VoidTypeExpression.class, VOID_TYPE);
+		KINDS.put(ClassTypeExpression.class, CLASS_TYPE);
+		KINDS.put(ArrayTypeExpression.class, ARRAY_TYPE);
+		KINDS.put(Assignment.class, ASSIGNMENT);
+		KINDS.put(LocalDeclaration.class, LOCAL_DECLARATION);
+		KINDS.put(Return.class, RETURN);
+		KINDS.put(IfThenElse.class, IF_THEN_ELSE);
+		KINDS.put(While.class, WHILE);
+		KINDS.put(For.class, FOR);
+		KINDS.put(LocalScope.class, LOCAL_SCOPE);
+		KINDS.put(Skip.class, SKIP);
+		KINDS.put(MethodCallCommand.class, METHOD_CALL_COMMAND);
+		KINDS.put(Assert.class, ASSERT);
+		KINDS.put(CommandSeq.class, COMMAND_SEQ);
+		KINDS.put(ExpressionSeq.class, EXPRESSION_SEQ);
+		KINDS.put(Variable.class, VARIABLE);
+		KINDS.put(FieldAccess.class, FIELD_ACCESS);
+		KINDS.put(ArrayAccess.class, ARRAY_ACCESS);
+		KINDS.put(True.class, TRUE);
+		KINDS.put(False.class, FALSE);
+		KINDS.put(IntLiteral.class, INT);
+		KINDS.put(FloatLiteral.class, FLOAT);
+		KINDS.put(StringLiteral.class, STRING);
+		KINDS.put(Nil.class, NIL);
+		KINDS.put(NewObject.class, NEW_OBJECT);
+		KINDS.put(NewArray.class, NEW_ARRAY);
+		KINDS.put(Cast.class, CAST);
+		KINDS.put(Minus.class, MINUS);
+		KINDS.put(Not.class, NOT);
+		KINDS.put(MethodCallExpression.class, METHOD_CALL_EXPRESSION);
+		KINDS.put(Addition.class, ADDITION);
+		KINDS.put(Subtraction.class, SUBTRACTION);
+		KINDS.put(Multiplication.class, MULTIPLICATION);
+		KINDS.put(Division.class, DIVISION);
+		KINDS.put(And.class, AND);
+		KINDS.put(Or.class, OR);
+		KINDS.put(Equal.class, EQUAL);
+		KINDS.put(NotEqual.class, NOT_EQUAL);
+		KINDS.put(LessThan.class, LESS_THAN);
+		KINDS.put(LessThanOrEqual.class, LESS_THAN_OR_EQUAL);
+		KINDS.put(GreaterThan.class, GREATER_THAN);
+		KINDS.put(GreaterThanOrEqual.class, GREATER_THAN_OR_EQUAL);
+	}
+
+	private BinarySyntax() {}
+
+	/**
+	 * Serialises the abstract syntax of a class.
+	 *
+	 * @param clazz the abstract syntax of the class
+	 * @return the serialised abstract syntax
+	 * @throws IllegalArgumentException if the abstract syntax contains a deferred body
+	 */
+
+	public static byte[] of(ClassDefinition clazz) {
+		Writer nodes = new Writer();
+		Writer result = new Writer();
+
+		try {
+			nodes.writePos(clazz.getPos());
+			nodes.writeString(clazz.getName());
+			nodes.writeString(clazz.getSuperclassName());
+			nodes.writeMembers(clazz.getDeclarations());
+
+			// the table of the strings precedes the nodes that refer to it
+			result.writeInt(nodes.strings.size());
+			for (String s: nodes.strings.keySet()) {
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				result.writeInt(bytes.length);
+				result.out.write(bytes);
+			}
+
+			nodes.bytes.writeTo(result.out);
+		}
+		catch (IOException e) {
+			// impossible for an in-memory stream
+			throw new IllegalStateException(e);
+		}
+
+		return result.bytes.toByteArray();
+	}
+
+	/**
+	 * Rebuilds the abstract syntax of a class from the given buffer.
+	 *
+	 * @param buffer the buffer, holding the serialised abstract syntax
+	 *               from its current position
+	 * @return the abstract syntax of the class
+	 * @throws IOException if the buffer does not contain a valid serialisation
+	 */
+
+	public static ClassDefinition read(ByteBuffer buffer) throws IOException {
+		return read(buffer, false);
+	}
+
+	/**
+	 * Rebuilds the abstract syntax of a class from the given buffer. The bodies
+	 * of its constructors, methods, tests and fixtures can be kept in compact form,
+	 * as {@link CompactBody}s, and built only when they are needed.
+	 *
+	 * @param buffer the buffer, holding the serialised abstract syntax
+	 *               from its current position
+	 * @param compact true if the bodies must be kept in compact form
+	 * @return the abstract syntax of the class
+	 * @throws IOException if the buffer does not contain a valid serialisation
+	 */
+
+	public static ClassDefinition read(ByteBuffer buffer, boolean compact) throws IOException {
+		try {
+			return new Reader(buffer, compact).readClass();
+		}
+		catch (RuntimeException e) {
+			// the buffer is truncated or otherwise corrupted
+			throw new IOException("Corrupted abstract syntax", e);
+		}
+	}
+
+	/**
+	 * Builds a body kept in compact form.
+	 *
+	 * @param store the store of the body
+	 * @param index the index of the body inside {@code store}
+	 * @return the abstract syntax of the body
+	 */
+
+	static Command readBody(CompactSyntax store, int index) {
+		return (Command) new Reader(store, index).readNode();
+	}
+
+	/**
+	 * The serialisation of a tree of abstract syntax.
+	 */
+
+	private static class Writer {
+
+		/**
+		 * The bytes written so far.
+		 */
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		/**
+		 * The stream that writes into {@link #bytes}.
+		 */
+
+		private final DataOutputStream out = new DataOutputStream(bytes);
+
+		/**
+		 * The index of each string written so far, in order of first occurrence.
+		 */
+
+		private final Map<String, Integer> strings;
+
+		/**
+		 * The last position written so far.
+		 */
+
+		private int lastPos;
+
+		private Writer() {
+			this.strings = new LinkedHashMap<>();
+		}
+
+		/**
+		 * Builds a serialisation that shares the table of the strings of another.
+		 *
+		 * @param parent the other serialisation
+		 */
+
+		private Writer(Writer parent) {
+			this.strings = parent.strings;
+			this.lastPos = parent.lastPos;
+		}
+
+		/**
+		 * Writes a node and its children.
+		 *
+		 * @param node the node, possibly {@code null}
+		 * @throws IOException if the node cannot be written
+		 */
+
+		private void writeNode(Absyn node) throws IOException {
+			if (node == null) {
+				out.writeByte(NULL);
+				return;
+			}
+
+			Integer kind = KINDS.get(node.getClass());
+			if (kind == null)
+				throw new IllegalArgumentException("Cannot serialise " + node.getClass().getSimpleName());
+
+			out.writeByte(kind);
+			writePos(node.getPos());
+
+			switch (kind) {
+			case FIELD:
+				writeSymbol(((FieldDeclaration) node).getName());
+				writeNode(((FieldDeclaration) node).getType());
+				break;
+			case CONSTRUCTOR:
+				writeNode(((ConstructorDeclaration) node).getFormals());
+				writeBody(((ConstructorDeclaration) node).getBody());
+				break;
+			case METHOD:
+				writeSymbol(((MethodDeclaration) node).getName());
+				writeNode(((MethodDeclaration) node).getReturnType());
+				writeNode(((MethodDeclaration) node).getFormals());
+				writeBody(((MethodDeclaration) node).getBody());
+				break;
+			case TEST:
+				writeSymbol(((TestDeclaration) node).getName());
+				writeBody(((TestDeclaration) node).getBody());
+				break;
+			case FIXTURE:
+				writeBody(((FixtureDeclaration) node).getBody());
+				break;
+			case FORMALS:
+				writeSymbol(((FormalParameters) node).getName());
+				writeNode(((FormalParameters) node).getType());
+				writeNode(((FormalParameters) node).getNext());
+				break;
+			case CLASS_TYPE:
+				writeString(((ClassTypeExpression) node).getName());
+				break;
+			case ARRAY_TYPE:
+				writeNode(((ArrayTypeExpression) node).getElementsType());
+				break;
+			case ASSIGNMENT:
+				writeNode(((Assignment) node).getLvalue());
+				writeNode(((Assignment) node).getRvalue());
+				break;
+			case LOCAL_DECLARATION:
+				writeSymbol(((LocalDeclaration) node).getName());
+				writeNode(((LocalDeclaration) node).getType());
+				writeNode(((LocalDeclaration) node).getInitialiser());
+				break;
+			case RETURN:
+				writeNode(((Return) node).getReturned());
+				break;
+			case IF_THEN_ELSE:
+				writeNode(((IfThenElse) node).getCondition());
+				writeNode(((IfThenElse) node).getThen());
+				writeNode(((IfThenElse) node).getElse());
+				break;
+			case WHILE:
+				writeNode(((While) node).getCondition());
+				writeNode(((While) node).getBody());
+				break;
+			case FOR:
+				writeNode(((For) node).getInitialisation());
+				writeNode(((For) node).getCondition());
+				writeNode(((For) node).getUpdate());
+				writeNode(((For) node).getBody());
+				break;
+			case LOCAL_SCOPE:
+				writeNode(((LocalScope) node).getBody());
+				break;
+			case METHOD_CALL_COMMAND:
+				writeSymbol(((MethodCallCommand) node).getName());
+				writeNode(((MethodCallCommand) node).getReceiver());
+				writeNode(((MethodCallCommand) node).getActuals());
+				break;
+			case ASSERT:
+				writeNode(((Assert) node).getCondition());
+				break;
+			case COMMAND_SEQ:
+				writeNode(((CommandSeq) node).getFirst());
+				writeNode(((CommandSeq) node).getSecond());
+				break;
+			case EXPRESSION_SEQ:
+				writeNode(((ExpressionSeq) node).getHead());
+				writeNode(((ExpressionSeq) node).getTail());
+				break;
+			case VARIABLE:
+				writeSymbol(((Variable) node).getName());
+				break;
+			case FIELD_ACCESS:
+				writeSymbol(((FieldAccess) node).getName());
+				writeNode(((FieldAccess) node).getReceiver());
+				break;
+			case ARRAY_ACCESS:
+				writeNode(((ArrayAccess) node).getArray());
+				writeNode(((ArrayAccess) node).getIndex());
+				break;
+			case INT:
+				writeInt(((IntLiteral) node).getValue());
+				break;
+			case FLOAT:
+				out.writeFloat(((FloatLiteral) node).getValue());
+				break;
+			case STRING:
+				writeString(((StringLiteral) node).getValue());
+				break;
+			case NEW_OBJECT:
+				writeString(((NewObject) node).getClassName());
+				writeNode(((NewObject) node).getActuals());
+				break;
+			case NEW_ARRAY:
+				writeNode(((NewArray) node).getElementsType());
+				writeNode(((NewArray) node).getSize());
+				break;
+			case CAST:
+				// the expression comes before the type in the concrete syntax
+				writeNode(((Cast) node).getExpression());
+				writeNode(((Cast) node).getType());
+				break;
+			case MINUS:
+				writeNode(((Minus) node).getExpression());
+				break;
+			case NOT:
+				writeNode(((Not) node).getExpression());
+				break;
+			case METHOD_CALL_EXPRESSION:
+				writeSymbol(((MethodCallExpression) node).getName());
+				writeNode(((MethodCallExpression) node).getReceiver());
+				writeNode(((MethodCallExpression) node).getActuals());
+				break;
+			case ADDITION:
+			case SUBTRACTION:
+			case MULTIPLICATION:
+			case DIVISION:
+			case AND:
+			case OR:
+			case EQUAL:
+			case NOT_EQUAL:
+			case LESS_THAN:
+			case LESS_THAN_OR_EQUAL:
+			case GREATER_THAN:
+			case GREATER_THAN_OR_EQUAL:
+				writeNode(((BinOp) node).getLeft());
+				writeNode(((BinOp) node).getRight());
+				break;
+			}
+		}
+
+		/**
+		 * Writes the body of a constructor, method, test or fixture,
+		 * preceded by its length. The positions after the body are written
+		 * as if the body were not there.
+		 *
+		 * @param body the body
+		 * @throws IOException if the body cannot be written
+		 */
+
+		private void writeBody(Command body) throws IOException {
+			Writer nested = new Writer(this);
+			nested.writeNode(body);
+
+			writeInt(nested.bytes.size());
+			nested.bytes.writeTo(out);
+		}
+
+		/**
+		 * Writes a sequence of class members, followed by a {@code NULL} kind.
+		 * The sequence is scanned iteratively, since it can be very long.
+		 *
+		 * @param first the first class member of the sequence, possibly {@code null}
+		 * @throws IOException if the class members cannot be written
+		 */
+
+		private void writeMembers(ClassMemberDeclaration first) throws IOException {
+			for (ClassMemberDeclaration member = first; member != null; member = member.getNext())
+				writeNode(member);
+
+			out.writeByte(NULL);
+		}
+
+		/**
+		 * Writes a position as its difference from the last position written,
+		 * so that it is small, positive or negative, in most cases.
+		 *
+		 * @param pos the position
+		 * @throws IOException if the position cannot be written
+		 */
+
+		private void writePos(int pos) throws IOException {
+			int delta = pos - lastPos;
+			lastPos = pos;
+
+			// the sign goes into the lowest bit
+			writeInt((delta << 1) ^ (delta >> 31));
+		}
+
+		/**
+		 * Writes a symbol through its index in the table of the strings.
+		 *
+		 * @param symbol the symbol
+		 * @throws IOException if the symbol cannot be written
+		 */
+
+		private void writeSymbol(Symbol symbol) throws IOException {
+			writeString(symbol.toString());
+		}
+
+		/**
+		 * Writes a string through its index in the table of the strings.
+		 *
+		 * @param s the string
+		 * @throws IOException if the string cannot be written
+		 */
+
+		private void writeString(String s) throws IOException {
+			Integer index = strings.get(s);
+			if (index == null)
+				strings.put(s, index = strings.size());
+
+			writeInt(index);
+		}
+
+		/**
+		 * Writes an integer in 7-bit groups, from the least significant,
+		 * where the highest bit of each byte tells if another group follows.
+		 *
+		 * @param value the integer
+		 * @throws IOException if the integer cannot be written
+		 */
+
+		private void writeInt(int value) throws IOException {
+			for (; (value & ~0x7f) != 0; value >>>= 7)
+				out.writeByte((value & 0x7f) | 0x80);
+
+			out.writeByte(value);
+		}
+	}
+
+	/**
+	 * The reconstruction of a tree of abstract syntax from its serialisation.
+	 */
+
+	private static class Reader {
+
+		/**
+		 * The buffer holding the serialisation.
+		 */
+
+		private final ByteBuffer buffer;
+
+		/**
+		 * The table of the strings.
+		 */
+
+		private final String[] strings;
+
+		/**
+		 * The symbols of the strings in {@link #strings}, built when first needed.
+		 */
+
+		private final Symbol[] symbols;
+
+		/**
+		 * The last position read so far.
+		 */
+
+		private int lastPos;
+
+		/**
+		 * The store where the bodies are kept in compact form, or {@code null}
+		 * if they must be built.
+		 */
+
+		private final CompactSyntax store;
+
+		/**
+		 * Builds a reconstruction from the given buffer.
+		 *
+		 * @param buffer the buffer, starting with the table of the strings
+		 * @param compact true if the bodies must be kept in compact form
+		 */
+
+		private Reader(ByteBuffer buffer, boolean compact) {
+			String[] strings = new String[readInt(buffer)];
+			for (int pos = 0; pos < strings.length; pos++) {
+				byte[] bytes = new byte[readInt(buffer)];
+				buffer.get(bytes);
+				strings[pos] = new String(bytes, StandardCharsets.UTF_8);
+			}
+
+			this.strings = strings;
+			this.symbols = new Symbol[strings.length];
+
+			if (compact) {
+				// the nodes are copied, since the buffer might be memory-mapped
+				byte[] code = new byte[buffer.remaining()];
+				buffer.get(code);
+				this.buffer = ByteBuffer.wrap(code);
+				this.store = new CompactSyntax(code, strings, symbols);
+			}
+			else {
+				this.buffer = buffer;
+				this.store = null;
+			}
+		}
+
+		/**
+		 * Builds a reconstruction of a body kept in compact form.
+		 *
+		 * @param store the store of the body
+		 * @param index the index of the body inside {@code store}
+		 */
+
+		private Reader(CompactSyntax store, int index) {
+			this.buffer = ByteBuffer.wrap(store.getCode());
+			this.strings = store.getStrings();
+			this.symbols = store.getSymbols();
+			this.store = null;
+
+			buffer.position(store.getOffset(index));
+			this.lastPos = store.getBase(index);
+		}
+
+		/**
+		 * Reads the definition of the class.
+		 *
+		 * @return the abstract syntax of the class
+		 */
+
+		private ClassDefinition readClass() {
+			int pos = readPos();
+			String name = readString();
+			String superclassName = readString();
+
+			return new ClassDefinition(pos, name, superclassName, readMembers());
+		}
+
+		/**
+		 * Reads a sequence of class members, up to a {@code NULL} kind.
+		 * The sequence is read iteratively, since it can be very long. The components
+		 * of the class members are built in order and then the class members
+		 * are built from the last, as the syntactical analysers do.
+		 *
+		 * @return the first class member of the sequence, possibly {@code null}
+		 */
+
+		private ClassMemberDeclaration readMembers() {
+			List<Member> members = new ArrayList<>();
+			for (int kind; (kind = buffer.get()) != NULL; ) {
+				Member member = new Member(kind, readPos());
+				members.add(member);
+
+				switch (kind) {
+				case FIELD:
+					member.name = readSymbol();
+					member.type = (TypeExpression) readNode();
+					break;
+				case CONSTRUCTOR:
+					member.formals = (FormalParameters) readNode();
+					member.body = readBody();
+					break;
+				case METHOD:
+					member.name = readSymbol();
+					member.type = (TypeExpression) readNode();
+					member.formals = (FormalParameters) readNode();
+					member.body = readBody();
+					break;
+				case TEST:
+					member.name = readSymbol();
+					member.body = readBody();
+					break;
+				case FIXTURE:
+					member.body = readBody();
+					break;
+				default:
+					throw new IllegalStateException("Unknown kind of class member " + kind);
+				}
+			}
+
+			ClassMemberDeclaration result = null;
+			for (int pos = members.size() - 1; pos >= 0; pos--)
+				result = members.get(pos).build(result);
+
+			return result;
+		}
+
+		/**
+		 * Reads the body of a constructor, method, test or fixture, preceded
+		 * by its length. It is kept in compact form, if required.
+		 *
+		 * @return the body
+		 */
+
+		private Command readBody() {
+			int length = readInt(), start = buffer.position(), base = lastPos;
+			Command body;
+
+			if (store != null) {
+				// we only read the position of the body
+				buffer.get();
+				body = new CompactBody(readPos(), store, store.add(start, base));
+			}
+			else
+				body = (Command) readNode();
+
+			// the positions after the body are written as if the body were not there
+			buffer.position(start + length);
+			lastPos = base;
+
+			return body;
+		}
+
+		/**
+		 * Reads a node and its children. The children are built first.
+		 *
+		 * @return the node, possibly {@code null}
+		 */
+
+		private Absyn readNode() {
+			int kind = buffer.get();
+			if (kind == NULL)
+				return null;
+
+			int pos = readPos();
+			Symbol name;
+
+			switch (kind) {
+			case FORMALS:
+				name = readSymbol();
+				return new FormalParameters(pos, (TypeExpression) readNode(), name, (FormalParameters) readNode());
+			case BOOLEAN_TYPE:
+				return new BooleanTypeExpression(pos);
+			case INT_TYPE:
+				return new IntTypeExpression(pos);
+			case FLOAT_TYPE:
+				return new FloatTypeExpression(pos);
+			case VOID_TYPE:
+				return new VoidTypeExpression(pos);
+			case CLASS_TYPE:
+				return new ClassTypeExpression(pos, readString());
+			case ARRAY_TYPE:
+				return new ArrayTypeExpression(pos, (TypeExpression) readNode());
+			case ASSIGNMENT:
+				return new Assignment(pos, (Lvalue) readNode(), (Expression) readNode());
+			case LOCAL_DECLARATION:
+				name = readSymbol();
+				return new LocalDeclaration(pos, (TypeExpression) readNode(), name, (Expression) readNode());
+			case RETURN:
+				return new Return(pos, (Expression) readNode());
+			case IF_THEN_ELSE:
+				return new IfThenElse(pos, (Expression) readNode(), (Command) readNode(), (Command) readNode());
+			case WHILE:
+				return new While(pos, (Expression) readNode(), (Command) readNode());
+			case FOR:
+				return new For(pos, (Command) readNode(), (Expression) readNode(), (Command) readNode(), (Command) readNode());
+			case LOCAL_SCOPE:
+				return new LocalScope(pos, (Command) readNode());
+			case SKIP:
+				return new Skip(pos);
+			case METHOD_CALL_COMMAND:
+				name = readSymbol();
+				return new MethodCallCommand(pos, (Expression) readNode(), name, (ExpressionSeq) readNode());
+			case ASSERT:
+				return new Assert(pos, (Expression) readNode());
+			case COMMAND_SEQ:
+				return new CommandSeq(pos, (Command) readNode(), (Command) readNode());
+			case EXPRESSION_SEQ:
+				return new ExpressionSeq(pos, (Expression) readNode(), (ExpressionSeq) readNode());
+			case VARIABLE:
+				return new Variable(pos, readSymbol());
+			case FIELD_ACCESS:
+				name = readSymbol();
+				return new FieldAccess(pos, (Expression) readNode(), name);
+			case ARRAY_ACCESS:
+				return new ArrayAccess(pos, (Expression) readNode(), (Expression) readNode());
+			case TRUE:
+				return new True(pos);
+			case FALSE:
+				return new False(pos);
+			case INT:
+				return new IntLiteral(pos, readInt());
+			case FLOAT:
+				return new FloatLiteral(pos, buffer.getFloat());
+			case STRING:
+				return new StringLiteral(pos, readString());
+			case NIL:
+				return new Nil(pos);
+			case NEW_OBJECT: {
+				String className = readString();
+				return new NewObject(pos, className, (ExpressionSeq) readNode());
+			}
+			case NEW_ARRAY:
+				return new NewArray(pos, (TypeExpression) readNode(), (Expression) readNode());
+			case CAST: {
+				Expression expression = (Expression) readNode();
+				return new Cast(pos, (TypeExpression) readNode(), expression);
+			}
+			case MINUS:
+				return new Minus(pos, (Expression) readNode());
+			case NOT:
+				return new Not(pos, (Expression) readNode());
+			case METHOD_CALL_EXPRESSION:
+				name = readSymbol();
+				return new MethodCallExpression(pos, (Expression) readNode(), name, (ExpressionSeq) readNode());
+			case ADDITION:
+				return new Addition(pos, (Expression) readNode(), (Expression) readNode());
+			case SUBTRACTION:
+				return new Subtraction(pos, (Expression) readNode(), (Expression) readNode());
+			case MULTIPLICATION:
+				return new Multiplication(pos, (Expression) readNode(), (Expression) readNode());
+			case DIVISION:
+				return new Division(pos, (Expression) readNode(), (Expression) readNode());
+			case AND:
+				return new And(pos, (Expression) readNode(), (Expression) readNode());
+			case OR:
+				return new Or(pos, (Expression) readNode(), (Expression) readNode());
+			case EQUAL:
+				return new Equal(pos, (Expression) readNode(), (Expression) readNode());
+			case NOT_EQUAL:
+				return new NotEqual(pos, (Expression) readNode(), (Expression) readNode());
+			case LESS_THAN:
+				return new LessThan(pos, (Expression) readNode(), (Expression) readNode());
+			case LESS_THAN_OR_EQUAL:
+				return new LessThanOrEqual(pos, (Expression) readNode(), (Expression) readNode());
+			case GREATER_THAN:
+				return new GreaterThan(pos, (Expression) readNode(), (Expression) readNode());
+			case GREATER_THAN_OR_EQUAL:
+				return new GreaterThanOrEqual(pos, (Expression) readNode(), (Expression) readNode());
+			default:
+				throw new IllegalStateException("Unknown kind of node " + kind);
+			}
+		}
+
+		/**
+		 * Reads a position, written as its difference from the last position read.
+		 *
+		 * @return the position
+		 */
+
+		private int readPos() {
+			int delta = readInt();
+
+			return lastPos += (delta >>> 1) ^ -(delta & 1);
+		}
+
+		/**
+		 * Reads a symbol, written through its index in the table of the strings.
+		 *
+		 * @return the symbol
+		 */
+
+		private Symbol readSymbol() {
+			int index = readInt();
+			Symbol result = symbols[index];
+			if (result == null)
+				result = symbols[index] = Symbol.of(strings[index]);
+
+			return result;
+		}
+
+		/**
+		 * Reads a string, written through its index in the table of the strings.
+		 *
+		 * @return the string
+		 */
+
+		private String readString() {
+			return strings[readInt()];
+		}
+
+		/**
+		 * Reads an integer written in 7-bit groups.
+		 *
+		 * @return the integer
+		 */
+
+		private int readInt() {
+			return readInt(buffer);
+		}
+
+		/**
+		 * Reads an integer written in 7-bit groups.
+		 *
+		 * @param buffer the buffer holding the integer
+		 * @return the integer
+		 */
+
+		private static int readInt(ByteBuffer buffer) {
+			int result = 0;
+			for (int shift = 0; ; shift += 7) {
+				byte b = buffer.get();
+				result |= (b & 0x7f) << shift;
+				if (b >= 0)
+					return result;
+			}
+		}
+	}
+
+	/**
+	 * The components of a class member that has been read,
+	 * but whose node has not been built yet.
+	 */
+
+	private static class Member {
+
+		/**
+		 * The kind of the class member.
+		 */
+
+		private final int kind;
+
+		/**
+		 * The position of the class member.
+		 */
+
+		private final int pos;
+
+		/**
+		 * The name of the field, method or test, if any.
+		 */
+
+		private Symbol name;
+
+		/**
+		 * The type of the field or the return type of the method, if any.
+		 */
+
+		private TypeExpression type;
+
+		/**
+		 * The formal parameters of the constructor or method, if any.
+		 */
+
+		private FormalParameters formals;
+
+		/**
+		 * The body of the constructor, method, test or fixture, if any.
+		 */
+
+		private Command body;
+
+		private Member(int kind, int pos) {
+			this.kind = kind;
+			this.pos = pos;
+		}
+
+		/**
+		 * Builds the node of this class member.
+		 *
+		 * @param next the subsequent class member, if any
+		 * @return the node
+		 */
+
+		private ClassMemberDeclaration build(ClassMemberDeclaration next) {
+			switch (kind) {
+			case FIELD:
+				return new FieldDeclaration(pos, type, name, next);
+			case CONSTRUCTOR:
+				return new ConstructorDeclaration(pos, formals, body, next);
+			case METHOD:
+				return new MethodDeclaration(pos, type, name, formals, body, next);
+			case TEST:
+				return new TestDeclaration(pos, name, body, next);
+			default:
+				return new FixtureDeclaration(pos, body, next);
+			}
+		}
+	}
+}
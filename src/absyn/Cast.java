@@ -81,6 +81,18 @@ public class Cast extends Expression {
     	linkToNode("expression", expression.toDot(where), where);
     }
 
+    /**
+     * Shifts the positions of {@link #expression} and {@link #type}.
+     *
+     * @param delta the number of characters added before them
+     */
+
+    @Override
+    protected void shiftAux(int delta) {
+    	expression.shift(delta);
+    	type.shift(delta);
+    }
+
     /**
      * Performs the type-checking of the cast expression
      * by using a given type-checker. It type-checks the type and the
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 
+import symbol.Symbol;
 import translation.Program;
 import types.ClassMemberSignature;
 import types.ClassType;
@@ -37,7 +38,7 @@ public class ClassDefinition extends Absyn {
 	 * {@code null}.
 	 */
 
-	private final ClassMemberDeclaration declarations;
+	private ClassMemberDeclaration declarations;
 
 	/**
 	 * The class type of this class definition. This is {@code null} if
@@ -105,6 +106,46 @@ public class ClassDefinition extends Absyn {
 		return declarations;
 	}
 
+	/**
+	 * Replaces a run of consecutive declarations of class members with
+	 * another, as it happens when their source code has been edited and
+	 * parsed again. The declarations after the run are kept, but their
+	 * positions are shifted by the difference in length of the edited source code.
+	 *
+	 * @param first the first declaration to replace, that must belong to this class definition
+	 * @param last the last declaration to replace, that must be {@code first}
+	 *             or follow it in this class definition
+	 * @param replacement the new declarations, possibly {@code null}
+	 * @param delta the number of characters added to the source code of the run
+	 *              (negative if characters have been removed)
+	 */
+
+	public void replace(ClassMemberDeclaration first, ClassMemberDeclaration last, ClassMemberDeclaration replacement, int delta) {
+		ClassMemberDeclaration next = last.getNext(), link = next;
+
+		if (replacement != null) {
+			ClassMemberDeclaration end = replacement;
+			while (end.getNext() != null)
+				end = end.getNext();
+
+			end.setNext(next);
+			link = replacement;
+		}
+
+		if (declarations == first)
+			declarations = link;
+		else {
+			ClassMemberDeclaration previous = declarations;
+			while (previous.getNext() != first)
+				previous = previous.getNext();
+
+			previous.setNext(link);
+		}
+
+		for (; next != null; next = next.getNext())
+			next.shift(delta);
+	}
+
 	/**
 	 * Yields the static type of this class definition.
 	 *
@@ -212,7 +253,7 @@ public class ClassDefinition extends Absyn {
 		Set<ClassMemberSignature> done = new HashSet<>();
 
 		// we look up for the main method, if any
-		MethodSignature main = staticType.methodLookup("main", TypeList.EMPTY);
+		MethodSignature main = staticType.methodLookup(Symbol.MAIN, TypeList.EMPTY);
 		
 		// we look up for fixtures and tests if any
 		/*Set<FixtureSignature> fixtures = staticType.fixtureLookup();
@@ -220,7 +261,7 @@ public class ClassDefinition extends Absyn {
 		
 		// we translate everything that is reachable from the main method of
 		// this class (if any)
-		if (main != null)
+		if (main != null && main.getAbstractSyntax() != null)
 			main.getAbstractSyntax().translate(done);
 		
 		// we translate everything that is reachable from the tests and fixtures method of
@@ -19,7 +19,7 @@ public abstract class ClassMemberDeclaration extends Absyn {
 	 * The declaration of the subsequent class member. This might be {@code null}.
 	 */
 
-	private final ClassMemberDeclaration next;
+	private ClassMemberDeclaration next;
 
 	/**
 	 * Constructs a node of abstract syntax representing a class
@@ -40,6 +40,27 @@ public abstract class ClassMemberDeclaration extends Absyn {
 		this.next = next;
 	}
 
+	/**
+	 * Yields the abstract syntax of the declaration of the subsequent class member, if any.
+	 *
+	 * @return the abstract syntax of the declaration of the subsequent class member, if any
+	 */
+
+	public ClassMemberDeclaration getNext() {
+		return next;
+	}
+
+	/**
+	 * Links this class member declaration to a subsequent one.
+	 *
+	 * @param next the abstract syntax of the declaration of the
+	 *             subsequent class member, if any
+	 */
+
+	void setNext(ClassMemberDeclaration next) {
+		this.next = next;
+	}
+
 	/**
 	 * Yields the signature of this class member declaration.
 	 *
@@ -114,22 +135,47 @@ public abstract class ClassMemberDeclaration extends Absyn {
 	protected abstract void addTo(ClassType clazz);
 
 	/**
-	 * Type-checks this definition of a class member. It calls the auxiliary
-	 * {@link #typeCheckAux(ClassType)} method and then continues recursively with
-	 * the subsequent members.
+	 * Type-checks this definition of a class member, through
+	 * {@link #typeCheckMember(ClassType)}, and then continues
+	 * recursively with the subsequent members.
 	 *
 	 * @param currentClass the semantical type of the class where this member occurs.
 	 *                     This will be bound to the implicit {@code this} parameter
 	 */
 
 	public final void typeCheck(ClassType currentClass) {
-		typeCheckAux(currentClass);
+		typeCheckMember(currentClass);
 
 		// if there is another declaration, we type-check it
 		if (next != null)
 			next.typeCheck(currentClass);
 	}
 
+	/**
+	 * Type-checks this class member when its class is type-checked.
+	 * By default, it calls the auxiliary {@link #typeCheckAux(ClassType)}
+	 * method, unless the type-checking of this member is deferred.
+	 *
+	 * @param currentClass the semantical type of the class where this member occurs.
+	 *                     This will be bound to the implicit {@code this} parameter
+	 */
+
+	protected void typeCheckMember(ClassType currentClass) {
+		if (!isTypeCheckDeferred())
+			typeCheckAux(currentClass);
+	}
+
+	/**
+	 * Determines if the type-checking of this class member must be deferred
+	 * until its code is translated. By default, it is not deferred.
+	 *
+	 * @return true if and only if the type-checking must be deferred
+	 */
+
+	protected boolean isTypeCheckDeferred() {
+		return false;
+	}
+
 	/**
 	 * Auxiliary method that type-checks this class member.
 	 *
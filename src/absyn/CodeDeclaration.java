@@ -3,6 +3,8 @@ package absyn;
 import java.util.HashSet;
 import java.util.Set;
 
+import metrics.Metrics;
+import metrics.Phase;
 import translation.Block;
 import types.ClassMemberSignature;
 import types.ClassType;
@@ -34,9 +36,20 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 	/**
 	 * The abstract syntax of the body of the constructor or method.
+	 * It is a {@link DeferredBody} until the body is parsed.
 	 */
 
-	private final Command body;
+	private Command body;
+
+	/**
+	 * True if the body has been deferred, that is, it is parsed and type-checked
+	 * only when its code is translated for the first time. It becomes false
+	 * once the body has been type-checked. A body kept in compact form is
+	 * also type-checked with its class, unless the bodies are processed lazily,
+	 * but it remains deferred, since its nodes are dropped after that.
+	 */
+
+	private boolean deferred;
 
 	/**
 	 * The signature of this constructor or method. This is {@code null} if this constructor or method has not been type-checked yet.
@@ -62,6 +75,7 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 		this.formals = formals;
 		this.body = body;
+		this.deferred = body instanceof DeferredBody;
 	}
 
 	/**
@@ -81,9 +95,28 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 	 */
 
 	public Command getBody() {
+		// a deferred body is parsed the first time it is needed
+		if (body instanceof DeferredBody)
+			body = ((DeferredBody) body).parse();
+
 		return body;
 	}
 
+	/**
+	 * Shifts the positions of {@link #formals} and {@link #body}.
+	 * A deferred body is not parsed for that.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		if (formals != null)
+			formals.shift(delta);
+
+		body.shift(delta);
+	}
+
 	/**
 	 * Specifies the code signature of this declaration.
 	 *
@@ -106,6 +139,62 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 		return sig;
 	}
 
+	/**
+	 * Determines if the type-checking of this constructor or method is deferred.
+	 * This is the case if its body has been deferred by the parser.
+	 *
+	 * @return true if and only if the type-checking is deferred
+	 */
+
+	@Override
+	protected boolean isTypeCheckDeferred() {
+		return deferred;
+	}
+
+	/**
+	 * Type-checks this constructor or method when its class is type-checked.
+	 * A body kept in compact form is type-checked now, as the bodies that are not
+	 * deferred, unless the bodies are processed lazily, so that its errors are
+	 * reported together with those of the other members. Its nodes are built for that
+	 * and then dropped again if the class contains no errors, so that they are built
+	 * and type-checked again when the code of the body is translated. Otherwise, the
+	 * nodes are kept and the body is not type-checked again, which would repeat its errors.
+	 *
+	 * @param clazz the semantical type of the class where this constructor or method occurs
+	 */
+
+	@Override
+	protected void typeCheckMember(ClassType clazz) {
+		if (deferred && body instanceof CompactBody && !clazz.getContext().isLazy()) {
+			CompactBody compact = (CompactBody) body;
+			typeCheckAux(clazz);
+
+			if (clazz.getErrorMsg().anyErrors())
+				deferred = false;
+			else {
+				compact.forget();
+				body = compact;
+			}
+		}
+		else
+			super.typeCheckMember(clazz);
+	}
+
+	/**
+	 * Type-checks this constructor or method, if its type-checking has been
+	 * deferred and not performed yet. It is called through {@link ClassType#typeCheck(CodeDeclaration)},
+	 * so that the classes referenced here are dependencies of the defining class.
+	 *
+	 * @param clazz the semantical type of the class where this constructor or method occurs
+	 */
+
+	public final void typeCheckDeferred(ClassType clazz) {
+		if (deferred) {
+			deferred = false;
+			typeCheckAux(clazz);
+		}
+	}
+
 	/**
 	 * Translates this constructor or method into intermediate Kitten code. This amounts to translating its body with a continuation containing a {@code return} bytecode. This way, if a method does not have an explicit {@code return} statement, it is
 	 * automatically put at its end.
@@ -116,19 +205,35 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 	public void translate(Set<ClassMemberSignature> done) {
 		if (done.add(sig)) {
-			// we translate the body of the constructor or
-			// method with a block containing RETURN as continuation. This way,
-			// all methods returning void and
-			// with some missing return command are correctly
-			// terminated anyway. If the method is not void, this
-			// precaution is useless since we know that every execution path
-			// ends with a return command, as guaranteed by
-			// checkForDeadCode() (see typeCheck() in MethodDeclaration.java)
-			sig.setCode(getBody().translate(sig, new Block(new RETURN(VoidType.INSTANCE))));
-
-			// we translate all methods and constructors that are referenced
-			// from the code we have generated
-			translateReferenced(sig.getCode(), done, new HashSet<Block>());
+			ClassType clazz = sig.getDefiningClass();
+
+			// a deferred body is type-checked when its code is reached for the first time.
+			// If the class contains errors, the program will not be compiled: we do not
+			// translate the body, which might not be fully typed
+			if (deferred && !clazz.typeCheck(this)) {
+				sig.setCode(new Block(new RETURN(VoidType.INSTANCE)));
+				return;
+			}
+
+			Metrics.Timer timer = clazz.getContext().getMetrics().start(Phase.TRANSLATE, clazz.getName());
+			try {
+				// we translate the body of the constructor or
+				// method with a block containing RETURN as continuation. This way,
+				// all methods returning void and
+				// with some missing return command are correctly
+				// terminated anyway. If the method is not void, this
+				// precaution is useless since we know that every execution path
+				// ends with a return command, as guaranteed by
+				// checkForDeadCode() (see typeCheck() in MethodDeclaration.java)
+				sig.setCode(getBody().translate(sig, new Block(new RETURN(VoidType.INSTANCE))));
+
+				// we translate all methods and constructors that are referenced
+				// from the code we have generated
+				translateReferenced(sig.getCode(), done, new HashSet<Block>());
+			}
+			finally {
+				timer.close();
+			}
 		}
 	}
 
@@ -162,7 +267,10 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 				process(((PUTFIELD) h).getField().getDefiningClass(), done);
 			} else if (h instanceof CALL)
 				for (CodeSignature callee : ((CALL) h).getDynamicTargets()) {
-					callee.getAbstractSyntax().translate(done);
+					// the classes loaded from their binary interface have been translated already
+					if (callee.getAbstractSyntax() != null)
+						callee.getAbstractSyntax().translate(done);
+
 					process(callee.getDefiningClass(), done);
 				}
 		}
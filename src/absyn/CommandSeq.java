@@ -43,6 +43,26 @@ public class CommandSeq extends Command {
 		this.second = second;
 	}
 
+	/**
+	 * Yields the abstract syntax of the first command in the sequence.
+	 *
+	 * @return the abstract syntax of the first command in the sequence
+	 */
+
+	public Command getFirst() {
+		return first;
+	}
+
+	/**
+	 * Yields the abstract syntax of the second command in the sequence.
+	 *
+	 * @return the abstract syntax of the second command in the sequence
+	 */
+
+	public Command getSecond() {
+		return second;
+	}
+
 	/**
 	 * Adds abstract syntax class-specific information in the dot file
 	 * representing the abstract syntax of a sequence of two commands.
@@ -58,6 +78,18 @@ public class CommandSeq extends Command {
 		linkToNode("second", second.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #first} and {@link #second}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		first.shift(delta);
+		second.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the sequence of two commands
 	 * by using a given type-checker. It type-checks the second command in
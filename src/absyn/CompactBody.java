@@ -0,0 +1,55 @@
+package absyn;
+
+/**
+ * A node of abstract syntax standing for the body of a constructor, method,
+ * test or fixture that is kept in a {@link CompactSyntax} and whose nodes
+ * have not been built yet. They are built when the body is needed, as for the
+ * bodies that have not been parsed yet.
+ */
+
+final class CompactBody extends DeferredBody {
+
+	/**
+	 * The store of this body.
+	 */
+
+	private final CompactSyntax store;
+
+	/**
+	 * The index of this body inside {@link #store}.
+	 */
+
+	private final int index;
+
+	/**
+	 * Constructs the abstract syntax of a body kept in compact form.
+	 *
+	 * @param pos the position in the source file where it starts
+	 *            the concrete syntax represented by this abstract syntax
+	 * @param store the store of the body
+	 * @param index the index of the body inside {@code store}
+	 */
+
+	CompactBody(int pos, CompactSyntax store, int index) {
+		super(pos);
+
+		this.store = store;
+		this.index = index;
+	}
+
+	/**
+	 * Builds the nodes of this body from its store.
+	 *
+	 * @return the abstract syntax of this body
+	 */
+
+	@Override
+	protected Command build() {
+		return BinarySyntax.readBody(store, index);
+	}
+
+	@Override
+	protected void shiftUnparsed(int delta) {
+		store.shift(index, delta);
+	}
+}
@@ -0,0 +1,151 @@
+package absyn;
+
+import java.util.Arrays;
+
+import symbol.Symbol;
+
+/**
+ * A compact store of the bodies of the constructors, methods, tests and
+ * fixtures of a class, that are built only when needed. The nodes of all
+ * bodies are kept in a single array of bytes, in the serialisation of
+ * {@link BinarySyntax}, where each node takes a few bytes rather than
+ * an object. The offset of each body inside that array and the position
+ * from which the positions of its nodes are computed are kept
+ * in parallel arrays of integers, indexed by body.
+ */
+
+final class CompactSyntax {
+
+	/**
+	 * The serialised nodes of the bodies.
+	 */
+
+	private final byte[] code;
+
+	/**
+	 * The table of the strings referenced from {@link #code}.
+	 */
+
+	private final String[] strings;
+
+	/**
+	 * The symbols of the strings in {@link #strings}, built when first needed.
+	 */
+
+	private final Symbol[] symbols;
+
+	/**
+	 * The offset of each body inside {@link #code}.
+	 */
+
+	private int[] offsets = new int[16];
+
+	/**
+	 * The position from which the positions of the nodes of each body are computed.
+	 */
+
+	private int[] bases = new int[16];
+
+	/**
+	 * The number of bodies in this store.
+	 */
+
+	private int count;
+
+	/**
+	 * Builds a store for the bodies serialised in the given array.
+	 *
+	 * @param code the serialised nodes of the bodies
+	 * @param strings the table of the strings referenced from {@code code}
+	 * @param symbols the symbols of the strings in {@code strings}, built when first needed
+	 */
+
+	CompactSyntax(byte[] code, String[] strings, Symbol[] symbols) {
+		this.code = code;
+		this.strings = strings;
+		this.symbols = symbols;
+	}
+
+	/**
+	 * Adds a body to this store.
+	 *
+	 * @param offset the offset of the body inside the serialised nodes
+	 * @param base the position from which the positions of its nodes are computed
+	 * @return the index of the body inside this store
+	 */
+
+	int add(int offset, int base) {
+		if (count == offsets.length) {
+			offsets = Arrays.copyOf(offsets, count * 2);
+			bases = Arrays.copyOf(bases, count * 2);
+		}
+
+		offsets[count] = offset;
+		bases[count] = base;
+
+		return count++;
+	}
+
+	/**
+	 * Yields the serialised nodes of the bodies.
+	 *
+	 * @return the serialised nodes of the bodies
+	 */
+
+	byte[] getCode() {
+		return code;
+	}
+
+	/**
+	 * Yields the table of the strings referenced from the serialised nodes.
+	 *
+	 * @return the table of the strings referenced from the serialised nodes
+	 */
+
+	String[] getStrings() {
+		return strings;
+	}
+
+	/**
+	 * Yields the symbols of the table of the strings, built when first needed.
+	 *
+	 * @return the symbols of the table of the strings
+	 */
+
+	Symbol[] getSymbols() {
+		return symbols;
+	}
+
+	/**
+	 * Yields the offset of a body inside the serialised nodes.
+	 *
+	 * @param index the index of the body
+	 * @return the offset
+	 */
+
+	int getOffset(int index) {
+		return offsets[index];
+	}
+
+	/**
+	 * Yields the position from which the positions of the nodes of a body are computed.
+	 *
+	 * @param index the index of the body
+	 * @return the position
+	 */
+
+	int getBase(int index) {
+		return bases[index];
+	}
+
+	/**
+	 * Shifts the positions of the nodes of a body.
+	 *
+	 * @param index the index of the body
+	 * @param delta the number of characters added before it
+	 */
+
+	void shift(int index, int delta) {
+		bases[index] += delta;
+	}
+}
@@ -0,0 +1,185 @@
+package absyn;
+
+import java.io.FileWriter;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+import syntactical.DescentParser;
+import syntactical.Parser;
+import types.CodeSignature;
+import types.CompilationContext;
+import semantical.TypeChecker;
+import translation.Block;
+import errorMsg.ErrorMsg;
+
+/**
+ * A node of abstract syntax standing for the body of a constructor, method,
+ * test or fixture that has not been parsed yet. It holds the tokens of the body,
+ * that are parsed only when the body is needed, typically when its code is
+ * translated for the first time. The declaration that owns the body replaces
+ * this node with the result of the parsing, as soon as it accesses the body.
+ * Subclasses can hold the body in another form, such as {@link CompactBody}.
+ */
+
+public class DeferredBody extends Command {
+
+	/**
+	 * The error reporting utility of the source file of the body.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The tokens of the body, including its braces. This is {@code null}
+	 * once the body has been parsed.
+	 */
+
+	private List<Symbol> tokens;
+
+	/**
+	 * The abstract syntax of the body. This is {@code null} if the body
+	 * has not been parsed yet.
+	 */
+
+	private Command body;
+
+	/**
+	 * True if the body has been parsed and contains a syntax error.
+	 */
+
+	private boolean syntaxError;
+
+	/**
+	 * Constructs the abstract syntax of a body that has not been parsed yet.
+	 *
+	 * @param pos the position in the source file where it starts
+	 *            the concrete syntax represented by this abstract syntax
+	 * @param errorMsg the error reporting utility of the source file of the body
+	 * @param tokens the tokens of the body, including its braces
+	 */
+
+	public DeferredBody(int pos, ErrorMsg errorMsg, List<Symbol> tokens) {
+		super(pos);
+
+		this.errorMsg = errorMsg;
+		this.tokens = tokens;
+	}
+
+	/**
+	 * Constructs the abstract syntax of a body that is not held as tokens.
+	 *
+	 * @param pos the position in the source file where it starts
+	 *            the concrete syntax represented by this abstract syntax
+	 */
+
+	DeferredBody(int pos) {
+		super(pos);
+
+		this.errorMsg = null;
+	}
+
+	/**
+	 * Parses this body, if it has not been parsed yet.
+	 *
+	 * @return the abstract syntax of this body. If it contains a syntax error,
+	 *         the error is reported and an empty command is returned
+	 */
+
+	public synchronized Command parse() {
+		if (body == null) {
+			body = build();
+			if (body == null) {
+				body = new Skip(getPos());
+				syntaxError = true;
+			}
+
+			// the tokens are not needed anymore
+			tokens = null;
+		}
+
+		return body;
+	}
+
+	/**
+	 * Parses this body, if it has not been parsed yet, and determines if it
+	 * contains a syntax error.
+	 *
+	 * @return true if and only if this body contains a syntax error, that has been reported
+	 */
+
+	public synchronized boolean hasSyntaxError() {
+		parse();
+
+		return syntaxError;
+	}
+
+	/**
+	 * Forgets the abstract syntax of this body, if it has been built already,
+	 * so that it is built again the next time it is needed. This is only possible
+	 * for the bodies that can be built more than once, such as {@link CompactBody}.
+	 */
+
+	synchronized void forget() {
+		body = null;
+	}
+
+	/**
+	 * Builds the abstract syntax of this body, by parsing its tokens.
+	 *
+	 * @return the abstract syntax of this body, or {@code null} if it contains
+	 *         a syntax error, that is reported
+	 */
+
+	protected Command build() {
+		return CompilationContext.current().isDescentParser() ?
+			DescentParser.parseBody(errorMsg, tokens) : Parser.parseBody(errorMsg, tokens);
+	}
+
+	/**
+	 * Shifts the positions of the tokens of this body or, if it has been
+	 * parsed already, of its abstract syntax.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected synchronized void shiftAux(int delta) {
+		if (body != null)
+			body.shift(delta);
+		else
+			shiftUnparsed(delta);
+	}
+
+	/**
+	 * Shifts the positions of this body, that has not been parsed yet.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	protected void shiftUnparsed(int delta) {
+		for (Symbol token: tokens) {
+			token.left += delta;
+			token.right += delta;
+		}
+	}
+
+	@Override
+	protected void toDotAux(FileWriter where) throws java.io.IOException {
+		linkToNode("body", parse().toDot(where), where);
+	}
+
+	@Override
+	protected TypeChecker typeCheckAux(TypeChecker checker) {
+		return parse().typeCheck(checker);
+	}
+
+	@Override
+	public boolean checkForDeadcode() {
+		return parse().checkForDeadcode();
+	}
+
+	@Override
+	public Block translate(CodeSignature where, Block continuation) {
+		return parse().translate(where, continuation);
+	}
+}
@@ -89,6 +89,19 @@ public class ExpressionSeq extends Absyn {
 		return dotNodeName();
 	}
 
+	/**
+	 * Shifts the positions of {@link #head} and {@link #tail}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		head.shift(delta);
+		if (tail != null)
+			tail.shift(delta);
+	}
+
 	/**
 	 * Type-checks the expressions in this sequence.
 	 *
@@ -2,6 +2,7 @@ package absyn;
 
 import java.io.FileWriter;
 
+import symbol.Symbol;
 import types.Type;
 import types.ClassType;
 import types.FieldSignature;
@@ -33,7 +34,7 @@ public class FieldAccess extends Lvalue {
      * on the right of the dot in the {@code receiver.f} notation.
      */
 
-    private final String name;
+    private final Symbol name;
 
     /**
      * The signature of the field which is accessed. This is {@code null} if
@@ -54,7 +55,7 @@ public class FieldAccess extends Lvalue {
      *             {@code f} on the right of the dot in the {@code receiver.f} notation
      */
 
-    public FieldAccess(int pos, Expression receiver, String name) {
+    public FieldAccess(int pos, Expression receiver, Symbol name) {
     	super(pos);
 
     	this.receiver = receiver;
@@ -80,7 +81,7 @@ public class FieldAccess extends Lvalue {
      * @return the name of the field which is accessed
      */
 
-    public String getName() {
+    public Symbol getName() {
     	return name;
     }
 
@@ -117,7 +118,18 @@ public class FieldAccess extends Lvalue {
     @Override
     protected void toDotAux(FileWriter where) throws java.io.IOException {
     	linkToNode("receiver", receiver.toDot(where), where);
-    	linkToNode("name", toDot(name, where), where);
+    	linkToNode("name", toDot(name.toString(), where), where);
+    }
+
+    /**
+     * Shifts the positions of {@link #receiver}.
+     *
+     * @param delta the number of characters added before it
+     */
+
+    @Override
+    protected void shiftAux(int delta) {
+    	receiver.shift(delta);
     }
 
     /**
@@ -2,6 +2,7 @@ package absyn;
 
 import java.io.FileWriter;
 
+import symbol.Symbol;
 import types.FieldSignature;
 import types.ClassType;
 
@@ -23,7 +24,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 	 * The name of the field.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * The signature of this method. This is {@code null} if type-checking
@@ -43,7 +44,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 	 *             subsequent class member, if any
 	 */
 
-	public FieldDeclaration(int pos, TypeExpression type, String name, ClassMemberDeclaration next) {
+	public FieldDeclaration(int pos, TypeExpression type, Symbol name, ClassMemberDeclaration next) {
 		super(pos,next);
 
 		this.type = type;
@@ -66,7 +67,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 	 * @return the name of the field
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -79,7 +80,18 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
 		linkToNode("type", type.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
+	}
+
+	/**
+	 * Shifts the positions of {@link #type}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		type.shift(delta);
 	}
 
 	/**
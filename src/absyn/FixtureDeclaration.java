@@ -3,6 +3,7 @@ package absyn;
 import java.io.FileWriter;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import types.ClassType;
 import types.FixtureSignature;
 import types.VoidType;
@@ -82,7 +83,7 @@ public class FixtureDeclaration extends CodeDeclaration {
 	protected void typeCheckAux(ClassType clazz) {
 
 		TypeChecker checker = new TypeChecker(VoidType.INSTANCE, clazz.getErrorMsg());
-		checker = checker.putVar("this", clazz);
+		checker = checker.putVar(Symbol.THIS, clazz);
 
 		// we type-check the body of the fixture in the resulting type-checker
 		getBody().typeCheck(checker);
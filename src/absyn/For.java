@@ -58,6 +58,46 @@ public class For extends Command {
     	this.body = body;
     }
 
+    /**
+     * Yields the abstract syntax of the code executed before the loop starts.
+     *
+     * @return the abstract syntax of the code executed before the loop starts
+     */
+
+    public Command getInitialisation() {
+    	return initialisation;
+    }
+
+    /**
+     * Yields the abstract syntax of the guard or condition of the loop.
+     *
+     * @return the abstract syntax of the guard or condition of the loop
+     */
+
+    public Expression getCondition() {
+    	return condition;
+    }
+
+    /**
+     * Yields the abstract syntax of the code executed after each iteration.
+     *
+     * @return the abstract syntax of the code executed after each iteration
+     */
+
+    public Command getUpdate() {
+    	return update;
+    }
+
+    /**
+     * Yields the abstract syntax of the body of the loop.
+     *
+     * @return the abstract syntax of the body of the loop
+     */
+
+    public Command getBody() {
+    	return body;
+    }
+
     /**
      * Adds abstract syntax class-specific information in the dot file
      * representing the abstract syntax of this {@code for} command.
@@ -76,6 +116,20 @@ public class For extends Command {
     	linkToNode("body", body.toDot(where), where);
     }
 
+    /**
+     * Shifts the positions of {@link #initialisation}, {@link #condition}, {@link #update} and {@link #body}.
+     *
+     * @param delta the number of characters added before them
+     */
+
+    @Override
+    protected void shiftAux(int delta) {
+    	initialisation.shift(delta);
+    	condition.shift(delta);
+    	update.shift(delta);
+    	body.shift(delta);
+    }
+
     /**
      * Performs the type-checking of the {@code for} command
      * by using a given type-checker. It type-checks the initialisation,
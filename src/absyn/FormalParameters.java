@@ -4,6 +4,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import types.TypeList;
 
 /**
@@ -24,7 +25,7 @@ public class FormalParameters extends Absyn {
 	 * The name of the first parameter.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * The next parameters, if any.
@@ -43,7 +44,7 @@ public class FormalParameters extends Absyn {
 	 * @param next the declaration of the next parameters, if any
 	 */
 
-	public FormalParameters(int pos, TypeExpression type, String name, FormalParameters next) {
+	public FormalParameters(int pos, TypeExpression type, Symbol name, FormalParameters next) {
 		super(pos);
 
 		this.type = type;
@@ -67,7 +68,7 @@ public class FormalParameters extends Absyn {
 	 * @return the name of the first parameter
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -98,13 +99,26 @@ public class FormalParameters extends Absyn {
 		// we add arcs between the dot node for this object and those for
 		// the type, name and next fields
 		linkToNode("type", type.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 		if (next != null)
 			boldLinkToNode("next", next.toDot(where), where);
 
 		return dotNodeName();
 	}
 
+	/**
+	 * Shifts the positions of {@link #type} and {@link #next}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		type.shift(delta);
+		if (next != null)
+			next.shift(delta);
+	}
+
 	/**
 	 * Computes the list of semantical types of these parameters.
 	 * It type-checks the first parameter and then, recursively, {@link #next}, if any.
@@ -112,6 +112,19 @@ public class IfThenElse extends Command {
 		linkToNode("_else", _else.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #condition}, {@link #then} and {@link #_else}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		condition.shift(delta);
+		then.shift(delta);
+		_else.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the conditional command
 	 * by using a given type-checker. It type-checks the condition, <i>then</i>
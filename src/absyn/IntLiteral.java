@@ -41,7 +41,7 @@ public class IntLiteral extends Literal {
 	 * @return the lexical value of the integer literal
 	 */
 
-	public float getValue() {
+	public int getValue() {
 		return value;
 	}
 
@@ -3,6 +3,7 @@ package absyn;
 import java.io.FileWriter;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import types.Type;
 import types.CodeSignature;
 import translation.Block;
@@ -26,7 +27,7 @@ public class LocalDeclaration extends Command {
 	 * The name of the variable which is declared.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * The abstract syntax of the initialising expression
@@ -46,7 +47,7 @@ public class LocalDeclaration extends Command {
 	 *                    for the variable which is declared
 	 */
 
-	public LocalDeclaration(int pos, TypeExpression type, String name,
+	public LocalDeclaration(int pos, TypeExpression type, Symbol name,
 			Expression initialiser) {
 		super(pos);
 
@@ -73,7 +74,7 @@ public class LocalDeclaration extends Command {
 	 * @return the name of the variable which is declared
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -101,10 +102,22 @@ public class LocalDeclaration extends Command {
 	@Override
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
 		linkToNode("type", type.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 		linkToNode("initialiser", initialiser.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #type} and {@link #initialiser}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		type.shift(delta);
+		initialiser.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the declaration of a local variable,
 	 * by using a given type-checker. It type-checks the declared type of
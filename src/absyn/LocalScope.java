@@ -61,6 +61,17 @@ public class LocalScope extends Command {
 		linkToNode("body", body.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #body}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		body.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of a local scope.
 	 * Namely, it type-checks the body of the local scope, and returns the
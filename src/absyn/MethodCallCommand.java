@@ -4,6 +4,7 @@ import java.io.FileWriter;
 import java.util.Set;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import translation.Block;
 import types.ClassType;
 import types.CodeSignature;
@@ -34,7 +35,7 @@ public class MethodCallCommand extends Command {
 	 * The name of the method which is called.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * The abstract syntax of the actual parameters of the call.
@@ -63,7 +64,7 @@ public class MethodCallCommand extends Command {
 	 * @param actuals the abstract syntax of the actual parameters of the call
 	 */
 
-	public MethodCallCommand(int pos, Expression receiver, String name, ExpressionSeq actuals) {
+	public MethodCallCommand(int pos, Expression receiver, Symbol name, ExpressionSeq actuals) {
 		super(pos);
 
 		this.receiver = receiver;
@@ -91,7 +92,7 @@ public class MethodCallCommand extends Command {
 	 * @return the name of the method which is called
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -138,12 +139,25 @@ public class MethodCallCommand extends Command {
 	@Override
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
 		linkToNode("receiver", receiver.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 
 		if (actuals != null)
 			linkToNode("actuals", actuals.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #receiver} and {@link #actuals}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		receiver.shift(delta);
+		if (actuals != null)
+			actuals.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of a method call command
 	 * by using a given type-checker. It type-checks the receiver and the
@@ -3,6 +3,7 @@ package absyn;
 import java.io.FileWriter;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import types.ClassType;
 import types.MethodSignature;
 import types.Type;
@@ -27,7 +28,7 @@ public class MethodDeclaration extends CodeDeclaration {
 	 * The name of the method.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * Constructs the abstract syntax of a method declaration.
@@ -42,7 +43,7 @@ public class MethodDeclaration extends CodeDeclaration {
 	 *             subsequent class member, if any
 	 */
 
-	public MethodDeclaration(int pos, TypeExpression returnType, String name,
+	public MethodDeclaration(int pos, TypeExpression returnType, Symbol name,
 			FormalParameters formals, Command body, ClassMemberDeclaration next) {
 		super(pos, formals, body, next);
 
@@ -66,7 +67,7 @@ public class MethodDeclaration extends CodeDeclaration {
 	 * @return the name of this method
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -93,7 +94,7 @@ public class MethodDeclaration extends CodeDeclaration {
 	@Override
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
 		linkToNode("returnType", returnType.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 
 		if (getFormals() != null)
 			linkToNode("formals", getFormals().toDot(where), where);
@@ -101,6 +102,19 @@ public class MethodDeclaration extends CodeDeclaration {
 		linkToNode("body", getBody().toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #returnType}, of the formal parameters
+	 * and of the body.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		super.shiftAux(delta);
+		returnType.shift(delta);
+	}
+
 	/**
 	 * Adds the signature of this method declaration to the given class.
 	 *
@@ -148,8 +162,8 @@ public class MethodDeclaration extends CodeDeclaration {
 		checker = new TypeChecker(rt,clazz.getErrorMsg());
 	
 		// the main method is the only <i>static</i> method, where there is no this variable
-		if (!getSignature().getName().equals("main"))
-			checker = checker.putVar("this", clazz);
+		if (getSignature().getName() != Symbol.MAIN)
+			checker = checker.putVar(Symbol.THIS, clazz);
 
 		// we enrich the type-checker with the formal parameters
 		checker = getFormals() != null ? getFormals().typeCheck(checker) : checker;
@@ -62,6 +62,17 @@ public class Minus extends Expression {
 		linkToNode("expression", expression.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #expression}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		expression.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the unary minus of an expression
 	 * by using a given type-checker. It type-checks the expression and
@@ -80,6 +80,18 @@ public class NewArray extends Expression {
 		linkToNode("size", size.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #elementsType} and {@link #size}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		elementsType.shift(delta);
+		size.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the array creation expression
 	 * by using a given type-checker. It type-checks the expression
@@ -117,6 +117,18 @@ public class NewObject extends Expression {
 			linkToNode("actuals", actuals.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #actuals}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		if (actuals != null)
+			actuals.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of an object creation expression
 	 * by using a given type-checker. It type-checks the
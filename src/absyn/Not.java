@@ -61,6 +61,17 @@ public class Not extends Expression {
 		linkToNode("expression", expression.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #expression}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		expression.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the negation of a Boolean expression
 	 * by using a given type-checker. Namely, it checks that the expression
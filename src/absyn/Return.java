@@ -64,6 +64,18 @@ public class Return extends Command {
 			linkToNode("returned", returned.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #returned}.
+	 *
+	 * @param delta the number of characters added before it
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		if (returned != null)
+			returned.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the {@code return} command
 	 * by using a given type-checker. It type-checks the expression whose
@@ -3,6 +3,7 @@ package absyn;
 import java.io.FileWriter;
 
 import semantical.TypeChecker;
+import symbol.Symbol;
 import types.ClassType;
 import types.TestSignature;
 import types.VoidType;
@@ -17,7 +18,7 @@ import types.VoidType;
 
 public class TestDeclaration extends CodeDeclaration {
 
-	private final String name;
+	private final Symbol name;
 	
 	/**
 	 * Constructs the abstract syntax of a constructor declaration.
@@ -30,11 +31,21 @@ public class TestDeclaration extends CodeDeclaration {
 	 *             subsequent class member, if any
 	 */
 	
-	public TestDeclaration(int pos, String id, Command body, ClassMemberDeclaration next) {
+	public TestDeclaration(int pos, Symbol id, Command body, ClassMemberDeclaration next) {
 		super(pos, null, body, next);
 		this.name = id;
 	}
 
+	/**
+	 * Yields the name of the test.
+	 *
+	 * @return the name of the test
+	 */
+
+	public Symbol getName() {
+		return name;
+	}
+
 
 	/**
 	 * Adds arcs between the dot node for this piece of abstract syntax
@@ -45,7 +56,7 @@ public class TestDeclaration extends CodeDeclaration {
 
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
 		
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 
 		linkToNode("body", getBody().toDot(where), where);
 	}
@@ -79,7 +90,7 @@ public class TestDeclaration extends CodeDeclaration {
 		// creo un checker che permetta gli assert
 		TypeChecker checker = new TypeChecker(VoidType.INSTANCE, clazz.getErrorMsg(), true);
 		
-		checker = checker.putVar("this", clazz);
+		checker = checker.putVar(Symbol.THIS, clazz);
 		
 		getBody().typeCheck(checker);
 
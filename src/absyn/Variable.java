@@ -2,6 +2,7 @@ package absyn;
 
 import java.io.FileWriter;
 
+import symbol.Symbol;
 import types.Type;
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -21,7 +22,7 @@ public class Variable extends Lvalue {
 	 * The name of the variable.
 	 */
 
-	private final String name;
+	private final Symbol name;
 
 	/**
 	 * Constructs the abstract syntax of a reference to a program variable.
@@ -31,7 +32,7 @@ public class Variable extends Lvalue {
 	 * @param name the name of the variable
 	 */
 
-	public Variable(int pos, String name) {
+	public Variable(int pos, Symbol name) {
 		super(pos);
 
 		this.name = name;
@@ -43,7 +44,7 @@ public class Variable extends Lvalue {
 	 * @return the name of the variable
 	 */
 
-	public String getName() {
+	public Symbol getName() {
 		return name;
 	}
 
@@ -69,7 +70,7 @@ public class Variable extends Lvalue {
 
 	@Override
 	protected void toDotAux(FileWriter where) throws java.io.IOException {
-		linkToNode("name", toDot(name, where), where);
+		linkToNode("name", toDot(name.toString(), where), where);
 	}
 
 	/**
@@ -77,6 +77,18 @@ public class While extends Command {
 		linkToNode("body", body.toDot(where), where);
 	}
 
+	/**
+	 * Shifts the positions of {@link #condition} and {@link #body}.
+	 *
+	 * @param delta the number of characters added before them
+	 */
+
+	@Override
+	protected void shiftAux(int delta) {
+		condition.shift(delta);
+		body.shift(delta);
+	}
+
 	/**
 	 * Performs the type-checking of the {@code while} command
 	 * by using a given type-checker. It type-checks the condition and body
@@ -58,6 +58,6 @@ public class GETSTATIC extends FieldAccessBytecode {
 
 	@Override
 	public InstructionList generateJavaBytecode(GeneralClassGenerator classGen) {
-		return new InstructionList(classGen.getFactory().createGetStatic(field.getDefiningClass().getName(), field.getName(), field.getType().toBCEL()));
+		return new InstructionList(classGen.getFactory().createGetStatic(field.getDefiningClass().getName(), field.getName().toString(), field.getType().toBCEL()));
 	}
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package bytecode;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
-import java.util.List;
+
 import javaBytecodeGenerator.GeneralClassGenerator;
 
 import org.apache.bcel.generic.InstructionList;
@@ -38,33 +38,22 @@ public class VIRTUALCALL extends CALL {
 	public VIRTUALCALL(ClassType receiverType, MethodSignature staticTarget) {
 		// we compute the dynamic targets by assuming that the runtime
 		// type of the receiver is any subclass of its static type
-		super(receiverType, staticTarget, dynamicTargets(receiverType.getInstances(), staticTarget));
+		super(receiverType, staticTarget, dynamicTargets(receiverType, staticTarget));
 	}
 
 	/**
 	 * Yields the set of runtime receivers of this call. They are all
 	 * methods with the same signature of the static target and that might
-	 * be called from a given set of runtime classes for the receiver.
+	 * be called from any subclass of the static type of the receiver.
 	 *
-	 * @param possibleRunTimeClasses the set of runtime classes for the receiver
+	 * @param receiverType the static type of the receiver of the call
 	 * @param staticTarget the static target of the call
-	 * @return the set of method signatures that might be called
-	 *         with the given set of classes as receiver
+	 * @return the set of method signatures that might be called. It is
+	 *         shared by all calls to the same method, hence it cannot be modified
 	 */
 
-	private static Set<CodeSignature> dynamicTargets(List<ClassType> possibleRunTimeClasses, CodeSignature staticTarget) {
-		Set<CodeSignature> dynamicTargets = new HashSet<CodeSignature>();
-
-		for (ClassType rec: possibleRunTimeClasses) {
-			// we look up for the method from the dynamic receiver
-			MethodSignature candidate = rec.methodLookup(staticTarget.getName(), staticTarget.getParameters());
-
-			// we add the dynamic target
-			if (candidate != null)
-				dynamicTargets.add(candidate);
-		}
-
-		return dynamicTargets;
+	private static Set<CodeSignature> dynamicTargets(ClassType receiverType, CodeSignature staticTarget) {
+		return Collections.<CodeSignature>unmodifiableSet(receiverType.virtualTargets(staticTarget.getName(), staticTarget.getParameters()));
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package errorMsg;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -13,11 +14,18 @@ import java.util.List;
 public class ErrorMsg {
 
 	/**
-	 * The sequence of newline positions in the source {@link #fileName}.
-	 * This is useful to know where source lines stop.
+	 * The sequence of newline positions in the source {@link #fileName},
+	 * in increasing order. This is useful to know where source lines stop.
+	 * Only the first {@link #lines} elements are meaningful.
 	 */
 
-	private final List<Integer> linePos = new ArrayList<>();
+	private int[] linePos = new int[16];
+
+	/**
+	 * The number of newline positions in {@link #linePos}.
+	 */
+
+	private int lines;
 
 	/**
 	 * The name of the file to which this error reporting utility is associated.
@@ -31,6 +39,12 @@ public class ErrorMsg {
 
 	private boolean anyErrors;
 
+	/**
+	 * The messages reported but not printed yet, if printing is deferred.
+	 */
+
+	private List<Message> deferred;
+
 	/**
 	 * Creates an error reporting utility for the specified source file.
 	 *
@@ -61,6 +75,31 @@ public class ErrorMsg {
 		return anyErrors;
 	}
 
+	/**
+	 * Defers the printing of the messages reported from now on, until
+	 * {@link #flush()} is called. This is useful when the source file is
+	 * analysed on a thread different from the one reporting the diagnostics.
+	 */
+
+	public void defer() {
+		if (deferred == null)
+			deferred = new ArrayList<>();
+	}
+
+	/**
+	 * Prints the messages whose printing has been deferred, if any,
+	 * and prints the messages reported from now on as soon as they are reported.
+	 */
+
+	public void flush() {
+		if (deferred != null) {
+			for (Message message: deferred)
+				message.print();
+
+			deferred = null;
+		}
+	}
+
 	/**
 	 * Records that a new line character has been found at the given position.
 	 *
@@ -69,7 +108,64 @@ public class ErrorMsg {
 	 */
 
 	public void newline(int pos) {
-		linePos.add(pos);
+		if (lines == linePos.length)
+			linePos = Arrays.copyOf(linePos, lines * 2);
+
+		linePos[lines++] = pos;
+	}
+
+	/**
+	 * Yields the positions of the newline characters found so far.
+	 *
+	 * @return the positions, in increasing order
+	 */
+
+	public int[] getNewlines() {
+		return Arrays.copyOf(linePos, lines);
+	}
+
+	/**
+	 * Yields the number of newline characters found before the given position.
+	 * Since the newline positions are increasing, this is computed by binary search.
+	 *
+	 * @param pos the position in the source file
+	 *            (number of characters from the beginning of the file)
+	 * @return the number of newline positions strictly smaller than {@code pos}
+	 */
+
+	private int linesBefore(int pos) {
+		int low = 0, high = lines;
+
+		// the positions before low are smaller than pos, those from high on are not
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (linePos[mid] < pos)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Yields the line and column of the given position, separated by the given string.
+	 *
+	 * @param pos the position in the source file
+	 *            (number of characters from the beginning of the file)
+	 * @param separator the separator between line and column
+	 * @return the line and column, or the empty string if {@code pos} is negative
+	 */
+
+	private String where(int pos, String separator) {
+		if (pos < 0)
+			return "";
+
+		// we look for the last new line before position pos
+		int before = linesBefore(pos);
+		int last = before > 0 ? linePos[before - 1] : 0;
+
+		return (before + 1) + separator + (pos - last);
 	}
 
 	/**
@@ -86,59 +182,67 @@ public class ErrorMsg {
 	public void error(int pos, String msg) {
 		anyErrors = true; // an error has been reported at least
 
-		String where;
-		if (pos >= 0) {
-			int last = 0, n = 1;
-
-			// we look for the last new line before position pos
-			for (int line: linePos) {
-				if (line >= pos) break;
-
-				last = line;
-				n++;
-			}
-
-			where = n + "." + (pos - last);
-		}
+		Message message = new Message(fileName + "::" + where(pos, ".") + ": " + msg, false);
+		if (deferred != null)
+			deferred.add(message);
 		else
-			where = "";
-
-		System.out.println(fileName + "::" + where + ": " + msg);
+			message.print();
 	}
 	
 	
+	/**
+	 * Reports a message of the syntactical analyser that is not bound
+	 * to a line of the source file, such as the failure of the recovery
+	 * from a syntax error. It is printed on the standard error.
+	 *
+	 * @param msg the message to be reported
+	 */
+
+	public void report(String msg) {
+		Message message = new Message(msg, true);
+		if (deferred != null)
+			deferred.add(message);
+		else
+			message.print();
+	}
+
 	public String getPosition(int pos) {
-		String where;
-		
-		if (pos >= 0) {
-			int last = 0, n = 1;
+		return where(pos, "::");
+	}
+
+	/**
+	 * A message reported through this error reporting utility.
+	 */
 
-			// we look for the last new line before position pos
-			for (int line: linePos) {
-				if (line >= pos) break;
+	private static class Message {
 
-				last = line;
-				n++;
-			}
+		/**
+		 * The text of the message.
+		 */
 
-			where = n + "::" + (pos - last);
+		private final String text;
+
+		/**
+		 * True if the message goes to the standard error,
+		 * false if it goes to the standard output.
+		 */
+
+		private final boolean toStandardError;
+
+		private Message(String text, boolean toStandardError) {
+			this.text = text;
+			this.toStandardError = toStandardError;
+		}
+
+		/**
+		 * Prints this message.
+		 */
+
+		private void print() {
+			if (toStandardError)
+				System.err.println(text);
+			else
+				System.out.println(text);
 		}
-		else
-			where = "";
-		
-		return where;
 	}
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+package javaBytecodeGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import types.ClassMemberSignature;
+import types.ClassType;
+
+/**
+ * An on-disk cache of the Java bytecode generated for Kitten classes.
+ * The bytecode of a class is stored under a key that is the hash of everything
+ * its generation depends on: the content of the source files of the class and
+ * of all classes it depends on, and the members of the class that are part of
+ * the program being compiled. Hence a class whose key is already in the cache
+ * does not need to be generated again.
+ */
+
+public class BytecodeCache {
+
+	/**
+	 * A tag that is hashed into every key. It must be changed whenever the
+	 * generated bytecode changes for the same source code, so that stale
+	 * entries are not reused.
+	 */
+
+	private final static String VERSION = "kitten-bytecode-1";
+
+	/**
+	 * The directory where the cached bytecode is stored.
+	 */
+
+	private final File directory;
+
+	/**
+	 * The hashes of the source files read so far, for each class name.
+	 */
+
+	private final Map<String, String> sourceHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds a cache that stores the generated bytecode in the given directory.
+	 * The directory is created if it does not exist.
+	 *
+	 * @param directory the directory where the bytecode is stored
+	 */
+
+	public BytecodeCache(File directory) {
+		this.directory = directory;
+
+		directory.mkdirs();
+	}
+
+	/**
+	 * Computes the key of the Java class generated for a Kitten class.
+	 *
+	 * @param clazz the Kitten class
+	 * @param kind the kind of Java class generated for {@code clazz}, such
+	 *             as {@code class} or {@code test}
+	 * @param members the signatures of the members of {@code clazz} that are
+	 *                translated into the Java class
+	 * @return the key
+	 */
+
+	public String key(ClassType clazz, String kind, Set<? extends ClassMemberSignature> members) {
+		MessageDigest digest = newDigest();
+
+		update(digest, VERSION);
+		update(digest, kind);
+		update(digest, clazz.getName());
+
+		// the class and everything it depends on, sorted by name so that the
+		// key does not depend on the order of discovery of the classes
+		List<String> names = new ArrayList<>();
+		for (ClassType dependency : clazz.getDependencyClosure())
+			names.add(dependency.getName());
+
+		Collections.sort(names);
+		for (String name : names) {
+			update(digest, name);
+			update(digest, sourceHash(name));
+		}
+
+		// the members that end up in the Java class
+		List<String> sigs = new ArrayList<>();
+		for (ClassMemberSignature sig : members)
+			sigs.add(sig.toString());
+
+		Collections.sort(sigs);
+		for (String sig : sigs)
+			update(digest, sig);
+
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Yields the bytecode stored under the given key, if any.
+	 *
+	 * @param key the key
+	 * @return the bytecode, or {@code null} if nothing is stored under {@code key}
+	 */
+
+	public byte[] get(String key) {
+		File file = new File(directory, key + ".class");
+
+		try {
+			return file.isFile() ? Files.readAllBytes(file.toPath()) : null;
+		}
+		catch (IOException e) {
+			// an unreadable entry is just a cache miss
+			return null;
+		}
+	}
+
+	/**
+	 * Stores some bytecode under the given key.
+	 *
+	 * @param key the key
+	 * @param bytes the bytecode
+	 * @throws IOException if the bytecode cannot be stored
+	 */
+
+	public void put(String key, byte[] bytes) throws IOException {
+		// we write a temporary file and then rename it, so that a
+		// concurrent reader never sees a partially written entry
+		File temp = File.createTempFile(key, ".tmp", directory);
+		Files.write(temp.toPath(), bytes);
+		Files.move(temp.toPath(), new File(directory, key + ".class").toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Yields the hash of the content of the source file of the given class.
+	 *
+	 * @param className the name of the class
+	 * @return the hash of its source file, or {@code missing} if the source
+	 *         file cannot be read
+	 */
+
+	private String sourceHash(String className) {
+		String result = sourceHashes.get(className);
+
+		if (result == null) {
+			try {
+				MessageDigest digest = newDigest();
+				digest.update(Files.readAllBytes(new File(className + ".kit").toPath()));
+				result = toHex(digest.digest());
+			}
+			catch (IOException e) {
+				result = "missing";
+			}
+
+			sourceHashes.put(className, result);
+		}
+
+		return result;
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String s) {
+		digest.update(s.getBytes(StandardCharsets.UTF_8));
+		// a separator, so that consecutive strings cannot be confused
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : bytes)
+			sb.append(String.format("%02x", b));
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,36 @@
+package javaBytecodeGenerator;
+
+import java.io.IOException;
+
+/**
+ * A destination for the Java bytecode of the generated classes and,
+ * possibly, for their binary interfaces ({@code .kiti} files).
+ * The classes are written by generators running in parallel,
+ * hence implementations must be thread-safe.
+ */
+
+public interface ClassOutput {
+
+	/**
+	 * Writes the Java bytecode of a generated class. If a class with the
+	 * same name has already been written, it is replaced.
+	 *
+	 * @param className the name of the class
+	 * @param bytes the Java bytecode of the class
+	 * @throws IOException if the class cannot be written
+	 */
+
+	void write(String className, byte[] bytes) throws IOException;
+
+	/**
+	 * Writes the binary interface of a generated class, that lets later
+	 * compilations use the class without parsing its source file.
+	 * If an interface with the same name has already been written, it is replaced.
+	 *
+	 * @param className the name of the class
+	 * @param bytes the binary interface of the class
+	 * @throws IOException if the interface cannot be written
+	 */
+
+	void writeInterface(String className, byte[] bytes) throws IOException;
+}
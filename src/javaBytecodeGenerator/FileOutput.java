@@ -0,0 +1,63 @@
+package javaBytecodeGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * A destination that dumps the Java bytecode of each generated class
+ * into its own {@code .class} file of a directory, and its binary
+ * interface, if any, into a {@code .kiti} file next to it.
+ */
+
+public class FileOutput implements ClassOutput {
+
+	/**
+	 * The directory where the class files are dumped.
+	 */
+
+	private final File directory;
+
+	/**
+	 * Builds a destination that dumps the class files into the current directory.
+	 */
+
+	public FileOutput() {
+		this(new File("."));
+	}
+
+	/**
+	 * Builds a destination that dumps the class files into the given directory.
+	 *
+	 * @param directory the directory
+	 */
+
+	public FileOutput(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Writes the Java bytecode of a class into its class file, unless that file
+	 * already contains exactly that bytecode.
+	 */
+
+	@Override
+	public void write(String className, byte[] bytes) throws IOException {
+		File file = new File(directory, className + ".class");
+
+		if (file.length() != bytes.length || !Arrays.equals(Files.readAllBytes(file.toPath()), bytes))
+			Files.write(file.toPath(), bytes);
+	}
+
+	/**
+	 * Writes the binary interface of a class into its {@code .kiti} file.
+	 * The file is always rewritten, since an interface is used only
+	 * if it is not older than the source file of its class.
+	 */
+
+	@Override
+	public void writeInterface(String className, byte[] bytes) throws IOException {
+		Files.write(new File(directory, className + ".kiti").toPath(), bytes);
+	}
+}
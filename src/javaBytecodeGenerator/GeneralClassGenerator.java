@@ -13,6 +13,7 @@ import org.apache.bcel.generic.Instruction;
 import org.apache.bcel.generic.InstructionFactory;
 import org.apache.bcel.generic.InstructionHandle;
 import org.apache.bcel.generic.InstructionList;
+import org.apache.bcel.generic.InstructionTargeter;
 import org.apache.bcel.generic.TargetLostException;
 
 import translation.Block;
@@ -195,13 +196,41 @@ public class GeneralClassGenerator extends ClassGen {
 					|| (instruction instanceof GOTO && ((GOTO) instruction).getTarget() == handle.getNext()))
 				try {
 					il.redirectBranches(handle, handle.getNext());
+
+					// BCEL recycles the handles of the deleted instructions through
+					// a static, unsynchronized pool, which would be corrupted by
+					// the generators running in parallel. A handle that is still
+					// targeted is never recycled: hence we keep it targeted
+					handle.addTargeter(Removal.INSTANCE);
 					il.delete(handle);
 				} catch (TargetLostException e) {
-					// impossible
+					// the handle has been removed from the list, without recycling it
+					handle.removeTargeter(Removal.INSTANCE);
 				}
 		}
 
 		return il;
 	}
 
+	/**
+	 * A fictitious targeter of the instructions that are being deleted.
+	 */
+
+	private static class Removal implements InstructionTargeter {
+
+		/**
+		 * The unique instance of this class.
+		 */
+
+		private final static Removal INSTANCE = new Removal();
+
+		@Override
+		public boolean containsTarget(InstructionHandle ih) {
+			return false;
+		}
+
+		@Override
+		public void updateTarget(InstructionHandle old_ih, InstructionHandle new_ih) {}
+	}
+
 }
@@ -0,0 +1,160 @@
+package javaBytecodeGenerator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * A destination that writes the Java bytecode of all generated classes into
+ * a single jar archive, together with the runtime support classes of Kitten.
+ * The manifest of the archive names the entry class of the program as its
+ * main class, so that the archive can be run through {@code java -jar}.
+ * <br><br>
+ * The archive is written when this destination is closed, so that a class
+ * that is generated more than once appears only once, with its last bytecode,
+ * and the entries are sorted by name.
+ */
+
+public class JarOutput implements ClassOutput, Closeable {
+
+	/**
+	 * The runtime support classes that the generated classes refer to.
+	 */
+
+	private final static Class<?>[] RUNTIME = { runTime.String.class };
+
+	/**
+	 * The archive.
+	 */
+
+	private final File file;
+
+	/**
+	 * The name of the class whose {@code main} method runs the program.
+	 */
+
+	private final String mainClass;
+
+	/**
+	 * The Java bytecode of the classes written so far, for each class name.
+	 */
+
+	private final Map<String, byte[]> classes = new TreeMap<>();
+
+	/**
+	 * The binary interfaces written so far, for each class name.
+	 */
+
+	private final Map<String, byte[]> interfaces = new TreeMap<>();
+
+	/**
+	 * Builds a destination that writes the generated classes into the given archive.
+	 *
+	 * @param file the archive
+	 * @param mainClass the name of the class whose {@code main} method runs the program
+	 */
+
+	public JarOutput(File file, String mainClass) {
+		this.file = file;
+		this.mainClass = mainClass;
+	}
+
+	@Override
+	public synchronized void write(String className, byte[] bytes) {
+		classes.put(className, bytes);
+	}
+
+	@Override
+	public synchronized void writeInterface(String className, byte[] bytes) {
+		interfaces.put(className, bytes);
+	}
+
+	/**
+	 * Writes the archive. The archive is first written into a temporary file
+	 * and then renamed, so that an incomplete archive is never left behind.
+	 *
+	 * @throws IOException if the archive cannot be written
+	 */
+
+	@Override
+	public synchronized void close() throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+
+		File directory = file.getAbsoluteFile().getParentFile();
+		File temp = File.createTempFile(file.getName(), ".tmp", directory);
+
+		try {
+			try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(temp), manifest)) {
+				for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+					jar.putNextEntry(new JarEntry(entry.getKey() + ".class"));
+					jar.write(entry.getValue());
+					jar.closeEntry();
+				}
+
+				for (Map.Entry<String, byte[]> entry : interfaces.entrySet()) {
+					jar.putNextEntry(new JarEntry(entry.getKey() + ".kiti"));
+					jar.write(entry.getValue());
+					jar.closeEntry();
+				}
+
+				for (Class<?> clazz : RUNTIME)
+					copyClass(clazz, jar);
+			}
+
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+
+	/**
+	 * Copies into the archive the class file of a class of the compiler.
+	 *
+	 * @param clazz the class
+	 * @param jar the archive
+	 * @throws IOException if the class file cannot be found or copied
+	 */
+
+	private static void copyClass(Class<?> clazz, JarOutputStream jar) throws IOException {
+		String name = clazz.getName().replace('.', '/') + ".class";
+
+		try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+			if (in == null)
+				throw new IOException("Cannot find the class file of " + clazz.getName());
+
+			jar.putNextEntry(new JarEntry(name));
+			copy(in, jar);
+			jar.closeEntry();
+		}
+	}
+
+	/**
+	 * Copies a stream into another.
+	 *
+	 * @param in the source stream
+	 * @param out the destination stream
+	 * @throws IOException if the copy fails
+	 */
+
+	private static void copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[8192];
+		int read;
+
+		while ((read = in.read(buffer)) > 0)
+			out.write(buffer, 0, read);
+	}
+}
@@ -1,9 +1,13 @@
 package javaBytecodeGenerator;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
+import metrics.Metrics;
 import translation.Program;
 import types.ClassType;
+import types.CompilationContext;
 import errorMsg.ErrorMsg;
 
 public class Main {
@@ -13,6 +17,31 @@ public class Main {
 			return;
 		}
 
+		// if required, the resources used by each phase of the compilation
+		// are measured and written into a JSON or CSV file at the end
+		String metricsFile = System.getProperty("kitten.metrics");
+		Metrics metrics = CompilationContext.current().getMetrics();
+		if (metricsFile != null)
+			metrics.setEnabled(true);
+
+		// if required, the bodies of the members of the classes are parsed and
+		// type-checked only when the translation reaches them: their errors are
+		// reported during the translation, and not at all for unreachable members
+		if (System.getProperty("kitten.lazy") != null)
+			CompilationContext.current().setLazy(true);
+
+		if (System.getProperty("kitten.fastLexer") != null)
+			CompilationContext.current().setFastLexer(true);
+
+		if (System.getProperty("kitten.descentParser") != null)
+			CompilationContext.current().setDescentParser(true);
+
+		if (System.getProperty("kitten.syntaxCache") != null)
+			CompilationContext.current().setSyntaxCache(true);
+
+		if (System.getProperty("kitten.compactSyntax") != null)
+			CompilationContext.current().setCompactSyntax(true);
+
 		long totalTime = System.currentTimeMillis();
 
 		// we build the class type for the file name passed as a parameter.
@@ -25,37 +54,78 @@ public class Main {
 
 		// if this class did not parse and type-check correctly,
 		// we cannot translate the program into intermediate Kitten code
+		Program program = null;
 		if (errorMsg != null && !errorMsg.anyErrors()) {
 			time = System.currentTimeMillis();
 			// we translate this class into Kitten bytecode
-			Program program = clazz.translate();
+			program = clazz.translate();
+
+			// if required, all members of the classes are compiled, also those that
+			// are not used, and the binary interfaces of the classes are written next
+			// to their class files, so that later compilations can load them from there
+			if (System.getProperty("kitten.interfaces") != null)
+				program.translateAll();
 
 			System.out.println("Translation into Kitten bytecode completed \t[" + (System.currentTimeMillis() - time)
 					+ "ms]");
+		}
 
+		// if the bodies are processed lazily, their errors are found during the translation
+		if (program != null && !errorMsg.anyErrors()) {
 			time = System.currentTimeMillis();
 			program.dumpCodeDot();
 
 			System.out.println("Kitten bytecode dumping in dot format completed\t["
 					+ (System.currentTimeMillis() - time) + "ms]");
 
+			// if required, the Java bytecode of the classes that did not
+			// change since a previous compilation is taken from a cache
+			String cache = System.getProperty("kitten.cache");
+			if (cache != null)
+				program.setBytecodeCache(new BytecodeCache(new File(cache)));
+
+			// if required, the Java bytecode goes into a single jar archive
+			// rather than into a class file for each class
+			String jar = System.getProperty("kitten.jar");
+			JarOutput jarOutput = null;
+			if (jar != null)
+				program.setClassOutput(jarOutput = new JarOutput(new File(jar), clazz.getName()));
+
 			// we translate, into Java bytecode, the Kitten code of every class
 			// member which
 			// is reachable from the class we translated. This also generates
 			// the class files
+			time = System.currentTimeMillis();
 			program.generateJavaBytecode();
 
 			System.out.println("Java bytecode generation completed       \t[" + (System.currentTimeMillis() - time)
 					+ "ms]");
 
+			time = System.currentTimeMillis();
 			ArrayList<String> testslist = new ArrayList<String>();
 			program.generateJavaBytecodeForTests(testslist);
 
 			System.out.println("Java TEST bytecode generation completed       \t["
 					+ (System.currentTimeMillis() - time) + "ms]");
 
+			if (jarOutput != null)
+				try {
+					jarOutput.close();
+				}
+				catch (IOException e) {
+					System.out.println("Could not write the jar archive " + jar);
+				}
+
 		}
 
 		System.out.println("Total compilation time was " + (System.currentTimeMillis() - totalTime) + "ms");
+
+		if (metricsFile != null)
+			try {
+				metrics.writeTo(new File(metricsFile));
+			}
+			catch (IOException e) {
+				System.out.println("Could not write the metrics into " + metricsFile);
+			}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package javaBytecodeGenerator;
+
+import java.util.Map;
+
+/**
+ * A class loader for Java classes generated in memory. The generated classes
+ * are looked up before delegating to the parent class loader, so that they
+ * are never shadowed by stale class files with the same name.
+ */
+
+public class MemoryClassLoader extends ClassLoader {
+
+	/**
+	 * The Java bytecode of the generated classes, for each class name.
+	 */
+
+	private final Map<String, byte[]> classes;
+
+	/**
+	 * Builds a class loader for the given generated classes. Their parent is
+	 * the class loader of the compiler, that provides the runtime support classes.
+	 *
+	 * @param classes the Java bytecode of the generated classes, for each class name
+	 */
+
+	public MemoryClassLoader(Map<String, byte[]> classes) {
+		super(MemoryClassLoader.class.getClassLoader());
+
+		this.classes = classes;
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if (!classes.containsKey(name))
+			return super.loadClass(name, resolve);
+
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> result = findLoadedClass(name);
+			if (result == null)
+				result = findClass(name);
+
+			if (resolve)
+				resolveClass(result);
+
+			return result;
+		}
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		byte[] bytes = classes.get(name);
+		if (bytes == null)
+			throw new ClassNotFoundException(name);
+
+		return defineClass(name, bytes, 0, bytes.length);
+	}
+}
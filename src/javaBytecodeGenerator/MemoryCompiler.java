@@ -0,0 +1,158 @@
+package javaBytecodeGenerator;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import translation.Program;
+import types.ClassType;
+import types.CompilationContext;
+import errorMsg.ErrorMsg;
+
+/**
+ * A compiler of Kitten classes into Java bytecode that is kept in memory.
+ * The sources can be provided as strings or as paths; the classes they
+ * reference and that have not been provided are read from the current
+ * directory, as usual. The generated classes can be run in the same
+ * Java virtual machine, without dumping them on the file system.
+ * <br><br>
+ * Each compilation takes place in its own {@link CompilationContext},
+ * hence it does not interfere with other compilations.
+ */
+
+public class MemoryCompiler {
+
+	/**
+	 * The sources provided so far, for each class name.
+	 */
+
+	private final Map<String, String> sources = new HashMap<>();
+
+	/**
+	 * Provides the source of a Kitten class.
+	 *
+	 * @param className the name of the class
+	 * @param text the source of the class
+	 * @return this compiler
+	 */
+
+	public MemoryCompiler addSource(String className, String text) {
+		sources.put(className, text);
+
+		return this;
+	}
+
+	/**
+	 * Provides the source of a Kitten class, read from the given file.
+	 * The name of the class is that of the file, without the {@code .kit}
+	 * termination.
+	 *
+	 * @param file the file
+	 * @return this compiler
+	 * @throws IOException if the file cannot be read
+	 */
+
+	public MemoryCompiler addSource(Path file) throws IOException {
+		String className = file.getFileName().toString();
+		if (className.endsWith(".kit"))
+			className = className.substring(0, className.length() - 4);
+
+		return addSource(className, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Compiles the given Kitten class and all classes it depends on,
+	 * together with their test classes, if any. The errors are reported
+	 * on the standard output, as usual.
+	 *
+	 * @param className the name of the class
+	 * @return the Java bytecode of the generated classes, for each class name,
+	 *         or {@code null} if the class contains errors
+	 */
+
+	public Map<String, byte[]> compile(String className) {
+		// every compilation starts from scratch
+		CompilationContext context = new CompilationContext();
+		for (Map.Entry<String, String> source : sources.entrySet())
+			context.addSource(source.getKey(), source.getValue());
+
+		CompilationContext.Scope scope = context.enter();
+		try {
+			ClassType clazz = ClassType.mkFromFileName(className);
+			ErrorMsg errorMsg = clazz.getErrorMsg();
+			if (errorMsg == null || errorMsg.anyErrors())
+				return null;
+
+			Program program = clazz.translate();
+			MemoryOutput output = new MemoryOutput();
+			program.setClassOutput(output);
+			program.generateJavaBytecode();
+			program.generateJavaBytecodeForTests(new ArrayList<String>());
+
+			return output.getClasses();
+		}
+		finally {
+			scope.close();
+		}
+	}
+
+	/**
+	 * Compiles the given Kitten class and runs its {@code main} method.
+	 *
+	 * @param className the name of the class
+	 * @param args the arguments passed to {@code main}
+	 * @return true if and only if the class has been compiled and run
+	 * @throws InvocationTargetException if {@code main} throws an exception
+	 * @throws ReflectiveOperationException if {@code main} cannot be invoked
+	 */
+
+	public boolean run(String className, String... args) throws ReflectiveOperationException {
+		Map<String, byte[]> classes = compile(className);
+		if (classes == null)
+			return false;
+
+		invokeMain(new MemoryClassLoader(classes), className, args);
+
+		return true;
+	}
+
+	/**
+	 * Compiles the given Kitten class and runs its tests, through
+	 * the {@code main} method of the generated test class.
+	 *
+	 * @param className the name of the class
+	 * @return true if and only if the class has been compiled and it has tests
+	 * @throws InvocationTargetException if the tests throw an exception
+	 * @throws ReflectiveOperationException if the tests cannot be invoked
+	 */
+
+	public boolean runTests(String className) throws ReflectiveOperationException {
+		Map<String, byte[]> classes = compile(className);
+		if (classes == null || !classes.containsKey(className + "Test"))
+			return false;
+
+		invokeMain(new MemoryClassLoader(classes), className + "Test", new String[0]);
+
+		return true;
+	}
+
+	/**
+	 * Invokes the {@code main} method of a class.
+	 *
+	 * @param loader the class loader of the class
+	 * @param className the name of the class
+	 * @param args the arguments passed to {@code main}
+	 * @throws ReflectiveOperationException if {@code main} cannot be invoked or throws an exception
+	 */
+
+	private static void invokeMain(ClassLoader loader, String className, String[] args) throws ReflectiveOperationException {
+		Method main = loader.loadClass(className).getMethod("main", String[].class);
+		main.invoke(null, (Object) args);
+	}
+}
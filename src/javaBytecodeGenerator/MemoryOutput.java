@@ -0,0 +1,54 @@
+package javaBytecodeGenerator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A destination that keeps the Java bytecode and the binary interfaces
+ * of the generated classes in memory.
+ */
+
+public class MemoryOutput implements ClassOutput {
+
+	/**
+	 * The Java bytecode of the classes written so far, for each class name.
+	 */
+
+	private final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+
+	/**
+	 * The binary interfaces written so far, for each class name.
+	 */
+
+	private final Map<String, byte[]> interfaces = new ConcurrentHashMap<>();
+
+	@Override
+	public void write(String className, byte[] bytes) {
+		classes.put(className, bytes);
+	}
+
+	@Override
+	public void writeInterface(String className, byte[] bytes) {
+		interfaces.put(className, bytes);
+	}
+
+	/**
+	 * Yields the Java bytecode of the classes written so far.
+	 *
+	 * @return a map from the name of each class to its Java bytecode
+	 */
+
+	public Map<String, byte[]> getClasses() {
+		return classes;
+	}
+
+	/**
+	 * Yields the binary interfaces written so far.
+	 *
+	 * @return a map from the name of each class to its binary interface
+	 */
+
+	public Map<String, byte[]> getInterfaces() {
+		return interfaces;
+	}
+}
@@ -133,7 +133,7 @@ public class TestClassGenerator extends GeneralClassGenerator {
 						il.append(InstructionFactory.DUP);
 
 						il.append(this.getFactory().createInvoke(clazztest.getName() + "Test", // name of the class
-								f.getName(), // name of the method
+								f.getName().toString(), // name of the method
 								org.apache.bcel.generic.Type.VOID, // return type
 								new org.apache.bcel.generic.Type[] { clazztest.toBCEL() }, // parameters types
 								Constants.INVOKESTATIC)); // the type of invocation (static, special, ecc.)
@@ -150,14 +150,14 @@ public class TestClassGenerator extends GeneralClassGenerator {
 				il.append(InstructionFactory.POP);
 
 				il.append(this.getFactory().createInvoke(clazztest.getName() + "Test", // name of the class
-						t.getName(), // name of the method
+						t.getName().toString(), // name of the method
 						org.apache.bcel.generic.Type.VOID, // return type
 						new org.apache.bcel.generic.Type[] { clazztest.toBCEL() }, // parameters types
 						Constants.INVOKESTATIC)); // the type of invocation
 
 				il.append(pushTime());
 				
-				il.append(createReport(t.getName()));
+				il.append(createReport(t.getName().toString()));
 			}
 		il.append(InstructionFactory.RETURN);
 
@@ -0,0 +1,145 @@
+package lexical;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import java_cup.runtime.Symbol;
+import metrics.Throughput;
+import syntactical.sym;
+
+/**
+ * A measurement of the throughput of the lexical analysers, in tokens per
+ * second, on the source files of a directory. The lexical analyser generated
+ * through JLex is compared with {@link FastLexer}, both when its tokens are
+ * consumed from the {@link TokenStream} and when they are consumed as the
+ * symbols of CUP that the syntactical analyser reads.
+ * Each token is counted, including the final {@code EOF}, only for the files
+ * that are tokenised without errors, so that all analysers count the same tokens.
+ */
+
+public class Benchmark {
+
+	/**
+	 * The ways of tokenising a source file that are measured.
+	 */
+
+	private enum Analyser {
+
+		/**
+		 * The lexical analyser generated through JLex.
+		 */
+
+		JLEX,
+
+		/**
+		 * The fast lexical analyser, whose tokens are counted in its token stream.
+		 */
+
+		FAST_STREAM,
+
+		/**
+		 * The fast lexical analyser, whose tokens are consumed as CUP symbols.
+		 */
+
+		FAST_SYMBOLS
+	}
+
+	public static void main(String[] args) throws Exception {
+		File dir = new File(args.length > 0 ? args[0] : "testcases");
+		Map<String, String> sources = Throughput.readSources(dir);
+		if (sources == null) {
+			System.out.println("Cannot find the directory " + dir);
+			return;
+		}
+
+		System.out.println("Tokenising " + sources.size() + " files of " + dir);
+		System.out.println("JLex lexer:                      " + measure(sources, Analyser.JLEX));
+		System.out.println("fast lexer, token stream:        " + measure(sources, Analyser.FAST_STREAM));
+		System.out.println("fast lexer, through CUP symbols: " + measure(sources, Analyser.FAST_SYMBOLS));
+	}
+
+	/**
+	 * Measures the throughput of a lexical analyser.
+	 *
+	 * @param sources the texts of the source files, indexed by file name
+	 * @param analyser the lexical analyser
+	 * @return a description of the throughput
+	 * @throws Exception if the measurement fails
+	 */
+
+	private static String measure(Map<String, String> sources, Analyser analyser) throws Exception {
+		return String.format("%,d tokens/s", new Tokenisation(sources, analyser).measure().getOperationsPerSecond());
+	}
+
+	/**
+	 * The tokenisation of all source files with a lexical analyser.
+	 */
+
+	private static class Tokenisation extends Throughput {
+
+		/**
+		 * The texts of the source files, indexed by file name.
+		 */
+
+		private final Map<String, String> sources;
+
+		/**
+		 * The lexical analyser.
+		 */
+
+		private final Analyser analyser;
+
+		private Tokenisation(Map<String, String> sources, Analyser analyser) {
+			this.sources = sources;
+			this.analyser = analyser;
+		}
+
+		/**
+		 * Tokenises all source files once.
+		 *
+		 * @return the number of tokens of the files that are tokenised without errors
+		 * @throws IOException if a source file cannot be read
+		 */
+
+		@Override
+		protected long run() throws IOException {
+			long tokens = 0;
+
+			for (Map.Entry<String, String> source: sources.entrySet()) {
+				StringReader reader = new StringReader(source.getValue());
+
+				try {
+					if (analyser == Analyser.FAST_STREAM) {
+						TokenStream stream = FastLexer.lex(source.getKey(), reader);
+						// the size includes the final EOF
+						if (!stream.hasFailed())
+							tokens += stream.size();
+					}
+					else {
+						TokenSource lexer = analyser == Analyser.JLEX ? new Lexer(source.getKey(), reader)
+							: FastLexer.lex(source.getKey(), reader).asTokenSource();
+
+						// the errors, if any, are never printed
+						lexer.getErrorMsg().defer();
+						long count = 0;
+						Symbol token;
+						do {
+							token = lexer.nextToken();
+							count++;
+						}
+						while (token.sym != sym.EOF);
+
+						tokens += count;
+					}
+				}
+				catch (Error | RuntimeException e) {
+					// the file cannot be tokenised: it is not counted
+				}
+			}
+
+			return tokens;
+		}
+	}
+}
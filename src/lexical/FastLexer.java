@@ -0,0 +1,623 @@
+package lexical;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Arrays;
+
+import errorMsg.ErrorMsg;
+import syntactical.sym;
+
+/**
+ * A hand-written lexical analyser, that recognises the same tokens as
+ * the lexical analyser generated through JLex from {@code resources/Kitten.lex}
+ * and reports the same errors, at the same positions. The source file is
+ * tokenised in one go into a {@link TokenStream} of primitive arrays, hence
+ * no object is allocated for each token. The values of the tokens are built
+ * only when the stream is consumed through its {@link TokenStream#asTokenSource()
+ * adapter} for the syntactical analyser.
+ * <br><br>
+ * The tokens are recognised by a deterministic automaton whose transition table
+ * is indexed by classes of characters rather than by characters, which keeps
+ * it small enough to stay in cache. Identifiers are recognised by the automaton
+ * and then looked up in a perfect hash table of the keywords. Strings and
+ * comments, that need a counter or an accumulator, are scanned by hand.
+ * The characters outside ASCII are unmatched input outside strings and comments,
+ * while a carriage return stops the tokenisation with an error, everywhere,
+ * exactly as it happens with the lexical analyser generated through JLex.
+ */
+
+public final class FastLexer {
+
+	// the classes of characters
+
+	private final static int OTHER = 0;
+	private final static int LETTER = 1;
+	private final static int DIGIT = 2;
+	private final static int UNDERSCORE = 3;
+	private final static int DOT = 4;
+	private final static int BLANK = 5;
+	private final static int NEWLINE = 6;
+	private final static int QUOTE = 7;
+	private final static int SLASH = 8;
+	private final static int STAR = 9;
+	private final static int LBRACK = 10;
+	private final static int RBRACK = 11;
+	private final static int LT = 12;
+	private final static int GT = 13;
+	private final static int EQUALS = 14;
+	private final static int BANG = 15;
+	private final static int COLON = 16;
+	private final static int PUNCTUATION = 17;
+	private final static int CLASSES = 18;
+
+	// the states of the automaton. The initial state is never the target
+	// of a transition, hence it is used to mark the missing transitions
+
+	private final static int S_START = 0;
+	private final static int S_IDENTIFIER = 1;
+	private final static int S_INTEGER = 2;
+	private final static int S_DOT = 3;
+	private final static int S_INTEGER_DOT = 4;
+	private final static int S_FLOATING = 5;
+	private final static int S_BLANK = 6;
+	private final static int S_NEWLINE = 7;
+	private final static int S_QUOTE = 8;
+	private final static int S_SLASH = 9;
+	private final static int S_COMMENT = 10;
+	private final static int S_STAR = 11;
+	private final static int S_UNOPEN = 12;
+	private final static int S_LBRACK = 13;
+	private final static int S_ARRAYSYMBOL = 14;
+	private final static int S_LT = 15;
+	private final static int S_LE = 16;
+	private final static int S_GT = 17;
+	private final static int S_GE = 18;
+	private final static int S_BANG = 19;
+	private final static int S_NEQ = 20;
+	private final static int S_COLON = 21;
+	private final static int S_ASSIGN = 22;
+	private final static int S_PUNCTUATION = 23;
+	private final static int STATES = 24;
+
+	// the actions of the accepting states that do not just yield a token of a
+	// given kind. The other accepting states have the kind of their token as action
+
+	private final static int A_NONE = -1;
+	private final static int A_IDENTIFIER = -2;
+	private final static int A_PUNCTUATION = -3;
+	private final static int A_SKIP = -4;
+	private final static int A_NEWLINE = -5;
+	private final static int A_COMMENT = -6;
+	private final static int A_UNOPEN = -7;
+	private final static int A_STRING = -8;
+
+	/**
+	 * The class of each ASCII character.
+	 */
+
+	private final static byte[] CLASS_OF = new byte[128];
+
+	/**
+	 * The kind of the token made of a single punctuation character.
+	 */
+
+	private final static int[] PUNCTUATION_KIND = new int[128];
+
+	/**
+	 * The transition table of the automaton, indexed by state and class of character.
+	 */
+
+	private final static byte[] NEXT = new byte[STATES * CLASSES];
+
+	/**
+	 * The action of each state, performed when it is the last accepting state reached.
+	 */
+
+	private final static int[] ACTION = new int[STATES];
+
+	/**
+	 * The size of the hash table of the keywords. It is a power of two.
+	 */
+
+	private final static int KEYWORDS_SIZE = 64;
+
+	/**
+	 * The hash table of the keywords. The hash function has been chosen
+	 * so that it has no collision among keywords.
+	 */
+
+	private final static char[][] KEYWORDS = new char[KEYWORDS_SIZE][];
+
+	/**
+	 * The kind of the token of each keyword in {@link #KEYWORDS}.
+	 */
+
+	private final static int[] KEYWORD_KINDS = new int[KEYWORDS_SIZE];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++)
+			CLASS_OF[c] = LETTER;
+		for (char c = 'A'; c <= 'Z'; c++)
+			CLASS_OF[c] = LETTER;
+		for (char c = '0'; c <= '9'; c++)
+			CLASS_OF[c] = DIGIT;
+
+		CLASS_OF['_'] = UNDERSCORE;
+		CLASS_OF['.'] = DOT;
+		CLASS_OF[' '] = CLASS_OF['\t'] = CLASS_OF['\f'] = BLANK;
+		CLASS_OF['\n'] = NEWLINE;
+		CLASS_OF['"'] = QUOTE;
+		CLASS_OF['/'] = SLASH;
+		CLASS_OF['*'] = STAR;
+		CLASS_OF['['] = LBRACK;
+		CLASS_OF[']'] = RBRACK;
+		CLASS_OF['<'] = LT;
+		CLASS_OF['>'] = GT;
+		CLASS_OF['='] = EQUALS;
+		CLASS_OF['!'] = BANG;
+		CLASS_OF[':'] = COLON;
+
+		punctuation(',', sym.COMMA);
+		punctuation(';', sym.SEMICOLON);
+		punctuation('(', sym.LPAREN);
+		punctuation(')', sym.RPAREN);
+		punctuation('{', sym.LBRACE);
+		punctuation('}', sym.RBRACE);
+		punctuation('+', sym.PLUS);
+		punctuation('-', sym.MINUS);
+		punctuation('&', sym.AND);
+		punctuation('|', sym.OR);
+		// these have their own class, since they start longer tokens as well
+		PUNCTUATION_KIND[']'] = sym.RBRACK;
+		PUNCTUATION_KIND['='] = sym.EQ;
+
+		edge(S_START, LETTER, S_IDENTIFIER);
+		edge(S_START, DIGIT, S_INTEGER);
+		edge(S_START, DOT, S_DOT);
+		edge(S_START, BLANK, S_BLANK);
+		edge(S_START, NEWLINE, S_NEWLINE);
+		edge(S_START, QUOTE, S_QUOTE);
+		edge(S_START, SLASH, S_SLASH);
+		edge(S_START, STAR, S_STAR);
+		edge(S_START, LBRACK, S_LBRACK);
+		edge(S_START, RBRACK, S_PUNCTUATION);
+		edge(S_START, LT, S_LT);
+		edge(S_START, GT, S_GT);
+		edge(S_START, EQUALS, S_PUNCTUATION);
+		edge(S_START, BANG, S_BANG);
+		edge(S_START, COLON, S_COLON);
+		edge(S_START, PUNCTUATION, S_PUNCTUATION);
+		edge(S_IDENTIFIER, LETTER, S_IDENTIFIER);
+		edge(S_IDENTIFIER, DIGIT, S_IDENTIFIER);
+		edge(S_IDENTIFIER, UNDERSCORE, S_IDENTIFIER);
+		edge(S_INTEGER, DIGIT, S_INTEGER);
+		edge(S_INTEGER, DOT, S_INTEGER_DOT);
+		edge(S_DOT, DIGIT, S_FLOATING);
+		edge(S_INTEGER_DOT, DIGIT, S_FLOATING);
+		edge(S_FLOATING, DIGIT, S_FLOATING);
+		edge(S_BLANK, BLANK, S_BLANK);
+		edge(S_SLASH, STAR, S_COMMENT);
+		edge(S_STAR, SLASH, S_UNOPEN);
+		edge(S_LBRACK, RBRACK, S_ARRAYSYMBOL);
+		edge(S_LT, EQUALS, S_LE);
+		edge(S_GT, EQUALS, S_GE);
+		edge(S_BANG, EQUALS, S_NEQ);
+		edge(S_COLON, EQUALS, S_ASSIGN);
+
+		Arrays.fill(ACTION, A_NONE);
+		ACTION[S_IDENTIFIER] = A_IDENTIFIER;
+		ACTION[S_INTEGER] = sym.INTEGER;
+		ACTION[S_DOT] = sym.DOT;
+		ACTION[S_FLOATING] = sym.FLOATING;
+		ACTION[S_BLANK] = A_SKIP;
+		ACTION[S_NEWLINE] = A_NEWLINE;
+		ACTION[S_QUOTE] = A_STRING;
+		ACTION[S_SLASH] = sym.DIVIDE;
+		ACTION[S_COMMENT] = A_COMMENT;
+		ACTION[S_STAR] = sym.TIMES;
+		ACTION[S_UNOPEN] = A_UNOPEN;
+		ACTION[S_LBRACK] = sym.LBRACK;
+		ACTION[S_ARRAYSYMBOL] = sym.ARRAYSYMBOL;
+		ACTION[S_LT] = sym.LT;
+		ACTION[S_LE] = sym.LE;
+		ACTION[S_GT] = sym.GT;
+		ACTION[S_GE] = sym.GE;
+		ACTION[S_BANG] = sym.NOT;
+		ACTION[S_NEQ] = sym.NEQ;
+		ACTION[S_ASSIGN] = sym.ASSIGN;
+		ACTION[S_PUNCTUATION] = A_PUNCTUATION;
+
+		keyword("while", sym.WHILE);
+		keyword("for", sym.FOR);
+		keyword("method", sym.METHOD);
+		keyword("field", sym.FIELD);
+		keyword("constructor", sym.CONSTRUCTOR);
+		keyword("if", sym.IF);
+		keyword("then", sym.THEN);
+		keyword("else", sym.ELSE);
+		keyword("as", sym.AS);
+		keyword("nil", sym.NIL);
+		keyword("class", sym.CLASS);
+		keyword("extends", sym.EXTENDS);
+		keyword("new", sym.NEW);
+		keyword("return", sym.RETURN);
+		keyword("boolean", sym.BOOLEAN);
+		keyword("int", sym.INT);
+		keyword("float", sym.FLOAT);
+		keyword("void", sym.VOID);
+		keyword("true", sym.TRUE);
+		keyword("false", sym.FALSE);
+		keyword("test", sym.TEST);
+		keyword("fixture", sym.FIXTURE);
+		keyword("assert", sym.ASSERT);
+	}
+
+	private static void punctuation(char c, int kind) {
+		CLASS_OF[c] = PUNCTUATION;
+		PUNCTUATION_KIND[c] = kind;
+	}
+
+	private static void edge(int from, int characterClass, int to) {
+		NEXT[from * CLASSES + characterClass] = (byte) to;
+	}
+
+	private static void keyword(String keyword, int kind) {
+		char[] chars = keyword.toCharArray();
+		int hash = hash(chars, 0, chars.length);
+		if (KEYWORDS[hash] != null)
+			throw new IllegalStateException("The hash of the keywords has a collision for " + keyword);
+
+		KEYWORDS[hash] = chars;
+		KEYWORD_KINDS[hash] = kind;
+	}
+
+	/**
+	 * The hash function of the keywords. It is perfect on the keywords of Kitten.
+	 *
+	 * @param text the characters
+	 * @param start the position of the first character of the word
+	 * @param end the position after the last character of the word
+	 * @return the hash of the word, between {@code 0} and {@link #KEYWORDS_SIZE} - 1
+	 */
+
+	private static int hash(char[] text, int start, int end) {
+		return (text[start] * 3 + text[end - 1] * 19 + end - start) & (KEYWORDS_SIZE - 1);
+	}
+
+	/**
+	 * The source being tokenised.
+	 */
+
+	private final char[] text;
+
+	/**
+	 * The number of characters of {@link #text} that belong to the source.
+	 */
+
+	private final int length;
+
+	/**
+	 * The error reporting utility of the source file.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The resulting stream of tokens.
+	 */
+
+	private final TokenStream tokens;
+
+	/**
+	 * The number of comments opened and not yet closed.
+	 */
+
+	private int commentCount;
+
+	private FastLexer(char[] text, int length, ErrorMsg errorMsg, String className) {
+		this.text = text;
+		this.length = length;
+		this.errorMsg = errorMsg;
+		this.tokens = new TokenStream(text, errorMsg, className, length / 4 + 16);
+	}
+
+	/**
+	 * Tokenises the source file of a given class.
+	 *
+	 * @param fileName the name of the file to be lexically analysed
+	 *                 (with or without the trailing {@code .kit})
+	 * @return the stream of the tokens of the file
+	 * @throws FileNotFoundException if the source file cannot be found
+	 * @throws IOException if the source file cannot be read
+	 */
+
+	public static TokenStream lex(String fileName) throws IOException {
+		String className = fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName;
+		fileName = className + ".kit";
+		FileInputStream inp;
+
+		try {
+			inp = new FileInputStream(fileName);
+		}
+		catch (FileNotFoundException e) {
+			new ErrorMsg(fileName).error(-1, "Cannot find \"" + fileName + "\"");
+			throw e;
+		}
+
+		try (Reader reader = new InputStreamReader(inp)) {
+			return lex(className, reader);
+		}
+	}
+
+	/**
+	 * Tokenises the source of a given class, read from the given reader
+	 * rather than from the file system.
+	 *
+	 * @param fileName the name of the file to be lexically analysed
+	 *                 (with or without the trailing {@code .kit}).
+	 *                 It is used to report the errors
+	 * @param reader the reader of the source
+	 * @return the stream of the tokens of the source
+	 * @throws IOException if the source cannot be read
+	 */
+
+	public static TokenStream lex(String fileName, Reader reader) throws IOException {
+		String className = fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName;
+
+		char[] text = new char[4096];
+		int length = 0;
+		for (int read; (read = reader.read(text, length, text.length - length)) != -1; )
+			if ((length += read) == text.length)
+				text = Arrays.copyOf(text, text.length * 2);
+
+		FastLexer lexer = new FastLexer(text, length, new ErrorMsg(className + ".kit"), className);
+		lexer.lex();
+
+		return lexer.tokens;
+	}
+
+	/**
+	 * Tokenises the whole source.
+	 */
+
+	private void lex() {
+		int pos = 0;
+
+		while (pos < length && !tokens.hasFailed()) {
+			// we run the automaton as long as possible and take the longest accepted token
+			int state = S_START, action = A_NONE, end = pos;
+			for (int cursor = pos; cursor < length; ) {
+				char c = text[cursor];
+				state = NEXT[state * CLASSES + (c < 128 ? CLASS_OF[c] : OTHER)];
+				if (state == S_START)
+					break;
+
+				cursor++;
+				if (ACTION[state] != A_NONE) {
+					action = ACTION[state];
+					end = cursor;
+				}
+			}
+
+			pos = perform(action, pos, end);
+		}
+
+		if (tokens.hasFailed())
+			return;
+
+		if (commentCount != 0)
+			tokens.error(length, "Unclosed comment");
+
+		tokens.add(sym.EOF, length, length);
+	}
+
+	/**
+	 * Performs the action of the token recognised by the automaton.
+	 *
+	 * @param action the action of the last accepting state reached by the automaton
+	 * @param start the position of the first character of the token
+	 * @param end the position after the last character of the token
+	 * @return the position where the next token starts
+	 */
+
+	private int perform(int action, int start, int end) {
+		switch (action) {
+		case A_NONE:
+			if (text[start] == '\r')
+				// no rule of the JLex specification matches a carriage return
+				tokens.fail();
+			else
+				tokens.error(start, "Unmatched input");
+
+			return start + 1;
+		case A_SKIP:
+			return end;
+		case A_NEWLINE:
+			errorMsg.newline(start);
+			return end;
+		case A_IDENTIFIER:
+			tokens.add(keywordOrIdentifier(start, end), start, end);
+			return end;
+		case A_PUNCTUATION:
+			tokens.add(PUNCTUATION_KIND[text[start]], start, end);
+			return end;
+		case A_COMMENT:
+			commentCount++;
+			return skipComment(end);
+		case A_UNOPEN:
+			tokens.error(start, "Unopen comment");
+			return end;
+		case A_STRING:
+			end = scanString(text, end, length, null, this);
+			if (end <= length)
+				tokens.add(sym.STRING, start, end);
+
+			return end;
+		default:
+			tokens.add(action, start, end);
+			return end;
+		}
+	}
+
+	/**
+	 * Yields the kind of the token of the given word.
+	 *
+	 * @param start the position of the first character of the word
+	 * @param end the position after the last character of the word
+	 * @return the kind of the keyword, if the word is a keyword,
+	 *         and {@code sym.ID} otherwise
+	 */
+
+	private int keywordOrIdentifier(int start, int end) {
+		int hash = hash(text, start, end);
+		char[] keyword = KEYWORDS[hash];
+		if (keyword == null || keyword.length != end - start)
+			return sym.ID;
+
+		for (int pos = 0; pos < keyword.length; pos++)
+			if (keyword[pos] != text[start + pos])
+				return sym.ID;
+
+		return KEYWORD_KINDS[hash];
+	}
+
+	/**
+	 * Skips the rest of a comment, including the comments nested inside it.
+	 *
+	 * @param pos the position after the opening of the comment
+	 * @return the position after the closing of the comment, or the end of the
+	 *         source if the comment is not closed
+	 */
+
+	private int skipComment(int pos) {
+		while (pos < length) {
+			char c = text[pos];
+			if (c == '*' && pos + 1 < length && text[pos + 1] == '/') {
+				pos += 2;
+				if (--commentCount == 0)
+					return pos;
+			}
+			else if (c == '/' && pos + 1 < length && text[pos + 1] == '*') {
+				commentCount++;
+				pos += 2;
+			}
+			else if (c == '\r') {
+				tokens.fail();
+				return length;
+			}
+			else {
+				if (c == '\n')
+					errorMsg.newline(pos);
+
+				pos++;
+			}
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Scans the rest of a string literal, whose opening quote has already been read.
+	 *
+	 * @param text the source
+	 * @param pos the position after the opening quote
+	 * @param length the number of characters of {@code text} that belong to the source
+	 * @param value the accumulator of the value of the string, if it must be computed,
+	 *              and {@code null} otherwise
+	 * @param lexer the lexical analyser that reports the errors and the new lines
+	 *              found in the string, if they must be reported, and {@code null} otherwise
+	 * @return the position after the closing quote or, if the string is not closed,
+	 *         a position beyond {@code length}
+	 */
+
+	static int scanString(char[] text, int pos, int length, StringBuilder value, FastLexer lexer) {
+		while (pos < length) {
+			char c = text[pos];
+
+			if (c == '"')
+				return pos + 1;
+			else if (c == '\r' && lexer != null) {
+				lexer.tokens.fail();
+				break;
+			}
+			else if (c == '\n' && lexer != null)
+				lexer.errorMsg.newline(pos);
+			else if (c == '\\' && pos + 1 < length) {
+				int escape = escape(text, pos, length);
+				if (escape == 2 || escape == 3) {
+					if (value != null)
+						value.append(escape == 3 ? '\'' : text[pos + 1] == 'n' ? '\n' : text[pos + 1] == 't' ? '\t' : text[pos + 1]);
+
+					pos += escape;
+					continue;
+				}
+				else if (escape == 4) {
+					int code = (text[pos + 1] - '0') * 100 + (text[pos + 2] - '0') * 10 + text[pos + 3] - '0';
+					if (code > 255) {
+						if (lexer != null)
+							lexer.tokens.error(pos, "Overflow in ASCII Code");
+					}
+					else if (value != null)
+						value.append((char) code);
+
+					pos += 4;
+					continue;
+				}
+				else if (escape < 0) {
+					// a blank sequence between backslashes is skipped, and its
+					// new lines are not recorded, as in the JLex specification
+					pos -= escape;
+					continue;
+				}
+			}
+
+			if (value != null)
+				value.append(c);
+
+			pos++;
+		}
+
+		return length + 1;
+	}
+
+	/**
+	 * Determines the escape sequence starting with the backslash at the given position.
+	 *
+	 * @param text the source
+	 * @param pos the position of the backslash
+	 * @param length the number of characters of {@code text} that belong to the source
+	 * @return 2 for the escape of a single character, 3 for the escape of a
+	 *         single quote, 4 for an ASCII code,
+	 *         minus the length of a blank sequence between backslashes,
+	 *         and 0 if the backslash is just a backslash
+	 */
+
+	private static int escape(char[] text, int pos, int length) {
+		char next = text[pos + 1];
+		switch (next) {
+		case 'n': case 't': case '"':
+			return 2;
+		case '\\':
+			// the JLex specification reads "\\'" as two backslashes followed by a quote
+			return pos + 2 < length && text[pos + 2] == '\'' ? 3 : 2;
+		case ' ': case '\t': case '\f': case '\n':
+			int end = pos + 2;
+			while (end < length && (text[end] == ' ' || text[end] == '\t' || text[end] == '\f' || text[end] == '\n'))
+				end++;
+
+			return end < length && text[end] == '\\' ? -(end + 1 - pos) : 0;
+		default:
+			if (isDigit(next) && pos + 3 < length && isDigit(text[pos + 2]) && isDigit(text[pos + 3]))
+				return 4;
+
+			return 0;
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
@@ -9,13 +9,20 @@ package lexical;
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
 import java.io.FileInputStream;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import errorMsg.ErrorMsg;
 import syntactical.sym;
 @SuppressWarnings("unused")
 public
 
 
-class Lexer {
+class Lexer implements TokenSource {
 	private final int YY_BUFFER_SIZE = 512;
 	private final int YY_F = -1;
 	private final int YY_NO_STATE = -1;
@@ -103,7 +110,100 @@ public Lexer(String fileName) throws java.io.FileNotFoundException {
     errorMsg.error(-1, "Cannot find \"" + fileName + "\"");
     throw e;
   }
-  yy_reader = new java.io.BufferedReader(new java.io.InputStreamReader(inp));
+  if (!map(inp))
+    yy_reader = new java.io.BufferedReader(new java.io.InputStreamReader(inp));
+}
+/**
+ * Memory-maps the source file and decodes it, in a single pass, straight
+ * into the buffer of this lexical analyser. Hence the buffer never needs
+ * to be refilled, nor grown, nor compacted while the file is analysed.
+ *
+ * @param inp the stream of the source file
+ * @return true if the file has been mapped and decoded, false if it cannot
+ *         be mapped and must be read from {@code inp}, as usual
+ */
+private boolean map(FileInputStream inp) {
+  try {
+    FileChannel channel = inp.getChannel();
+    CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    long size = channel.size();
+    if (size >= (Integer.MAX_VALUE - 1) / decoder.maxCharsPerByte())
+      return false;
+    MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    char[] chars = new char[(int) (size * decoder.maxCharsPerByte()) + 1];
+    CharBuffer decoded = CharBuffer.wrap(chars);
+    if (isAsciiCompatible(decoder.charset()))
+      widenAscii(bytes, decoded);
+    // whatever is not plain ASCII is left to the decoder
+    if (decoder.decode(bytes, decoded, true).isOverflow() || decoder.flush(decoded).isOverflow())
+      return false;
+    yy_buffer = chars;
+    yy_buffer_read = decoded.position();
+    // the whole file is in the buffer: the reader is only asked for more and finds its end
+    yy_reader = new java.io.BufferedReader(new java.io.StringReader(""), 1);
+    inp.close();
+    return true;
+  }
+  catch (java.io.IOException e) {
+    // the file cannot be mapped, for instance since it is not a regular file:
+    // the channel has not been read, hence the stream starts from the beginning
+    return false;
+  }
+}
+/**
+ * Determines if the given charset encodes the ASCII characters as
+ * themselves, each in a single byte.
+ *
+ * @param charset the charset
+ * @return true if and only if that is the case
+ */
+private static boolean isAsciiCompatible(Charset charset) {
+  return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+    || charset.equals(StandardCharsets.ISO_8859_1);
+}
+/**
+ * Widens the bytes of the given buffer into characters, as long as they are
+ * ASCII characters. This is much faster than decoding them from a mapped buffer.
+ * The buffers are left positioned after the widened characters.
+ *
+ * @param bytes the buffer of bytes
+ * @param chars the buffer where the characters are written
+ */
+private static void widenAscii(MappedByteBuffer bytes, CharBuffer chars) {
+  char[] array = chars.array();
+  int pos = chars.position();
+  byte[] chunk = new byte[8192];
+  while (bytes.hasRemaining()) {
+    int length = Math.min(chunk.length, bytes.remaining());
+    bytes.get(chunk, 0, length);
+    for (int i = 0; i < length; i++)
+      if (chunk[i] >= 0)
+        array[pos++] = (char) chunk[i];
+      else {
+        // the rest of the buffer is not widened
+        bytes.position(bytes.position() - length + i);
+        chars.position(pos);
+        return;
+      }
+  }
+  chars.position(pos);
+}
+/**
+ * Creates a lexical analyser for a given class name, whose source is read
+ * from the given reader rather than from the file system.
+ *
+ * @param fileName the name of the file to be lexically analysed
+ *                 (with or without the trailing {@code .kit}).
+ *                 It is used to report the errors
+ * @param reader the reader of the source
+ */
+public Lexer(String fileName, java.io.Reader reader) {
+  this();
+  String className = fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName;
+  errorMsg = new ErrorMsg(className + ".kit");
+  yy_reader = new java.io.BufferedReader(reader);
 }
 // ritorna il simbolo della classe che si sta parsando
 public String parsedClass() {
@@ -582,7 +682,7 @@ String myString = "";
 					case -6:
 						break;
 					case 6:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -7:
 						break;
 					case 7:
@@ -851,7 +951,7 @@ String myString = "";
 					case -72:
 						break;
 					case 73:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -73:
 						break;
 					case 74:
@@ -867,7 +967,7 @@ String myString = "";
 					case -76:
 						break;
 					case 78:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -77:
 						break;
 					case 79:
@@ -875,295 +975,295 @@ String myString = "";
 					case -78:
 						break;
 					case 81:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -79:
 						break;
 					case 83:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -80:
 						break;
 					case 85:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -81:
 						break;
 					case 87:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -82:
 						break;
 					case 88:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -83:
 						break;
 					case 89:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -84:
 						break;
 					case 90:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -85:
 						break;
 					case 91:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -86:
 						break;
 					case 92:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -87:
 						break;
 					case 93:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -88:
 						break;
 					case 94:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -89:
 						break;
 					case 95:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -90:
 						break;
 					case 96:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -91:
 						break;
 					case 97:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -92:
 						break;
 					case 98:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -93:
 						break;
 					case 99:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -94:
 						break;
 					case 100:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -95:
 						break;
 					case 101:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -96:
 						break;
 					case 102:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -97:
 						break;
 					case 103:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -98:
 						break;
 					case 104:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -99:
 						break;
 					case 105:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -100:
 						break;
 					case 106:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -101:
 						break;
 					case 107:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -102:
 						break;
 					case 108:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -103:
 						break;
 					case 109:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -104:
 						break;
 					case 110:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -105:
 						break;
 					case 111:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -106:
 						break;
 					case 112:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -107:
 						break;
 					case 113:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -108:
 						break;
 					case 114:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -109:
 						break;
 					case 115:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -110:
 						break;
 					case 116:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -111:
 						break;
 					case 117:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -112:
 						break;
 					case 118:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -113:
 						break;
 					case 119:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -114:
 						break;
 					case 120:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -115:
 						break;
 					case 121:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -116:
 						break;
 					case 122:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -117:
 						break;
 					case 123:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -118:
 						break;
 					case 124:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -119:
 						break;
 					case 125:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -120:
 						break;
 					case 126:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -121:
 						break;
 					case 127:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -122:
 						break;
 					case 128:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -123:
 						break;
 					case 129:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -124:
 						break;
 					case 130:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -125:
 						break;
 					case 131:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -126:
 						break;
 					case 132:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -127:
 						break;
 					case 133:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -128:
 						break;
 					case 134:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -129:
 						break;
 					case 135:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -130:
 						break;
 					case 136:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -131:
 						break;
 					case 137:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -132:
 						break;
 					case 138:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -133:
 						break;
 					case 139:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -134:
 						break;
 					case 140:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -135:
 						break;
 					case 141:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -136:
 						break;
 					case 142:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -137:
 						break;
 					case 143:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -138:
 						break;
 					case 144:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -139:
 						break;
 					case 145:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -140:
 						break;
 					case 146:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -141:
 						break;
 					case 147:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -142:
 						break;
 					case 148:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -143:
 						break;
 					case 149:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -144:
 						break;
 					case 150:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -145:
 						break;
 					case 151:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -146:
 						break;
 					case 152:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -147:
 						break;
 					case 153:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -148:
 						break;
 					case 154:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -149:
 						break;
 					case 155:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -150:
 						break;
 					case 156:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, symbol.Symbol.of(yytext()));}
 					case -151:
 						break;
 					default:
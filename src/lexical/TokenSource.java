@@ -0,0 +1,41 @@
+package lexical;
+
+import java.io.IOException;
+
+import java_cup.runtime.Symbol;
+import errorMsg.ErrorMsg;
+
+/**
+ * A source of tokens for the syntactical analyser. It is implemented by the
+ * lexical analyser generated through JLex and by the adapter of the primitive
+ * token streams built by {@link FastLexer}.
+ */
+
+public interface TokenSource {
+
+	/**
+	 * Yields the next token of the source file.
+	 *
+	 * @return the next token. At the end of the file, this is a token
+	 *         of kind {@code sym.EOF}
+	 * @throws IOException if the source file cannot be read
+	 */
+
+	Symbol nextToken() throws IOException;
+
+	/**
+	 * Yields the error reporting utility used during the lexical analysis.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	ErrorMsg getErrorMsg();
+
+	/**
+	 * Yields the name of the class whose source file is tokenised.
+	 *
+	 * @return the name of the class
+	 */
+
+	String parsedClass();
+}
@@ -0,0 +1,324 @@
+package lexical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+import errorMsg.ErrorMsg;
+import syntactical.sym;
+
+/**
+ * The tokens of a source file, as built by {@link FastLexer}. They are kept in
+ * parallel arrays of primitive values, holding the kind of each token, as
+ * enumerated in {@code syntactical/sym.java}, and the positions of its first
+ * character and after its last character in the source file. The value of
+ * a token is computed from the source only when it is needed.
+ * <br><br>
+ * The lexical errors are reported only when the stream is consumed through
+ * {@link #asTokenSource()}, when the token that follows them is read, so that
+ * they are interleaved with the syntactical errors as if the source file
+ * were tokenised on demand. The same holds for a failure of the tokenisation.
+ */
+
+public final class TokenStream {
+
+	/**
+	 * The source file.
+	 */
+
+	private final char[] text;
+
+	/**
+	 * The error reporting utility of the source file.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The name of the class whose source file has been tokenised.
+	 */
+
+	private final String className;
+
+	/**
+	 * The kind of each token.
+	 */
+
+	private int[] kinds;
+
+	/**
+	 * The position of the first character of each token.
+	 */
+
+	private int[] starts;
+
+	/**
+	 * The position after the last character of each token.
+	 */
+
+	private int[] ends;
+
+	/**
+	 * The number of tokens.
+	 */
+
+	private int size;
+
+	/**
+	 * The lexical errors, in order of position.
+	 */
+
+	private final List<Diagnostic> errors = new ArrayList<>();
+
+	/**
+	 * The index of the token where the tokenisation failed, or -1 if it did not fail.
+	 */
+
+	private int failure = -1;
+
+	/**
+	 * Builds an empty stream of tokens.
+	 *
+	 * @param text the source file
+	 * @param errorMsg the error reporting utility of the source file
+	 * @param className the name of the class whose source file is tokenised
+	 * @param capacity the expected number of tokens
+	 */
+
+	TokenStream(char[] text, ErrorMsg errorMsg, String className, int capacity) {
+		this.text = text;
+		this.errorMsg = errorMsg;
+		this.className = className;
+		this.kinds = new int[capacity];
+		this.starts = new int[capacity];
+		this.ends = new int[capacity];
+	}
+
+	/**
+	 * Adds a token at the end of this stream.
+	 *
+	 * @param kind the kind of the token
+	 * @param start the position of the first character of the token
+	 * @param end the position after the last character of the token
+	 */
+
+	void add(int kind, int start, int end) {
+		if (size == kinds.length) {
+			kinds = Arrays.copyOf(kinds, size * 2);
+			starts = Arrays.copyOf(starts, size * 2);
+			ends = Arrays.copyOf(ends, size * 2);
+		}
+
+		kinds[size] = kind;
+		starts[size] = start;
+		ends[size++] = end;
+	}
+
+	/**
+	 * Records a lexical error before the next token that will be added to this stream.
+	 *
+	 * @param pos the position where the error must be reported
+	 * @param msg the message to be reported
+	 */
+
+	void error(int pos, String msg) {
+		errors.add(new Diagnostic(size, pos, msg));
+	}
+
+	/**
+	 * Records that the tokenisation failed before the next token that would
+	 * have been added to this stream. No token is added after this call.
+	 */
+
+	void fail() {
+		failure = size;
+	}
+
+	/**
+	 * Determines if the tokenisation failed.
+	 *
+	 * @return true if and only if it failed
+	 */
+
+	boolean hasFailed() {
+		return failure >= 0;
+	}
+
+	/**
+	 * Yields the number of tokens in this stream, including the final {@code EOF}.
+	 *
+	 * @return the number of tokens
+	 */
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Yields the kind of the given token.
+	 *
+	 * @param token the index of the token
+	 * @return the kind, as enumerated in {@code syntactical/sym.java}
+	 */
+
+	public int getKind(int token) {
+		return kinds[token];
+	}
+
+	/**
+	 * Yields the position of the first character of the given token.
+	 *
+	 * @param token the index of the token
+	 * @return the position, from the beginning of the source file
+	 */
+
+	public int getStart(int token) {
+		return starts[token];
+	}
+
+	/**
+	 * Yields the position after the last character of the given token.
+	 * For strings, this includes the closing quote.
+	 *
+	 * @param token the index of the token
+	 * @return the position, from the beginning of the source file
+	 */
+
+	public int getEnd(int token) {
+		return ends[token];
+	}
+
+	/**
+	 * Yields the error reporting utility of the source file.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	public ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Yields the lexical value of the given token, as the lexical analyser
+	 * generated through JLex computes it.
+	 *
+	 * @param token the index of the token
+	 * @return the symbol of an identifier, the value of a string, of an integer
+	 *         or of a floating point constant, and {@code null} for the other tokens
+	 * @throws NumberFormatException if the token is an integer constant too big
+	 *                               to be represented
+	 */
+
+	public Object getValue(int token) {
+		int start = starts[token], end = ends[token];
+
+		switch (kinds[token]) {
+		case sym.ID:
+			return symbol.Symbol.of(new String(text, start, end - start));
+		case sym.INTEGER:
+			return Integer.valueOf(new String(text, start, end - start));
+		case sym.FLOATING:
+			return Float.valueOf(new String(text, start, end - start));
+		case sym.STRING:
+			StringBuilder value = new StringBuilder();
+			FastLexer.scanString(text, start + 1, end, value, null);
+			return value.toString();
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Yields an adapter that provides the tokens of this stream, from the first,
+	 * to the syntactical analyser. The tokens have the same positions as those
+	 * of the lexical analyser generated through JLex.
+	 *
+	 * @return the adapter
+	 */
+
+	public TokenSource asTokenSource() {
+		return new Adapter();
+	}
+
+	/**
+	 * A lexical error found during the tokenisation.
+	 */
+
+	private static class Diagnostic {
+
+		/**
+		 * The index of the token before which the error must be reported.
+		 */
+
+		private final int token;
+
+		/**
+		 * The position of the error.
+		 */
+
+		private final int pos;
+
+		/**
+		 * The message of the error.
+		 */
+
+		private final String msg;
+
+		private Diagnostic(int token, int pos, String msg) {
+			this.token = token;
+			this.pos = pos;
+			this.msg = msg;
+		}
+	}
+
+	/**
+	 * The adapter of this stream for the syntactical analyser.
+	 */
+
+	private class Adapter implements TokenSource {
+
+		/**
+		 * The index of the next token.
+		 */
+
+		private int next;
+
+		/**
+		 * The index of the next error to report.
+		 */
+
+		private int nextError;
+
+		@Override
+		public Symbol nextToken() {
+			// after the end of the stream, the last token is repeated
+			int token = hasFailed() ? Math.min(next++, failure) : Math.min(next++, size - 1);
+
+			while (nextError < errors.size() && errors.get(nextError).token <= token) {
+				Diagnostic error = errors.get(nextError++);
+				errorMsg.error(error.pos, error.msg);
+			}
+
+			if (token == failure)
+				// as the lexical analyser generated through JLex does
+				throw new Error("Lexical Error: Unmatched Input.");
+
+			// strings are positioned at their closing quote
+			int kind = kinds[token];
+			int start = kind == sym.STRING ? ends[token] - 1 : starts[token];
+
+			return new Symbol(kind, start, ends[token], getValue(token));
+		}
+
+		@Override
+		public ErrorMsg getErrorMsg() {
+			return errorMsg;
+		}
+
+		@Override
+		public String parsedClass() {
+			return className;
+		}
+	}
+}
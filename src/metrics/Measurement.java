@@ -0,0 +1,112 @@
+package metrics;
+
+/**
+ * The resources used by a phase of the compilation, accumulated over
+ * all the times that the phase has been run.
+ */
+
+public class Measurement {
+
+	/**
+	 * The number of times that the phase has been run.
+	 */
+
+	private long count;
+
+	/**
+	 * The elapsed time, in nanoseconds.
+	 */
+
+	private long wallNanos;
+
+	/**
+	 * The CPU time, in nanoseconds.
+	 */
+
+	private long cpuNanos;
+
+	/**
+	 * The bytes allocated in the heap.
+	 */
+
+	private long allocatedBytes;
+
+	/**
+	 * Takes note of a run of the phase.
+	 *
+	 * @param wallNanos the elapsed time of the run, in nanoseconds
+	 * @param cpuNanos the CPU time of the run, in nanoseconds
+	 * @param allocatedBytes the bytes allocated in the heap by the run
+	 */
+
+	public synchronized void add(long wallNanos, long cpuNanos, long allocatedBytes) {
+		this.count++;
+		this.wallNanos += wallNanos;
+		this.cpuNanos += cpuNanos;
+		this.allocatedBytes += allocatedBytes;
+	}
+
+	/**
+	 * Adds the resources accumulated in another measurement to this measurement.
+	 *
+	 * @param other the other measurement
+	 */
+
+	public void add(Measurement other) {
+		long count, wallNanos, cpuNanos, allocatedBytes;
+
+		synchronized (other) {
+			count = other.count;
+			wallNanos = other.wallNanos;
+			cpuNanos = other.cpuNanos;
+			allocatedBytes = other.allocatedBytes;
+		}
+
+		synchronized (this) {
+			this.count += count;
+			this.wallNanos += wallNanos;
+			this.cpuNanos += cpuNanos;
+			this.allocatedBytes += allocatedBytes;
+		}
+	}
+
+	/**
+	 * Yields the number of times that the phase has been run.
+	 *
+	 * @return the number of runs
+	 */
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * Yields the elapsed time of the phase.
+	 *
+	 * @return the elapsed time, in nanoseconds
+	 */
+
+	public synchronized long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * Yields the CPU time of the phase.
+	 *
+	 * @return the CPU time, in nanoseconds
+	 */
+
+	public synchronized long getCpuNanos() {
+		return cpuNanos;
+	}
+
+	/**
+	 * Yields the bytes allocated in the heap by the phase.
+	 *
+	 * @return the allocated bytes
+	 */
+
+	public synchronized long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+}
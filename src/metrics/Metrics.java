@@ -0,0 +1,377 @@
+package metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The metrics of the compilation of Kitten programs. For each phase of the
+ * compilation and for each class, they report the elapsed time, the CPU time
+ * and the bytes allocated in the heap. Phases can be nested: for instance,
+ * the parser drives the lexical analysis. In that case, the resources used by
+ * the nested phase are reported for that phase only, not for the enclosing one.
+ * <br><br>
+ * The metrics are collected only if they are enabled. They can be exported
+ * in JSON or CSV format, or through JMX.
+ */
+
+public class Metrics implements MetricsMBean {
+
+	/**
+	 * The name of the metrics, when they are registered in the platform MBean server.
+	 */
+
+	public final static String OBJECT_NAME = "kitten:type=CompilerMetrics";
+
+	/**
+	 * The bean used to measure the CPU time of the current thread.
+	 */
+
+	private final static ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	/**
+	 * The bean used to measure the bytes allocated by the current thread,
+	 * or {@code null} if this virtual machine does not provide it.
+	 */
+
+	private final static com.sun.management.ThreadMXBean allocations =
+		threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threads : null;
+
+	/**
+	 * The innermost timer running in each thread.
+	 */
+
+	private final static ThreadLocal<Timer> running = new ThreadLocal<>();
+
+	/**
+	 * The timer returned when the metrics are not enabled. It measures nothing.
+	 */
+
+	private final static Timer NONE = new Timer(null, null);
+
+	/**
+	 * True if and only if the metrics are being collected.
+	 */
+
+	private volatile boolean enabled;
+
+	/**
+	 * The measurements for each phase, from class name to measurement.
+	 */
+
+	private final Map<Phase, ConcurrentMap<String, Measurement>> measurements = new EnumMap<>(Phase.class);
+
+	/**
+	 * Builds the metrics of a compilation. They are initially not enabled.
+	 */
+
+	public Metrics() {
+		for (Phase phase: Phase.values())
+			measurements.put(phase, new ConcurrentHashMap<String, Measurement>());
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Yields the measurement of the given phase for the given class.
+	 *
+	 * @param phase the phase
+	 * @param className the name of the class
+	 * @return the measurement, that is created if it does not exist yet
+	 */
+
+	public Measurement get(Phase phase, String className) {
+		ConcurrentMap<String, Measurement> map = measurements.get(phase);
+		Measurement result = map.get(className);
+		if (result == null) {
+			// measurements can be created by phases running in parallel
+			Measurement previous = map.putIfAbsent(className, result = new Measurement());
+			if (previous != null)
+				result = previous;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Starts measuring the given phase for the given class. The measure
+	 * stops when the resulting timer is closed, which must happen in the
+	 * same thread.
+	 *
+	 * @param phase the phase
+	 * @param className the name of the class
+	 * @return the timer that performs the measure
+	 */
+
+	public Timer start(Phase phase, String className) {
+		return enabled ? new Timer(get(phase, className), running.get()) : NONE;
+	}
+
+	/**
+	 * Starts a measure that is accumulated into the given measurement.
+	 * This is useful for phases that run very often, such as the lexical
+	 * analysis of each token, since the measurement can be looked up once.
+	 *
+	 * @param measurement the measurement, possibly {@code null}, in which
+	 *                    case nothing is measured
+	 * @return the timer that performs the measure
+	 */
+
+	public Timer start(Measurement measurement) {
+		return enabled && measurement != null ? new Timer(measurement, running.get()) : NONE;
+	}
+
+	/**
+	 * Yields the total measurement of the given phase, for all classes.
+	 *
+	 * @param phase the phase
+	 * @return the total measurement
+	 */
+
+	public Measurement total(Phase phase) {
+		Measurement result = new Measurement();
+		for (Measurement measurement: measurements.get(phase).values())
+			result.add(measurement);
+
+		return result;
+	}
+
+	@Override
+	public long getWallNanos(String phase) {
+		return total(phaseNamed(phase)).getWallNanos();
+	}
+
+	@Override
+	public long getCpuNanos(String phase) {
+		return total(phaseNamed(phase)).getCpuNanos();
+	}
+
+	@Override
+	public long getAllocatedBytes(String phase) {
+		return total(phaseNamed(phase)).getAllocatedBytes();
+	}
+
+	private static Phase phaseNamed(String name) {
+		Phase phase = Phase.of(name);
+		if (phase == null)
+			throw new IllegalArgumentException("Unknown phase " + name);
+
+		return phase;
+	}
+
+	@Override
+	public void reset() {
+		for (ConcurrentMap<String, Measurement> map: measurements.values())
+			map.clear();
+	}
+
+	@Override
+	public String getJson() {
+		StringBuilder sb = new StringBuilder("{\n  \"phases\": [");
+
+		String separator = "\n";
+		for (Phase phase: Phase.values()) {
+			sb.append(separator).append("    {\"phase\": \"").append(phase).append("\", ");
+			json(sb, total(phase));
+			sb.append(", \"classes\": [");
+
+			String classSeparator = "\n";
+			for (Map.Entry<String, Measurement> entry: sorted(phase).entrySet()) {
+				sb.append(classSeparator).append("      {\"class\": \"").append(escape(entry.getKey())).append("\", ");
+				json(sb, entry.getValue());
+				sb.append('}');
+				classSeparator = ",\n";
+			}
+
+			sb.append(classSeparator.equals("\n") ? "]}" : "\n    ]}");
+			separator = ",\n";
+		}
+
+		return sb.append("\n  ]\n}\n").toString();
+	}
+
+	private static void json(StringBuilder sb, Measurement measurement) {
+		sb.append("\"count\": ").append(measurement.getCount())
+			.append(", \"wallNanos\": ").append(measurement.getWallNanos())
+			.append(", \"cpuNanos\": ").append(measurement.getCpuNanos())
+			.append(", \"allocatedBytes\": ").append(measurement.getAllocatedBytes());
+	}
+
+	private static String escape(String s) {
+		return s.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	@Override
+	public String getCsv() {
+		StringBuilder sb = new StringBuilder("phase,class,count,wallNanos,cpuNanos,allocatedBytes\n");
+
+		for (Phase phase: Phase.values())
+			for (Map.Entry<String, Measurement> entry: sorted(phase).entrySet()) {
+				Measurement measurement = entry.getValue();
+				sb.append(phase).append(',').append(entry.getKey())
+					.append(',').append(measurement.getCount())
+					.append(',').append(measurement.getWallNanos())
+					.append(',').append(measurement.getCpuNanos())
+					.append(',').append(measurement.getAllocatedBytes()).append('\n');
+			}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Yields the measurements of the given phase, sorted by class name,
+	 * so that the exported metrics do not depend on the order of the phases.
+	 *
+	 * @param phase the phase
+	 * @return the measurements, from class name to measurement
+	 */
+
+	private SortedMap<String, Measurement> sorted(Phase phase) {
+		return new TreeMap<>(measurements.get(phase));
+	}
+
+	/**
+	 * Writes the metrics into the given file. They are written in CSV format
+	 * if the name of the file ends with {@code .csv}, and in JSON format otherwise.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file cannot be written
+	 */
+
+	public void writeTo(File file) throws IOException {
+		try (Writer writer = new FileWriter(file)) {
+			writer.write(file.getName().endsWith(".csv") ? getCsv() : getJson());
+		}
+	}
+
+	/**
+	 * Registers these metrics in the platform MBean server, with name
+	 * {@link #OBJECT_NAME}. They replace the metrics registered before, if any.
+	 *
+	 * @throws JMException if the registration fails
+	 */
+
+	public void register() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if (server.isRegistered(name))
+			server.unregisterMBean(name);
+
+		server.registerMBean(this, name);
+	}
+
+	/**
+	 * Yields the CPU time used by the current thread.
+	 *
+	 * @return the CPU time, in nanoseconds, or 0 if it cannot be measured
+	 */
+
+	private static long cpuTime() {
+		return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0L;
+	}
+
+	/**
+	 * Yields the bytes allocated in the heap by the current thread.
+	 *
+	 * @return the allocated bytes, or 0 if they cannot be measured
+	 */
+
+	private static long allocatedBytes() {
+		return allocations != null ? allocations.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+	}
+
+	/**
+	 * A running measure of a phase. The resources used by the measures
+	 * started and closed while this one is running are not accumulated
+	 * into this measure.
+	 */
+
+	public final static class Timer implements AutoCloseable {
+
+		/**
+		 * The measurement where the resources used are accumulated,
+		 * or {@code null} if nothing is measured.
+		 */
+
+		private final Measurement measurement;
+
+		/**
+		 * The timer that was running in the same thread when this one
+		 * was started, if any.
+		 */
+
+		private final Timer parent;
+
+		/**
+		 * The resources used by the current thread when this timer was started.
+		 */
+
+		private final long wallNanos, cpuNanos, allocatedBytes;
+
+		/**
+		 * The resources used by the timers nested inside this one.
+		 */
+
+		private long nestedWallNanos, nestedCpuNanos, nestedAllocatedBytes;
+
+		private Timer(Measurement measurement, Timer parent) {
+			this.measurement = measurement;
+			this.parent = parent;
+
+			if (measurement != null) {
+				running.set(this);
+				this.allocatedBytes = allocatedBytes();
+				this.cpuNanos = cpuTime();
+				this.wallNanos = System.nanoTime();
+			}
+			else
+				this.allocatedBytes = this.cpuNanos = this.wallNanos = 0L;
+		}
+
+		/**
+		 * Stops this measure and accumulates the resources used into its measurement.
+		 */
+
+		@Override
+		public void close() {
+			if (measurement == null)
+				return;
+
+			long wallNanos = System.nanoTime() - this.wallNanos;
+			long cpuNanos = cpuTime() - this.cpuNanos;
+			long allocatedBytes = allocatedBytes() - this.allocatedBytes;
+
+			measurement.add(wallNanos - nestedWallNanos, cpuNanos - nestedCpuNanos, allocatedBytes - nestedAllocatedBytes);
+
+			if (parent != null) {
+				parent.nestedWallNanos += wallNanos;
+				parent.nestedCpuNanos += cpuNanos;
+				parent.nestedAllocatedBytes += allocatedBytes;
+				running.set(parent);
+			}
+			else
+				running.remove();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package metrics;
+
+/**
+ * The management interface of the metrics of the compilation, as exported through JMX.
+ */
+
+public interface MetricsMBean {
+
+	/**
+	 * Determines if the metrics are being collected.
+	 *
+	 * @return true if and only if the metrics are being collected
+	 */
+
+	boolean isEnabled();
+
+	/**
+	 * Starts or stops the collection of the metrics.
+	 *
+	 * @param enabled true if the metrics must be collected from now on
+	 */
+
+	void setEnabled(boolean enabled);
+
+	/**
+	 * Yields the metrics collected so far, in JSON format.
+	 *
+	 * @return the metrics
+	 */
+
+	String getJson();
+
+	/**
+	 * Yields the metrics collected so far, in CSV format.
+	 *
+	 * @return the metrics
+	 */
+
+	String getCsv();
+
+	/**
+	 * Yields the elapsed time of a phase, for all classes.
+	 *
+	 * @param phase the name of the phase
+	 * @return the elapsed time, in nanoseconds
+	 */
+
+	long getWallNanos(String phase);
+
+	/**
+	 * Yields the CPU time of a phase, for all classes.
+	 *
+	 * @param phase the name of the phase
+	 * @return the CPU time, in nanoseconds
+	 */
+
+	long getCpuNanos(String phase);
+
+	/**
+	 * Yields the bytes allocated in the heap by a phase, for all classes.
+	 *
+	 * @param phase the name of the phase
+	 * @return the allocated bytes
+	 */
+
+	long getAllocatedBytes(String phase);
+
+	/**
+	 * Forgets the metrics collected so far.
+	 */
+
+	void reset();
+}
@@ -0,0 +1,81 @@
+package metrics;
+
+/**
+ * A phase of the compilation of a Kitten program.
+ */
+
+public enum Phase {
+
+	/**
+	 * The lexical analysis of the source files.
+	 */
+
+	LEX("lex"),
+
+	/**
+	 * The syntactical analysis of the source files, without
+	 * the lexical analysis that it drives.
+	 */
+
+	PARSE("parse"),
+
+	/**
+	 * The construction of the members of the classes and their type-checking.
+	 */
+
+	TYPE_CHECK("type-check"),
+
+	/**
+	 * The translation of the abstract syntax into Kitten bytecode.
+	 */
+
+	TRANSLATE("translate"),
+
+	/**
+	 * The clean-up of the Kitten bytecode.
+	 */
+
+	CLEAN_UP("cleanUp"),
+
+	/**
+	 * The generation of the Java bytecode.
+	 */
+
+	CODEGEN("codegen"),
+
+	/**
+	 * The output of the generated code, in Java bytecode or in dot format.
+	 */
+
+	DUMP("dump");
+
+	/**
+	 * The name of this phase, as it is exported.
+	 */
+
+	private final String name;
+
+	private Phase(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	/**
+	 * Yields the phase with the given name.
+	 *
+	 * @param name the name of the phase, as it is exported
+	 * @return the phase, or {@code null} if there is no phase with that name
+	 */
+
+	public static Phase of(String name) {
+		for (Phase phase: values())
+			if (phase.name.equals(name))
+				return phase;
+
+		return null;
+	}
+}
@@ -0,0 +1,141 @@
+package metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The throughput of a piece of the compiler, for the benchmarks of its packages.
+ * The piece is run repeatedly for some seconds, to warm up the Java virtual
+ * machine, and then measured while it is run repeatedly for some more seconds.
+ * Subclasses specify how the piece is run once and how many operations,
+ * such as tokens or declarations, it performs.
+ */
+
+public abstract class Throughput {
+
+	/**
+	 * The time spent to warm up the Java virtual machine, in nanoseconds.
+	 */
+
+	private final static long WARMUP_NANOS = 2_000_000_000L;
+
+	/**
+	 * The minimal time of the measurement, in nanoseconds.
+	 */
+
+	private final static long MEASUREMENT_NANOS = 3_000_000_000L;
+
+	/**
+	 * The number of operations performed during the measurement.
+	 */
+
+	private long operations;
+
+	/**
+	 * The elapsed time of the measurement, in nanoseconds.
+	 */
+
+	private long elapsed;
+
+	/**
+	 * The bytes allocated in the heap during the measurement.
+	 */
+
+	private long allocated;
+
+	/**
+	 * Runs the measured piece of the compiler once.
+	 *
+	 * @return the number of operations performed
+	 * @throws Exception if the piece of the compiler fails
+	 */
+
+	protected abstract long run() throws Exception;
+
+	/**
+	 * Warms up the Java virtual machine and then measures the throughput.
+	 *
+	 * @return this throughput, as measured
+	 * @throws Exception if the measured piece of the compiler fails
+	 */
+
+	public final Throughput measure() throws Exception {
+		for (long start = System.nanoTime(); System.nanoTime() - start < WARMUP_NANOS; )
+			run();
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long allocated = threads.getThreadAllocatedBytes(thread);
+		long operations = 0, start = System.nanoTime(), elapsed;
+		do {
+			operations += run();
+			elapsed = System.nanoTime() - start;
+		}
+		while (elapsed < MEASUREMENT_NANOS);
+
+		this.allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+		this.operations = operations;
+		this.elapsed = elapsed;
+
+		return this;
+	}
+
+	/**
+	 * Yields the number of operations performed per second.
+	 *
+	 * @return the number of operations
+	 */
+
+	public long getOperationsPerSecond() {
+		return (long) (operations * 1e9 / elapsed);
+	}
+
+	/**
+	 * Yields the time spent per operation.
+	 *
+	 * @return the time, in nanoseconds
+	 */
+
+	public long getNanosPerOperation() {
+		return elapsed / operations;
+	}
+
+	/**
+	 * Yields the bytes allocated in the heap per operation.
+	 *
+	 * @return the number of bytes
+	 */
+
+	public long getBytesPerOperation() {
+		return allocated / operations;
+	}
+
+	/**
+	 * Reads the Kitten source files of a directory, that the benchmarks use as input.
+	 *
+	 * @param dir the directory
+	 * @return the texts of the source files, indexed by file name, in alphabetical
+	 *         order of file name, or {@code null} if the directory cannot be found
+	 * @throws IOException if a source file cannot be read
+	 */
+
+	public static Map<String, String> readSources(File dir) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null)
+			return null;
+
+		Arrays.sort(files);
+		Map<String, String> result = new LinkedHashMap<>();
+		for (File file: files)
+			if (file.getName().endsWith(".kit"))
+				result.put(file.getName(), new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset()));
+
+		return result;
+	}
+}
@@ -1,8 +1,10 @@
 package semantical;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import types.ClassType;
+import types.CompilationContext;
 import errorMsg.ErrorMsg;
 
 public class Main {
@@ -12,14 +14,24 @@ public class Main {
 			return;
 		}
 
-		// we build the class type for the file name passed as a parameter.
-		// This triggers type-checking of that class and all those referenced from it
-		ErrorMsg errorMsg = ClassType.mkFromFileName(args[0]).getErrorMsg();
+		// if required, the abstract syntax of the unchanged source files is
+		// loaded from their cache rather than parsing them again
+		if (System.getProperty("kitten.syntaxCache") != null)
+			CompilationContext.current().setSyntaxCache(true);
+
+		// we build the class types for the file names passed as parameters, whose
+		// source files are parsed in parallel. This triggers type-checking of those
+		// classes and all those referenced from them
+		boolean anyErrors = false;
+		for (ClassType clazz: ClassType.mkFromFileNames(Arrays.asList(args))) {
+			ErrorMsg errorMsg = clazz.getErrorMsg();
+			anyErrors |= errorMsg == null || errorMsg.anyErrors();
+		}
 
 		System.out.println("End of the semantical analysis");
 
 		// we dump the set of classes that have been created
-		if (errorMsg != null && !errorMsg.anyErrors())
+		if (!anyErrors)
 			for (ClassType clazz: ClassType.getAll())
 				try {
 					clazz.dumpDot();
@@ -0,0 +1,141 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Set;
+
+import javax.management.JMException;
+
+import metrics.Metrics;
+
+import types.ClassType;
+import types.CompilationContext;
+
+/**
+ * A compilation server. It serves requests for the compilation of Kitten
+ * classes, one at a time, inside the same Java virtual machine. The class
+ * types built for a compilation are kept for the subsequent ones, so that
+ * only the classes whose source has changed (and those depending on them)
+ * are parsed and type-checked again.
+ * <br><br>
+ * Each request is a line of text:
+ * <ul>
+ * <li> {@code compile C.kit} compiles class {@code C} into Java bytecode,
+ *      exactly as {@link javaBytecodeGenerator.Main} does;
+ * <li> {@code metrics} prints the resources used by each phase of the
+ *      compilations served so far, in JSON format;
+ * <li> {@code quit} stops the server.
+ * </ul>
+ * The same metrics are exported through JMX, with name {@link Metrics#OBJECT_NAME}.
+ * The output of every compilation is followed by a line containing
+ * {@code done}, or {@code error} if the request could not be understood.
+ */
+
+public class CompileServer {
+
+	/**
+	 * The line that terminates the reply to every request.
+	 */
+
+	public final static String DONE = "done";
+
+	/**
+	 * The line that terminates the reply to a request that is not understood.
+	 */
+
+	public final static String ERROR = "error";
+
+	/**
+	 * The compilation context shared by all compilations served by this server.
+	 */
+
+	private final CompilationContext context = new CompilationContext();
+
+	/**
+	 * Builds a compilation server. It collects the metrics of its
+	 * compilations and registers them in the platform MBean server.
+	 */
+
+	public CompileServer() {
+		Metrics metrics = context.getMetrics();
+		metrics.setEnabled(true);
+
+		try {
+			metrics.register();
+		}
+		catch (JMException e) {
+			System.err.println("Could not register the compiler metrics: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Serves the requests read from the given input, until it is exhausted
+	 * or a {@code quit} request is found.
+	 *
+	 * @param in where the requests are read from
+	 * @param out where the output of the compilations is written
+	 * @return true if a {@code quit} request has been found, false if
+	 *         the input has been exhausted
+	 * @throws IOException if the requests cannot be read
+	 */
+
+	public boolean serve(BufferedReader in, PrintStream out) throws IOException {
+		String line;
+
+		while ((line = in.readLine()) != null) {
+			line = line.trim();
+
+			if (line.equals("quit"))
+				return true;
+			else if (line.equals("metrics")) {
+				out.print(context.getMetrics().getJson());
+				out.println(DONE);
+			}
+			else if (line.startsWith("compile ") && line.length() > "compile ".length())
+				compile(line.substring("compile ".length()).trim(), out);
+			else if (!line.isEmpty()) {
+				out.println("Unknown request: " + line);
+				out.println(ERROR);
+			}
+
+			out.flush();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compiles a Kitten class into Java bytecode, reusing the classes built
+	 * by previous compilations whose source has not changed.
+	 *
+	 * @param fileName the name of the file of the class, including the
+	 *                 {@code .kit} termination
+	 * @param out where the output of the compilation is written
+	 */
+
+	private void compile(String fileName, PrintStream out) {
+		// the compiler reports on the standard output: we redirect it
+		// to the client for the duration of the compilation
+		PrintStream stdout = System.out;
+		System.setOut(out);
+
+		CompilationContext.Scope scope = context.enter();
+		try {
+			Set<String> invalidated = ClassType.invalidateChanged();
+			if (!invalidated.isEmpty())
+				out.println("Rebuilding " + invalidated);
+
+			javaBytecodeGenerator.Main.main(new String[] { fileName });
+		}
+		catch (RuntimeException e) {
+			out.println("Compilation failed: " + e);
+		}
+		finally {
+			scope.close();
+			System.setOut(stdout);
+		}
+
+		out.println(DONE);
+	}
+}
@@ -0,0 +1,42 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+public class Main {
+	public static void main(String[] args) throws IOException {
+		CompileServer server = new CompileServer();
+
+		// without a port, the requests are read from the standard input
+		if (args.length == 0) {
+			server.serve(new BufferedReader(new InputStreamReader(System.in)), System.out);
+			return;
+		}
+
+		int port;
+		try {
+			port = Integer.parseInt(args[0]);
+		}
+		catch (NumberFormatException e) {
+			System.out.println("You must specify the port where the server listens");
+			return;
+		}
+
+		// we only accept connections from the local machine
+		try (ServerSocket socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+			System.out.println("Kitten compilation server listening on port " + socket.getLocalPort());
+
+			boolean quit = false;
+			while (!quit)
+				try (Socket client = socket.accept()) {
+					quit = server.serve(new BufferedReader(new InputStreamReader(client.getInputStream())),
+						new PrintStream(client.getOutputStream(), true));
+				}
+		}
+	}
+}
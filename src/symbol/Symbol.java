@@ -0,0 +1,151 @@
+package symbol;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An identifier of the source code, such as the name of a variable, of a field
+ * or of a method. Symbols are interned in a table shared by all compilations,
+ * hence there is exactly one symbol for each name and symbols can be compared
+ * with {@code ==}. The table refers to the symbols weakly, so that the symbols
+ * that are not used anymore, for instance by a finished compilation, are reclaimed.
+ * Each symbol has a precomputed hash and a progressive identifier, that can be
+ * used to order symbols.
+ */
+
+public final class Symbol {
+
+	/**
+	 * The table of the symbols created so far and still in use, indexed by name.
+	 */
+
+	private final static Map<String, Entry> symbols = new ConcurrentHashMap<>();
+
+	/**
+	 * The entries of {@link #symbols} whose symbol has been reclaimed.
+	 */
+
+	private final static ReferenceQueue<Symbol> reclaimed = new ReferenceQueue<>();
+
+	/**
+	 * The identifier of the next symbol.
+	 */
+
+	private static long nextId;
+
+	/**
+	 * The symbol of the receiver of constructors, methods, tests and fixtures.
+	 */
+
+	public final static Symbol THIS = of("this");
+
+	/**
+	 * The symbol of the method that starts the execution of a program.
+	 */
+
+	public final static Symbol MAIN = of("main");
+
+	/**
+	 * The name of this symbol.
+	 */
+
+	private final String name;
+
+	/**
+	 * The hash of {@link #name}.
+	 */
+
+	private final int hash;
+
+	/**
+	 * The identifier of this symbol.
+	 */
+
+	private final long id;
+
+	private Symbol(String name, long id) {
+		this.name = name;
+		this.hash = name.hashCode();
+		this.id = id;
+	}
+
+	/**
+	 * Yields the unique symbol with the given name.
+	 *
+	 * @param name the name
+	 * @return the symbol, created if this is the first request for {@code name}
+	 */
+
+	public static Symbol of(String name) {
+		Entry entry = symbols.get(name);
+		Symbol result = entry != null ? entry.get() : null;
+		if (result != null)
+			return result;
+
+		// we create the symbol under lock, so that identifiers remain unique
+		synchronized (symbols) {
+			for (Entry old; (old = (Entry) reclaimed.poll()) != null; )
+				// the symbol might have been created again in the meanwhile
+				symbols.remove(old.name, old);
+
+			entry = symbols.get(name);
+			result = entry != null ? entry.get() : null;
+			if (result == null)
+				symbols.put(name, new Entry(result = new Symbol(name, nextId++)));
+
+			return result;
+		}
+	}
+
+	/**
+	 * Yields the name of this symbol.
+	 *
+	 * @return the name
+	 */
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Yields the identifier of this symbol. Distinct symbols have distinct identifiers,
+	 * also if they have the same name, because one has been reclaimed.
+	 *
+	 * @return the identifier, that is greater for the symbols created later
+	 */
+
+	public long getId() {
+		return id;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	/**
+	 * An entry of the table of the symbols. It refers to its symbol weakly.
+	 */
+
+	private static class Entry extends WeakReference<Symbol> {
+
+		/**
+		 * The name of the symbol.
+		 */
+
+		private final String name;
+
+		private Entry(Symbol symbol) {
+			super(symbol, reclaimed);
+
+			this.name = symbol.name;
+		}
+	}
+}
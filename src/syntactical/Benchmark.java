@@ -0,0 +1,157 @@
+package syntactical;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lexical.FastLexer;
+import lexical.Lexer;
+import lexical.TokenSource;
+import lexical.TokenStream;
+import metrics.Throughput;
+import types.CompilationContext;
+import absyn.ClassDefinition;
+
+public class Benchmark {
+
+	public static void main(String[] args) throws Exception {
+		File dir = new File(args.length > 0 ? args[0] : "testcases");
+		Map<String, String> sources = Throughput.readSources(dir);
+		if (sources == null) {
+			System.out.println("Cannot find the directory " + dir);
+			return;
+		}
+
+		List<String> names = new ArrayList<>(sources.keySet());
+		List<String> texts = new ArrayList<>(sources.values());
+
+		// both analysers must build the same abstract syntax and report the same errors,
+		// with the bodies parsed immediately or deferred
+		int mismatches = 0;
+		for (int pos = 0; pos < names.size(); pos++)
+			for (boolean lazy: new boolean[] { false, true })
+				if (!analyse(names.get(pos), texts.get(pos), false, lazy).equals(analyse(names.get(pos), texts.get(pos), true, lazy))) {
+					System.out.println("Mismatch on " + names.get(pos) + (lazy ? " with deferred bodies" : ""));
+					mismatches++;
+				}
+
+		System.out.println("Compared the analysers on " + names.size() + " files of " + dir + ": " + mismatches + " mismatches");
+
+		List<TokenStream> streams = new ArrayList<>();
+		for (int pos = 0; pos < names.size(); pos++) {
+			TokenStream stream = FastLexer.lex(names.get(pos), new StringReader(texts.get(pos)));
+			if (parses(stream))
+				streams.add(stream);
+		}
+
+		System.out.println("Parsing " + streams.size() + " files of " + dir);
+		System.out.println("CUP parser:               " + measure(streams, false));
+		System.out.println("recursive-descent parser: " + measure(streams, true));
+	}
+
+	private static String analyse(String name, String text, boolean descent, boolean lazy) throws IOException {
+		CompilationContext context = new CompilationContext();
+		context.setLazy(lazy);
+		context.setDescentParser(descent);
+
+		StringBuilder result = new StringBuilder();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = System.out, err = System.err;
+		File dot = File.createTempFile("kitten", ".dot");
+
+		CompilationContext.Scope scope = context.enter();
+		try (PrintStream capture = new PrintStream(output, true)) {
+			System.setOut(capture);
+			System.setErr(capture);
+
+			TokenSource lexer = new Lexer(name, new StringReader(text));
+			ClassDefinition absyn;
+			Set<String> referencedClasses;
+			if (descent) {
+				DescentParser parser = new DescentParser(lexer);
+				absyn = parser.parse();
+				referencedClasses = parser.getReferencedClasses();
+			}
+			else {
+				Parser parser = new Parser(lexer);
+				absyn = (ClassDefinition) parser.parse().value;
+				referencedClasses = parser.getReferencedClasses();
+			}
+
+			// this parses the deferred bodies as well
+			try (FileWriter writer = new FileWriter(dot)) {
+				absyn.toDot(writer);
+			}
+
+			result.append(new String(Files.readAllBytes(dot.toPath()), Charset.defaultCharset()));
+			result.append(referencedClasses);
+		}
+		catch (Exception | Error e) {
+			result.append(e);
+		}
+		finally {
+			scope.close();
+			System.setOut(out);
+			System.setErr(err);
+			dot.delete();
+		}
+
+		return result.append(output).toString();
+	}
+
+	private static boolean parses(TokenStream stream) {
+		// the errors, if any, are never printed
+		stream.getErrorMsg().defer();
+
+		try {
+			new Parser(stream.asTokenSource()).parse();
+			return !stream.getErrorMsg().anyErrors();
+		}
+		catch (Exception | Error e) {
+			return false;
+		}
+	}
+
+	private static String measure(List<TokenStream> streams, boolean descent) throws Exception {
+		Throughput throughput = new Parsing(streams, descent).measure();
+
+		return String.format("%,d tokens/s, %,d bytes allocated per token", throughput.getOperationsPerSecond(), throughput.getBytesPerOperation());
+	}
+
+	private static class Parsing extends Throughput {
+
+		private final List<TokenStream> streams;
+		private final boolean descent;
+
+		private Parsing(List<TokenStream> streams, boolean descent) {
+			this.streams = streams;
+			this.descent = descent;
+		}
+
+		@Override
+		protected long run() throws Exception {
+			long tokens = 0;
+
+			for (TokenStream stream: streams) {
+				TokenSource source = stream.asTokenSource();
+				if (descent)
+					new DescentParser(source).parse();
+				else
+					new Parser(source).parse();
+
+				tokens += stream.size();
+			}
+
+			return tokens;
+		}
+	}
+}
@@ -0,0 +1,885 @@
+package syntactical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import java_cup.runtime.Symbol;
+import absyn.*;
+import errorMsg.ErrorMsg;
+import lexical.TokenSource;
+
+/**
+ * A recursive-descent syntactical analyser, that parses expressions by
+ * precedence climbing. It accepts the same language as the analyser generated
+ * from {@code resources/Kitten.cup} and builds the same abstract syntax, with
+ * the same positions. If there are no syntax errors, the nodes of abstract
+ * syntax are even built in the same order, so that they get the same
+ * identifiers. Syntax errors are reported at the same token and with the
+ * same messages.
+ * <br><br>
+ * Differently from the generated analyser, this one needs no parsing tables
+ * and no stack of parsing states, and it does not wrap the result of each
+ * reduction into a token.
+ */
+
+public class DescentParser {
+
+	/**
+	 * The precedence of the tokens that are not infix or postfix operators.
+	 */
+
+	private final static int NONE = -1;
+
+	/**
+	 * The precedence of casts. They have no precedence in the grammar,
+	 * hence they apply to the largest expression on their left.
+	 */
+
+	private final static int CAST = 0;
+
+	/**
+	 * The precedence of the negation.
+	 */
+
+	private final static int NOT = 1;
+
+	/**
+	 * The precedence of the conjunction and disjunction.
+	 */
+
+	private final static int LOGICAL = 2;
+
+	/**
+	 * The precedence of the comparison operators, that are not associative.
+	 */
+
+	private final static int COMPARISON = 3;
+
+	/**
+	 * The precedence of the addition and subtraction.
+	 */
+
+	private final static int ADDITIVE = 4;
+
+	/**
+	 * The precedence of the multiplication and division.
+	 */
+
+	private final static int MULTIPLICATIVE = 5;
+
+	/**
+	 * The precedence of the unary minus.
+	 */
+
+	private final static int UMINUS = 6;
+
+	/**
+	 * The precedence of field accesses, method calls and array accesses.
+	 */
+
+	private final static int POSTFIX = 7;
+
+	/**
+	 * The precedence of each kind of token, as an infix or postfix operator.
+	 */
+
+	private final static int[] PRECEDENCE = new int[sym.BODY + 1];
+
+	static {
+		Arrays.fill(PRECEDENCE, NONE);
+		PRECEDENCE[sym.AS] = CAST;
+		PRECEDENCE[sym.AND] = PRECEDENCE[sym.OR] = LOGICAL;
+		PRECEDENCE[sym.EQ] = PRECEDENCE[sym.NEQ] = COMPARISON;
+		PRECEDENCE[sym.LT] = PRECEDENCE[sym.LE] = PRECEDENCE[sym.GT] = PRECEDENCE[sym.GE] = COMPARISON;
+		PRECEDENCE[sym.PLUS] = PRECEDENCE[sym.MINUS] = ADDITIVE;
+		PRECEDENCE[sym.TIMES] = PRECEDENCE[sym.DIVIDE] = MULTIPLICATIVE;
+		PRECEDENCE[sym.DOT] = PRECEDENCE[sym.LBRACK] = POSTFIX;
+	}
+
+	/**
+	 * The provider of the tokens of the source file.
+	 */
+
+	private final TokenReader tokens;
+
+	/**
+	 * The error reporting utility used during parsing.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The next token to parse.
+	 */
+
+	private Symbol token;
+
+	/**
+	 * The last expression parsed between parentheses. It cannot be used
+	 * as a command or as the left-hand side of an assignment.
+	 */
+
+	private Expression parenthesised;
+
+	/**
+	 * The names of the classes referenced in the source file, in order
+	 * of first occurrence.
+	 */
+
+	private final Set<String> referencedClasses = new LinkedHashSet<>();
+
+	/**
+	 * Builds a syntactical analyser which uses a given lexical analyser
+	 * to tokenise the source file.
+	 *
+	 * @param lexer the lexical analyser which tokenises the input source file
+	 */
+
+	public DescentParser(TokenSource lexer) {
+		this(new TokenReader(lexer));
+	}
+
+	/**
+	 * Builds a syntactical analyser that parses the tokens provided by the given reader.
+	 *
+	 * @param tokens the provider of the tokens
+	 */
+
+	DescentParser(TokenReader tokens) {
+		this.tokens = tokens;
+		this.errorMsg = tokens.getErrorMsg();
+	}
+
+	/**
+	 * Yields the error reporting utility used during parsing.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	public ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Yields the names of the classes referenced in the source file,
+	 * in order of first occurrence. They are available after parsing and
+	 * include the classes instantiated in the bodies whose parsing is deferred.
+	 *
+	 * @return the names of the referenced classes
+	 */
+
+	public Set<String> getReferencedClasses() {
+		referencedClasses.addAll(tokens.getInstantiatedClasses());
+
+		return referencedClasses;
+	}
+
+	/**
+	 * Parses the tokens of a deferred body, exactly as
+	 * {@link Parser#parseBody(ErrorMsg, List)} does.
+	 *
+	 * @param errorMsg the error reporting utility of the source file of the body
+	 * @param body the tokens of the body, including its braces
+	 * @return the abstract syntax of the body, or {@code null} if it contains
+	 *         a syntax error, that is reported through {@code errorMsg}
+	 */
+
+	public static Command parseBody(ErrorMsg errorMsg, List<Symbol> body) {
+		try {
+			ClassDefinition wrapper = new DescentParser(new TokenReader(errorMsg, TokenReader.wrapBody(body))).parse();
+
+			return ((CodeDeclaration) wrapper.getDeclarations()).getBody();
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Parses the source file.
+	 *
+	 * @return the abstract syntax of the class in the source file
+	 * @throws Exception if a token cannot be read or the source file contains
+	 *                   a syntax error, that is reported through the error
+	 *                   reporting utility of the source file
+	 */
+
+	public ClassDefinition parse() throws Exception {
+		token = tokens.next();
+
+		Symbol c = expect(sym.CLASS);
+		String name = ((symbol.Symbol) expect(sym.ID).value).getName();
+		String superclass = "Object";
+		if (token.sym == sym.EXTENDS) {
+			advance();
+			superclass = ((symbol.Symbol) expect(sym.ID).value).getName();
+		}
+
+		expect(sym.LBRACE);
+		ClassMemberDeclaration declarations = members();
+		expect(sym.RBRACE);
+		references(superclass);
+		ClassDefinition result = new ClassDefinition(c.left, name, superclass, declarations);
+		expect(sym.EOF);
+
+		return result;
+	}
+
+	/**
+	 * Takes note that the source file references the given class.
+	 *
+	 * @param className the name of the referenced class
+	 */
+
+	private void references(String className) {
+		referencedClasses.add(className);
+	}
+
+	/**
+	 * Moves to the next token.
+	 *
+	 * @return the token before moving
+	 * @throws Exception if the next token cannot be read
+	 */
+
+	private Symbol advance() throws Exception {
+		Symbol result = token;
+		token = tokens.next();
+
+		return result;
+	}
+
+	/**
+	 * Moves to the next token, if the current one is of the given kind.
+	 *
+	 * @param kind the kind, as enumerated in {@code syntactical/sym.java}
+	 * @return the token before moving
+	 * @throws Exception if the current token is of another kind
+	 *                   or the next token cannot be read
+	 */
+
+	private Symbol expect(int kind) throws Exception {
+		if (token.sym != kind)
+			throw syntaxError();
+
+		return advance();
+	}
+
+	/**
+	 * Reports a syntax error at the current token, as the analyser generated
+	 * through CUP does when it cannot recover from the error. The bodies
+	 * deferred before the error are parsed first: if one of them contains
+	 * a syntax error, only that error is reported, as without deferred bodies.
+	 *
+	 * @return the exception to throw
+	 */
+
+	private Exception syntaxError() {
+		if (!tokens.parseDeferredBodies()) {
+			errorMsg.error(token.left, "syntax error");
+
+			String message = "Couldn't repair and continue parse";
+			if (token.left != -1)
+				message += " at character " + token.left + " of input";
+
+			errorMsg.report(message);
+		}
+
+		return new Exception("Can't recover from previous error(s)");
+	}
+
+	/**
+	 * Parses a possibly empty sequence of fields, constructors, methods, tests
+	 * and fixtures. As for the right-recursive grammar of the analyser generated
+	 * through CUP, their declarations are built from the last one.
+	 *
+	 * @return the first declaration, or {@code null} if the sequence is empty
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private ClassMemberDeclaration members() throws Exception {
+		List<Member> members = new ArrayList<>();
+
+		for (boolean more = true; more; ) {
+			switch (token.sym) {
+			case sym.FIELD: {
+				Symbol f = advance();
+				TypeExpression type = type();
+				members.add(new Member(f, type, (symbol.Symbol) expect(sym.ID).value, null, null));
+				break;
+			}
+			case sym.CONSTRUCTOR: {
+				Symbol c = advance();
+				expect(sym.LPAREN);
+				FormalParameters formals = formals();
+				expect(sym.RPAREN);
+				members.add(new Member(c, null, null, formals, command()));
+				break;
+			}
+			case sym.METHOD: {
+				Symbol m = advance();
+				TypeExpression returnType = token.sym == sym.VOID ? new VoidTypeExpression(advance().left) : type();
+				symbol.Symbol name = (symbol.Symbol) expect(sym.ID).value;
+				expect(sym.LPAREN);
+				FormalParameters formals = formals();
+				expect(sym.RPAREN);
+				members.add(new Member(m, returnType, name, formals, command()));
+				break;
+			}
+			case sym.TEST: {
+				Symbol t = advance();
+				symbol.Symbol name = (symbol.Symbol) expect(sym.ID).value;
+				members.add(new Member(t, null, name, null, command()));
+				break;
+			}
+			case sym.FIXTURE:
+				members.add(new Member(advance(), null, null, null, command()));
+				break;
+			default:
+				more = false;
+			}
+		}
+
+		ClassMemberDeclaration result = null;
+		for (int pos = members.size() - 1; pos >= 0; pos--)
+			result = members.get(pos).declare(result);
+
+		return result;
+	}
+
+	/**
+	 * Parses a possibly empty, comma-separated list of formal parameters.
+	 *
+	 * @return the formal parameters, or {@code null} if the list is empty
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private FormalParameters formals() throws Exception {
+		if (token.sym == sym.RPAREN)
+			return null;
+
+		List<Integer> starts = new ArrayList<>();
+		List<TypeExpression> types = new ArrayList<>();
+		List<symbol.Symbol> names = new ArrayList<>();
+
+		for (;;) {
+			starts.add(token.left);
+			types.add(type());
+			names.add((symbol.Symbol) expect(sym.ID).value);
+			if (token.sym != sym.COMMA)
+				break;
+
+			advance();
+		}
+
+		FormalParameters result = null;
+		for (int pos = types.size() - 1; pos >= 0; pos--)
+			result = new FormalParameters(starts.get(pos), types.get(pos), names.get(pos), result);
+
+		return result;
+	}
+
+	/**
+	 * Parses a type, possibly {@code void}.
+	 *
+	 * @return the type
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private TypeExpression type() throws Exception {
+		TypeExpression result;
+
+		switch (token.sym) {
+		case sym.ID:
+			result = classType(advance());
+			break;
+		case sym.BOOLEAN:
+			result = new BooleanTypeExpression(advance().left);
+			break;
+		case sym.INT:
+			result = new IntTypeExpression(advance().left);
+			break;
+		case sym.FLOAT:
+			result = new FloatTypeExpression(advance().left);
+			break;
+		default:
+			throw syntaxError();
+		}
+
+		return arrayTypes(result);
+	}
+
+	/**
+	 * Yields the class type named by the given identifier.
+	 *
+	 * @param id the identifier
+	 * @return the class type
+	 */
+
+	private TypeExpression classType(Symbol id) {
+		String name = ((symbol.Symbol) id.value).getName();
+		references(name);
+
+		return new ClassTypeExpression(id.left, name);
+	}
+
+	/**
+	 * Parses the array symbols that follow a type.
+	 *
+	 * @param elementsType the type before the array symbols
+	 * @return the type of arrays built from {@code elementsType}, with as many
+	 *         dimensions as the array symbols
+	 * @throws Exception if a token cannot be read
+	 */
+
+	private TypeExpression arrayTypes(TypeExpression elementsType) throws Exception {
+		while (token.sym == sym.ARRAYSYMBOL)
+			elementsType = new ArrayTypeExpression(advance().left, elementsType);
+
+		return elementsType;
+	}
+
+	/**
+	 * Parses a non-empty, semicolon-separated sequence of commands.
+	 *
+	 * @return the sequence of commands
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Command commands() throws Exception {
+		Command first = command();
+		if (token.sym != sym.SEMICOLON)
+			return first;
+
+		List<Command> commands = new ArrayList<>();
+		List<Integer> semicolons = new ArrayList<>();
+		commands.add(first);
+
+		while (token.sym == sym.SEMICOLON) {
+			semicolons.add(advance().left);
+			commands.add(command());
+		}
+
+		Command result = commands.get(commands.size() - 1);
+		for (int pos = semicolons.size() - 1; pos >= 0; pos--)
+			result = new CommandSeq(semicolons.get(pos), commands.get(pos), result);
+
+		return result;
+	}
+
+	/**
+	 * Parses a command.
+	 *
+	 * @return the command
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Command command() throws Exception {
+		switch (token.sym) {
+		case sym.RETURN: {
+			Symbol r = advance();
+			return new Return(r.left, startsExpression(token.sym) ? expression() : null);
+		}
+		case sym.IF: {
+			Symbol i = advance();
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+			expect(sym.THEN);
+			Command then = command();
+			if (token.sym != sym.ELSE)
+				return new IfThenElse(i.left, condition, then);
+
+			advance();
+			return new IfThenElse(i.left, condition, then, command());
+		}
+		case sym.WHILE: {
+			Symbol w = advance();
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+			return new While(w.left, condition, command());
+		}
+		case sym.FOR: {
+			Symbol f = advance();
+			expect(sym.LPAREN);
+			Command initialisation = command();
+			expect(sym.SEMICOLON);
+			Expression condition = expression();
+			expect(sym.SEMICOLON);
+			Command update = command();
+			expect(sym.RPAREN);
+			return new For(f.left, initialisation, condition, update, command());
+		}
+		case sym.LBRACE: {
+			Symbol p = advance();
+			if (token.sym == sym.RBRACE) {
+				advance();
+				return new Skip(p.left);
+			}
+
+			Command body = commands();
+			expect(sym.RBRACE);
+			return new LocalScope(p.left, body);
+		}
+		case sym.ASSERT: {
+			Symbol a = advance();
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+			return new Assert(a.left, condition);
+		}
+		case sym.BODY:
+			return (DeferredBody) advance().value;
+		case sym.BOOLEAN:
+		case sym.INT:
+		case sym.FLOAT: {
+			int start = token.left;
+			return declaration(start, type());
+		}
+		case sym.ID: {
+			Symbol id = advance();
+			// an identifier followed by an identifier or by an array symbol is a type
+			if (token.sym == sym.ID || token.sym == sym.ARRAYSYMBOL)
+				return declaration(id.left, arrayTypes(classType(id)));
+			else
+				return expressionCommand(new Variable(id.left, (symbol.Symbol) id.value));
+		}
+		default:
+			return expressionCommand(prefix());
+		}
+	}
+
+	/**
+	 * Parses the rest of the declaration of a local variable.
+	 *
+	 * @param start the position of the type of the variable
+	 * @param type the type of the variable
+	 * @return the declaration
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Command declaration(int start, TypeExpression type) throws Exception {
+		symbol.Symbol name = (symbol.Symbol) expect(sym.ID).value;
+		expect(sym.ASSIGN);
+
+		return new LocalDeclaration(start, type, name, expression());
+	}
+
+	/**
+	 * Parses the rest of a command that starts with an expression, that is,
+	 * an assignment or a call of a method.
+	 *
+	 * @param first the first operand of the expression
+	 * @return the command
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Command expressionCommand(Expression first) throws Exception {
+		Absyn result = operators(first, NONE, true);
+		if (result instanceof Command)
+			return (Command) result;
+		else if (token.sym != sym.ASSIGN || !(result instanceof Lvalue) || result == parenthesised)
+			throw syntaxError();
+
+		Symbol a = advance();
+
+		return new Assignment(a.left, (Lvalue) result, expression());
+	}
+
+	/**
+	 * Determines if a token can start an expression.
+	 *
+	 * @param kind the kind of the token, as enumerated in {@code syntactical/sym.java}
+	 * @return true if and only if that is the case
+	 */
+
+	private static boolean startsExpression(int kind) {
+		switch (kind) {
+		case sym.ID: case sym.TRUE: case sym.FALSE: case sym.INTEGER: case sym.FLOATING:
+		case sym.STRING: case sym.NIL: case sym.NEW: case sym.MINUS: case sym.NOT: case sym.LPAREN:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Parses an expression.
+	 *
+	 * @return the expression
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Expression expression() throws Exception {
+		return expression(NONE);
+	}
+
+	/**
+	 * Parses an expression whose operators have a precedence higher than the given one.
+	 *
+	 * @param precedence the precedence
+	 * @return the expression
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Expression expression(int precedence) throws Exception {
+		return (Expression) operators(prefix(), precedence, false);
+	}
+
+	/**
+	 * Parses an expression without infix or postfix operators at its top level.
+	 *
+	 * @return the expression
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Expression prefix() throws Exception {
+		switch (token.sym) {
+		case sym.ID: {
+			Symbol id = advance();
+			return new Variable(id.left, (symbol.Symbol) id.value);
+		}
+		case sym.TRUE:
+			return new True(advance().left);
+		case sym.FALSE:
+			return new False(advance().left);
+		case sym.INTEGER: {
+			Symbol i = advance();
+			return new IntLiteral(i.left, ((Integer) i.value).intValue());
+		}
+		case sym.FLOATING: {
+			Symbol f = advance();
+			return new FloatLiteral(f.left, ((Float) f.value).floatValue());
+		}
+		case sym.STRING: {
+			Symbol s = advance();
+			references("String");
+			return new StringLiteral(s.left, (String) s.value);
+		}
+		case sym.NIL:
+			return new Nil(advance().left);
+		case sym.NEW: {
+			Symbol n = advance();
+			TypeExpression type;
+			if (token.sym == sym.ID) {
+				Symbol id = advance();
+				if (token.sym == sym.LPAREN) {
+					advance();
+					ExpressionSeq actuals = actuals();
+					expect(sym.RPAREN);
+					String name = ((symbol.Symbol) id.value).getName();
+					references(name);
+					return new NewObject(n.left, name, actuals);
+				}
+
+				type = arrayTypes(classType(id));
+			}
+			else
+				type = type();
+
+			expect(sym.LBRACK);
+			Expression size = expression();
+			expect(sym.RBRACK);
+			return new NewArray(n.left, type, size);
+		}
+		case sym.MINUS: {
+			Symbol u = advance();
+			return new Minus(u.left, expression(UMINUS));
+		}
+		case sym.NOT: {
+			Symbol n = advance();
+			return new Not(n.left, expression(NOT));
+		}
+		case sym.LPAREN: {
+			advance();
+			Expression result = expression();
+			expect(sym.RPAREN);
+			return parenthesised = result;
+		}
+		default:
+			throw syntaxError();
+		}
+	}
+
+	/**
+	 * Parses the infix and postfix operators that follow an expression,
+	 * as long as their precedence is higher than the given one.
+	 *
+	 * @param left the expression before the operators
+	 * @param precedence the precedence
+	 * @param command true if the expression is at the top level of a command.
+	 *                In that case, if it ends with a call of a method,
+	 *                the call is a command
+	 * @return the expression, or the call command
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private Absyn operators(Expression left, int precedence, boolean command) throws Exception {
+		for (int next; (next = PRECEDENCE[token.sym]) > precedence; ) {
+			Symbol operator = advance();
+
+			switch (operator.sym) {
+			case sym.DOT: {
+				symbol.Symbol name = (symbol.Symbol) expect(sym.ID).value;
+				if (token.sym != sym.LPAREN)
+					left = new FieldAccess(operator.left, left, name);
+				else {
+					advance();
+					ExpressionSeq actuals = actuals();
+					expect(sym.RPAREN);
+					if (command && PRECEDENCE[token.sym] == NONE)
+						return new MethodCallCommand(operator.left, left, name, actuals);
+
+					left = new MethodCallExpression(operator.left, left, name, actuals);
+				}
+				break;
+			}
+			case sym.LBRACK: {
+				Expression index = expression();
+				expect(sym.RBRACK);
+				left = new ArrayAccess(operator.left, left, index);
+				break;
+			}
+			case sym.AS:
+				left = new Cast(operator.left, type(), left);
+				break;
+			default:
+				left = binary(operator, left, expression(next));
+				// comparisons are not associative
+				if (next == COMPARISON && PRECEDENCE[token.sym] == COMPARISON)
+					throw syntaxError();
+			}
+		}
+
+		return left;
+	}
+
+	/**
+	 * Builds the application of a binary operator.
+	 *
+	 * @param operator the operator
+	 * @param left the left operand
+	 * @param right the right operand
+	 * @return the application
+	 */
+
+	private static Expression binary(Symbol operator, Expression left, Expression right) {
+		int pos = operator.left;
+
+		switch (operator.sym) {
+		case sym.PLUS: return new Addition(pos, left, right);
+		case sym.MINUS: return new Subtraction(pos, left, right);
+		case sym.TIMES: return new Multiplication(pos, left, right);
+		case sym.DIVIDE: return new Division(pos, left, right);
+		case sym.GE: return new GreaterThanOrEqual(pos, left, right);
+		case sym.LT: return new LessThan(pos, left, right);
+		case sym.LE: return new LessThanOrEqual(pos, left, right);
+		case sym.GT: return new GreaterThan(pos, left, right);
+		case sym.EQ: return new Equal(pos, left, right);
+		case sym.NEQ: return new NotEqual(pos, left, right);
+		case sym.AND: return new And(pos, left, right);
+		default: return new Or(pos, left, right);
+		}
+	}
+
+	/**
+	 * Parses a possibly empty, comma-separated list of actual parameters.
+	 *
+	 * @return the actual parameters, or {@code null} if the list is empty
+	 * @throws Exception if a token cannot be read or there is a syntax error
+	 */
+
+	private ExpressionSeq actuals() throws Exception {
+		if (token.sym == sym.RPAREN)
+			return null;
+
+		List<Expression> heads = new ArrayList<>();
+		List<Integer> commas = new ArrayList<>();
+		int last;
+
+		for (;;) {
+			last = token.left;
+			heads.add(expression());
+			if (token.sym != sym.COMMA)
+				break;
+
+			commas.add(advance().left);
+		}
+
+		// the last actual is positioned at its beginning, the others at the following comma
+		ExpressionSeq result = new ExpressionSeq(last, heads.get(heads.size() - 1), null);
+		for (int pos = commas.size() - 1; pos >= 0; pos--)
+			result = new ExpressionSeq(commas.get(pos), heads.get(pos), result);
+
+		return result;
+	}
+
+	/**
+	 * A declaration of a member of the class, whose abstract syntax
+	 * has not been built yet.
+	 */
+
+	private static class Member {
+
+		/**
+		 * The keyword that starts the declaration.
+		 */
+
+		private final Symbol keyword;
+
+		/**
+		 * The type of the field or the return type of the method, if any.
+		 */
+
+		private final TypeExpression type;
+
+		/**
+		 * The name of the field, method or test, if any.
+		 */
+
+		private final symbol.Symbol name;
+
+		/**
+		 * The formal parameters of the constructor or method, if any.
+		 */
+
+		private final FormalParameters formals;
+
+		/**
+		 * The body of the constructor, method, test or fixture, if any.
+		 */
+
+		private final Command body;
+
+		private Member(Symbol keyword, TypeExpression type, symbol.Symbol name, FormalParameters formals, Command body) {
+			this.keyword = keyword;
+			this.type = type;
+			this.name = name;
+			this.formals = formals;
+			this.body = body;
+		}
+
+		/**
+		 * Builds the abstract syntax of this declaration.
+		 *
+		 * @param next the declarations that follow this one
+		 * @return the abstract syntax
+		 */
+
+		private ClassMemberDeclaration declare(ClassMemberDeclaration next) {
+			int pos = keyword.left;
+
+			switch (keyword.sym) {
+			case sym.FIELD: return new FieldDeclaration(pos, type, name, next);
+			case sym.CONSTRUCTOR: return new ConstructorDeclaration(pos, formals, body, next);
+			case sym.METHOD: return new MethodDeclaration(pos, type, name, formals, body, next);
+			case sym.TEST: return new TestDeclaration(pos, name, body, next);
+			default: return new FixtureDeclaration(pos, body, next);
+			}
+		}
+	}
+}
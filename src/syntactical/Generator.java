@@ -2,13 +2,160 @@ package syntactical;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class Generator {
 
+	/**
+	 * The declaration of a table that CUP packs into string literals.
+	 */
+
+	private final static Pattern PACKED_TABLE = Pattern.compile
+		("protected static final short\\s*(?:\\[\\]\\[\\])?\\s*(\\w+)\\s*(?:\\[\\]\\[\\])?\\s*=\\s*unpackFromStrings\\(new String\\[\\] \\{");
+
+	/**
+	 * The maximal number of table elements initialised by the same method,
+	 * so that the methods remain well below the size limit of the Java bytecode.
+	 */
+
+	private final static int ELEMENTS_PER_CHUNK = 1024;
+
 	public static void main(String[] args) throws IOException, Exception {
 		try (FileInputStream fis = new FileInputStream("resources/Kitten.cup")) {
 			System.setIn(fis);
 			java_cup.Main.main(new String[] { "-parser", "Parser" });
 		}
+
+		unpackTables(Paths.get("Parser.java"));
+	}
+
+	/**
+	 * Rewrites the tables of the parser generated by CUP, that are packed into
+	 * string literals and unpacked at each start-up of the Java virtual machine,
+	 * into initialisers of primitive arrays, that require no decoding.
+	 *
+	 * @param parser the source of the parser generated by CUP
+	 * @throws IOException if the source cannot be read or written
+	 */
+
+	private static void unpackTables(Path parser) throws IOException {
+		String source = new String(Files.readAllBytes(parser), Charset.defaultCharset());
+		StringBuilder result = new StringBuilder();
+		Matcher matcher = PACKED_TABLE.matcher(source);
+		int last = 0;
+
+		while (matcher.find()) {
+			StringBuilder packed = new StringBuilder();
+			int end = readStrings(source, matcher.end(), packed);
+			result.append(source, last, matcher.start());
+			emit(matcher.group(1), unpack(packed), result);
+			last = end;
+		}
+
+		result.append(source.substring(last));
+		Files.write(parser, result.toString().getBytes(Charset.defaultCharset()));
+	}
+
+	/**
+	 * Reads the string literals that pack a table, up to the end of its declaration.
+	 *
+	 * @param source the source of the parser
+	 * @param pos the position of the first string literal
+	 * @param packed the builder where the concatenation of the literals is written
+	 * @return the position after the declaration of the table
+	 */
+
+	private static int readStrings(String source, int pos, StringBuilder packed) {
+		for (char c; (c = source.charAt(pos)) != '}'; pos++)
+			if (c == '"')
+				// we decode the escape sequences of the literal
+				for (pos++; (c = source.charAt(pos)) != '"'; pos++)
+					if (c != '\\')
+						packed.append(c);
+					else if (source.charAt(++pos) == 'u') {
+						packed.append((char) Integer.parseInt(source.substring(pos + 1, pos + 5), 16));
+						pos += 4;
+					}
+					else if (Character.isDigit(source.charAt(pos))) {
+						int start = pos;
+						while (pos < start + 3 && source.charAt(pos) >= '0' && source.charAt(pos) <= '7')
+							pos++;
+
+						packed.append((char) Integer.parseInt(source.substring(start, pos--), 8));
+					}
+					else
+						packed.append(source.charAt(pos));
+
+		// we skip the closing parenthesis and semicolon
+		return source.indexOf(';', pos) + 1;
+	}
+
+	/**
+	 * Unpacks a table exactly as {@code java_cup.runtime.lr_parser.unpackFromStrings} does.
+	 *
+	 * @param packed the table, packed into a string
+	 * @return the table
+	 */
+
+	private static short[][] unpack(CharSequence packed) {
+		int n = 0;
+		short[][] result = new short[(packed.charAt(n) << 16) | packed.charAt(n + 1)][];
+		n += 2;
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new short[(packed.charAt(n) << 16) | packed.charAt(n + 1)];
+			n += 2;
+
+			for (int j = 0; j < result[i].length; j++)
+				result[i][j] = (short) (packed.charAt(n++) - 2);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Writes the declaration of a table, whose rows are initialised by static
+	 * methods, each initialising at most {@link #ELEMENTS_PER_CHUNK} elements.
+	 *
+	 * @param name the name of the table
+	 * @param table the table
+	 * @param out the builder where the declaration is written
+	 */
+
+	private static void emit(String name, short[][] table, StringBuilder out) {
+		List<StringBuilder> chunks = new ArrayList<>();
+		StringBuilder chunk = null;
+		int elements = 0;
+
+		for (int i = 0; i < table.length; i++) {
+			if (chunk == null || elements + table[i].length > ELEMENTS_PER_CHUNK) {
+				chunks.add(chunk = new StringBuilder());
+				elements = 0;
+			}
+
+			chunk.append("    t[").append(i).append("] = new short[] {");
+			for (int j = 0; j < table[i].length; j++)
+				chunk.append(j == 0 ? "" : ",").append(table[i][j]);
+
+			chunk.append("};\n");
+			elements += table[i].length;
+		}
+
+		out.append("protected static final short[][] ").append(name)
+			.append(" = new short[").append(table.length).append("][];\n\n  static {\n");
+		for (int pos = 0; pos < chunks.size(); pos++)
+			out.append("    ").append(name).append(pos).append("(").append(name).append(");\n");
+
+		out.append("  }");
+		for (int pos = 0; pos < chunks.size(); pos++)
+			out.append("\n\n  private static void ").append(name).append(pos).append("(short[][] t) {\n")
+				.append(chunks.get(pos)).append("  }");
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,402 @@
+package syntactical;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+import absyn.ClassDefinition;
+import absyn.ClassMemberDeclaration;
+import errorMsg.ErrorMsg;
+import lexical.FastLexer;
+import lexical.TokenSource;
+import lexical.TokenStream;
+
+/**
+ * A syntactical analyser for the source of a class that is being edited,
+ * as in an editor. After each edit, only the declarations of the class
+ * members touched by the edit are tokenised and parsed again, and spliced
+ * into the abstract syntax of the class in place of the old ones. The
+ * positions of the subsequent declarations are shifted accordingly.
+ * <br><br>
+ * The source code of the members is delimited by the keywords that start
+ * their declarations and by the closing brace of the class. Tokenisation
+ * restarts from the keyword of the first member touched by the edit, where
+ * the lexical analyser is known to be at the beginning of a token, and
+ * the edit is isolated only if the keyword following the last touched member
+ * is found again exactly where it was, after the edit. Otherwise, for instance
+ * if the edit opens a comment or touches the header of the class, the whole
+ * source is parsed again. This also happens as long as the source contains errors.
+ * <br><br>
+ * The bodies of the members are never deferred, since the positions
+ * of their tokens might be shifted by later edits.
+ */
+
+public final class IncrementalParser {
+
+	/**
+	 * The name of the source file.
+	 */
+
+	private final String fileName;
+
+	/**
+	 * The current source code of the class.
+	 */
+
+	private final StringBuilder text;
+
+	/**
+	 * The error reporting utility of the current source code.
+	 */
+
+	private ErrorMsg errorMsg;
+
+	/**
+	 * The abstract syntax of the current source code, or {@code null}
+	 * if it contains a syntax error.
+	 */
+
+	private ClassDefinition abstractSyntax;
+
+	/**
+	 * The declarations of the members of the class, in order, or {@code null}
+	 * if the current source code contains errors.
+	 */
+
+	private ClassMemberDeclaration[] members;
+
+	/**
+	 * The positions of the keywords that start the declarations in {@link #members},
+	 * followed by that of the closing brace of the class. The source code of
+	 * the {@code i}th member spans from {@code bounds[i]} to {@code bounds[i + 1]},
+	 * including the blanks and comments after its declaration.
+	 */
+
+	private int[] bounds;
+
+	/**
+	 * The kinds of the tokens at {@link #bounds}, as enumerated
+	 * in {@code syntactical/sym.java}.
+	 */
+
+	private int[] kinds;
+
+	/**
+	 * The lengths of the tokens at {@link #bounds}.
+	 */
+
+	private int[] lengths;
+
+	/**
+	 * Builds an incremental syntactical analyser for the given source code,
+	 * that is immediately parsed.
+	 *
+	 * @param fileName the name of the source file (with or without the trailing
+	 *                 {@code .kit}). It is used to report the errors
+	 * @param text the source code
+	 */
+
+	public IncrementalParser(String fileName, String text) {
+		this.fileName = fileName;
+		this.text = new StringBuilder(text);
+
+		parseAll();
+	}
+
+	/**
+	 * Yields the current source code of the class.
+	 *
+	 * @return the source code
+	 */
+
+	public String getText() {
+		return text.toString();
+	}
+
+	/**
+	 * Yields the abstract syntax of the current source code.
+	 *
+	 * @return the abstract syntax, or {@code null} if the source code contains a syntax error
+	 */
+
+	public ClassDefinition getAbstractSyntax() {
+		return abstractSyntax;
+	}
+
+	/**
+	 * Yields the error reporting utility of the current source code. The errors
+	 * found while parsing are not printed until {@link ErrorMsg#flush()} is called.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	public ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Applies an edit to the source code and updates its abstract syntax.
+	 *
+	 * @param offset the position where the edit occurs
+	 * @param removed the number of characters removed from {@code offset}
+	 * @param inserted the characters inserted at {@code offset}
+	 * @return true if the edit has been parsed incrementally,
+	 *         false if the whole source code has been parsed again
+	 * @throws IllegalArgumentException if the removed characters
+	 *                                  are not inside the source code
+	 */
+
+	public boolean edit(int offset, int removed, String inserted) {
+		if (offset < 0 || removed < 0 || offset + removed > text.length())
+			throw new IllegalArgumentException("The edit is outside the source code");
+
+		text.replace(offset, offset + removed, inserted);
+
+		if (members != null && reparse(offset, removed, inserted.length() - removed)) {
+			errorMsg = new ErrorMsg(errorMsg.getFileName());
+			errorMsg.defer();
+			for (int pos = text.indexOf("\n"); pos >= 0; pos = text.indexOf("\n", pos + 1))
+				errorMsg.newline(pos);
+
+			return true;
+		}
+
+		parseAll();
+
+		return false;
+	}
+
+	/**
+	 * Parses the whole source code and computes the bounds of its members.
+	 */
+
+	private void parseAll() {
+		abstractSyntax = null;
+		members = null;
+		bounds = kinds = lengths = null;
+
+		TokenStream stream = lex(0, text.length());
+		errorMsg = stream.getErrorMsg();
+		errorMsg.defer();
+
+		try {
+			abstractSyntax = new DescentParser(new TokenReader(stream.asTokenSource(), false)).parse();
+		}
+		catch (Exception e) {
+			// the syntax error has been reported through errorMsg
+			return;
+		}
+		catch (Error e) {
+			// an unmatched character, as the lexical analyser generated through JLex reports
+			return;
+		}
+
+		if (errorMsg.anyErrors())
+			return;
+
+		List<Integer> starts = new ArrayList<>();
+		int depth = 0, size = stream.size();
+		for (int token = 0; token < size; token++) {
+			int kind = stream.getKind(token);
+			if (kind == sym.LBRACE)
+				depth++;
+			else if (kind == sym.RBRACE && --depth == 0)
+				starts.add(token);
+			else if (depth == 1 && isKeyword(kind))
+				starts.add(token);
+		}
+
+		index(stream, starts, 0);
+		members = new ClassMemberDeclaration[bounds.length - 1];
+		ClassMemberDeclaration declaration = abstractSyntax.getDeclarations();
+		for (int pos = 0; pos < members.length; pos++, declaration = declaration.getNext())
+			members[pos] = declaration;
+	}
+
+	/**
+	 * Parses again the members touched by an edit that has already
+	 * been applied to {@link #text}, if possible.
+	 *
+	 * @param offset the position where the edit occurs
+	 * @param removed the number of characters removed from {@code offset}
+	 * @param delta the number of characters added by the edit
+	 *              (negative if characters have been removed)
+	 * @return true if and only if the edit could be isolated and parsed
+	 */
+
+	private boolean reparse(int offset, int removed, int delta) {
+		int count = members.length;
+
+		// the last member starting at or before the edit
+		int first = Arrays.binarySearch(bounds, 0, count, offset);
+		if (first < 0)
+			first = -first - 2;
+
+		if (first < 0)
+			// the edit touches the header of the class
+			return false;
+
+		int last = first;
+		while (last < count && bounds[last + 1] < offset + removed)
+			last++;
+
+		if (last == count)
+			// the edit touches the closing brace of the class
+			return false;
+
+		int from = bounds[first], boundary = bounds[last + 1] + delta, to = boundary + lengths[last + 1];
+		TokenStream stream = lex(from, to);
+		ErrorMsg fragmentErrors = stream.getErrorMsg();
+		fragmentErrors.defer();
+
+		// the fragment must end with the same token that followed the last member, exactly where it was
+		int size = stream.size();
+		if (size < 2 || stream.getKind(size - 1) != sym.EOF || stream.getKind(size - 2) != kinds[last + 1]
+				|| stream.getStart(size - 2) != boundary - from || stream.getEnd(size - 2) != to - from)
+			return false;
+
+		List<Symbol> tokens = new ArrayList<>(size + 3);
+		tokens.add(new Symbol(sym.CLASS, from, from));
+		tokens.add(new Symbol(sym.ID, from, from, symbol.Symbol.of(abstractSyntax.getName())));
+		tokens.add(new Symbol(sym.LBRACE, from, from));
+
+		List<Integer> starts = new ArrayList<>();
+		TokenSource source = stream.asTokenSource();
+		ErrorMsg parseErrors = new ErrorMsg(fragmentErrors.getFileName());
+		parseErrors.defer();
+		ClassMemberDeclaration replacement;
+
+		try {
+			int depth = 0;
+			for (int token = 0; token < size; token++) {
+				Symbol next = source.nextToken();
+				if (token >= size - 2)
+					// the lexical errors are reported up to the end of the fragment
+					continue;
+
+				if (next.sym == sym.LBRACE)
+					depth++;
+				else if (next.sym == sym.RBRACE)
+					depth--;
+				else if (depth == 0 && isKeyword(next.sym))
+					starts.add(token);
+
+				next.left += from;
+				next.right += from;
+				tokens.add(next);
+			}
+
+			if (fragmentErrors.anyErrors())
+				return false;
+
+			tokens.add(new Symbol(sym.RBRACE, boundary, boundary + 1));
+			replacement = new DescentParser(new TokenReader(parseErrors, tokens)).parse().getDeclarations();
+			if (parseErrors.anyErrors())
+				return false;
+		}
+		catch (Exception e) {
+			// the members contain a syntax error
+			return false;
+		}
+
+		starts.add(size - 2);
+		int[] oldBounds = bounds, oldKinds = kinds, oldLengths = lengths;
+		ClassMemberDeclaration[] oldMembers = members;
+		index(stream, starts, from);
+
+		int added = starts.size() - 1, removedMembers = last - first + 1, newCount = count - removedMembers + added;
+		bounds = splice(oldBounds, first, last + 1, bounds, newCount + 1);
+		kinds = splice(oldKinds, first, last + 1, kinds, newCount + 1);
+		lengths = splice(oldLengths, first, last + 1, lengths, newCount + 1);
+		for (int pos = first + added; pos <= newCount; pos++)
+			bounds[pos] += delta;
+
+		members = new ClassMemberDeclaration[newCount];
+		System.arraycopy(oldMembers, 0, members, 0, first);
+		for (int pos = first; pos < first + added; pos++, replacement = replacement.getNext())
+			members[pos] = replacement;
+		System.arraycopy(oldMembers, last + 1, members, first + added, count - last - 1);
+
+		abstractSyntax.replace(oldMembers[first], oldMembers[last], added > 0 ? members[first] : null, delta);
+
+		return true;
+	}
+
+	/**
+	 * Sets {@link #bounds}, {@link #kinds} and {@link #lengths} to the positions,
+	 * kinds and lengths of the given tokens.
+	 *
+	 * @param stream the stream of the tokens
+	 * @param tokens the indexes of the tokens inside {@code stream}
+	 * @param from the position of the beginning of {@code stream} in the source code
+	 */
+
+	private void index(TokenStream stream, List<Integer> tokens, int from) {
+		int size = tokens.size();
+		bounds = new int[size];
+		kinds = new int[size];
+		lengths = new int[size];
+
+		for (int pos = 0; pos < size; pos++) {
+			int token = tokens.get(pos);
+			bounds[pos] = stream.getStart(token) + from;
+			kinds[pos] = stream.getKind(token);
+			lengths[pos] = stream.getEnd(token) - stream.getStart(token);
+		}
+	}
+
+	/**
+	 * Replaces the elements of an array between two indexes with those of another array.
+	 *
+	 * @param original the array
+	 * @param start the first index to replace
+	 * @param end the index after the last to replace. This is the index of the first element
+	 *            that is kept, and the replacing elements are assumed to be followed by it
+	 * @param replacing the replacing elements, followed by the element at {@code end}
+	 * @param size the size of the resulting array
+	 * @return the resulting array
+	 */
+
+	private static int[] splice(int[] original, int start, int end, int[] replacing, int size) {
+		int[] result = new int[size];
+		System.arraycopy(original, 0, result, 0, start);
+		System.arraycopy(replacing, 0, result, start, replacing.length - 1);
+		System.arraycopy(original, end, result, start + replacing.length - 1, original.length - end);
+
+		return result;
+	}
+
+	/**
+	 * Determines if the given kind of token starts the declaration of a class member.
+	 *
+	 * @param kind the kind, as enumerated in {@code syntactical/sym.java}
+	 * @return true if and only if that is the case
+	 */
+
+	private static boolean isKeyword(int kind) {
+		return kind == sym.FIELD || kind == sym.CONSTRUCTOR || kind == sym.METHOD
+			|| kind == sym.TEST || kind == sym.FIXTURE;
+	}
+
+	/**
+	 * Tokenises a portion of the source code.
+	 *
+	 * @param from the beginning of the portion
+	 * @param to the end of the portion
+	 * @return the stream of the tokens of the portion, positioned
+	 *         from the beginning of the portion
+	 */
+
+	private TokenStream lex(int from, int to) {
+		try {
+			return FastLexer.lex(fileName, new StringReader(text.substring(from, to)));
+		}
+		catch (IOException e) {
+			// impossible for an in-memory reader
+			throw new IllegalStateException(e);
+		}
+	}
+}
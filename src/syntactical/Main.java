@@ -3,7 +3,6 @@ package syntactical;
 import java.io.FileWriter;
 import java.io.IOException;
 
-import java_cup.runtime.Symbol;
 import lexical.Lexer;
 import absyn.ClassDefinition;
 
@@ -15,11 +14,14 @@ public class Main {
 		else
 			try {
 				String fileName = args[0];
-				Parser parser = new Parser(new Lexer(fileName));
-				Symbol symbol = parser.parse();
+				ClassDefinition absyn;
+				if (System.getProperty("kitten.descentParser") != null)
+					absyn = new DescentParser(new Lexer(fileName)).parse();
+				else
+					absyn = (ClassDefinition) new Parser(new Lexer(fileName)).parse().value;
+
 				System.out.println("End of the syntactical analysis");
 
-				ClassDefinition absyn = (ClassDefinition) symbol.value;
 				if (absyn != null) {
 					String dotName = fileName.substring(0, fileName.length() - ".kit".length()) + ".dot";
 					try (FileWriter file = new FileWriter(dotName)) {
@@ -1,17 +1,21 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10j
-// Mon Aug 03 16:36:30 CEST 2015
+// Sun Oct 18 09:52:32 UTC 2026
 //----------------------------------------------------
 
 package syntactical;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java_cup.runtime.Symbol;
 import absyn.*;
 import errorMsg.ErrorMsg;
-import lexical.Lexer;
+import lexical.TokenSource;
 
 /** CUP v0.10j generated parser.
-  * @version Mon Aug 03 16:36:30 CEST 2015
+  * @version Sun Oct 18 09:52:32 UTC 2026
   */
 public class Parser extends java_cup.runtime.lr_parser {
 
@@ -22,458 +26,448 @@ public class Parser extends java_cup.runtime.lr_parser {
   public Parser(java_cup.runtime.Scanner s) {super(s);}
 
   /** Production table. */
-  protected static final short _production_table[][] = 
-    unpackFromStrings(new String[] {
-    "\000\103\000\002\002\004\000\002\014\003\000\002\014" +
-    "\005\000\002\014\006\000\002\015\003\000\002\015\003" +
-    "\000\002\015\003\000\002\015\003\000\002\015\004\000" +
-    "\002\016\003\000\002\016\003\000\002\003\007\000\002" +
-    "\003\011\000\002\004\002\000\002\004\006\000\002\004" +
-    "\010\000\002\004\012\000\002\004\006\000\002\004\005" +
-    "\000\002\005\002\000\002\005\003\000\002\006\004\000" +
-    "\002\006\006\000\002\007\005\000\002\007\006\000\002" +
-    "\007\003\000\002\007\004\000\002\007\010\000\002\007" +
-    "\012\000\002\007\007\000\002\007\013\000\002\007\005" +
-    "\000\002\007\004\000\002\007\010\000\002\007\006\000" +
-    "\002\010\003\000\002\010\005\000\002\011\003\000\002" +
-    "\011\003\000\002\011\003\000\002\011\003\000\002\011" +
-    "\003\000\002\011\003\000\002\011\003\000\002\011\007" +
-    "\000\002\011\007\000\002\011\005\000\002\011\005\000" +
-    "\002\011\005\000\002\011\005\000\002\011\005\000\002" +
-    "\011\004\000\002\011\005\000\002\011\005\000\002\011" +
-    "\005\000\002\011\005\000\002\011\005\000\002\011\005" +
-    "\000\002\011\005\000\002\011\005\000\002\011\004\000" +
-    "\002\011\010\000\002\011\005\000\002\012\002\000\002" +
-    "\012\003\000\002\013\003\000\002\013\005" });
+  protected static final short[][] _production_table = new short[68][];
+
+  static {
+    _production_table0(_production_table);
+  }
+
+  private static void _production_table0(short[][] t) {
+    t[0] = new short[] {0,2};
+    t[1] = new short[] {10,1};
+    t[2] = new short[] {10,3};
+    t[3] = new short[] {10,4};
+    t[4] = new short[] {11,1};
+    t[5] = new short[] {11,1};
+    t[6] = new short[] {11,1};
+    t[7] = new short[] {11,1};
+    t[8] = new short[] {11,2};
+    t[9] = new short[] {12,1};
+    t[10] = new short[] {12,1};
+    t[11] = new short[] {1,5};
+    t[12] = new short[] {1,7};
+    t[13] = new short[] {2,0};
+    t[14] = new short[] {2,4};
+    t[15] = new short[] {2,6};
+    t[16] = new short[] {2,8};
+    t[17] = new short[] {2,4};
+    t[18] = new short[] {2,3};
+    t[19] = new short[] {3,0};
+    t[20] = new short[] {3,1};
+    t[21] = new short[] {4,2};
+    t[22] = new short[] {4,4};
+    t[23] = new short[] {5,3};
+    t[24] = new short[] {5,4};
+    t[25] = new short[] {5,1};
+    t[26] = new short[] {5,2};
+    t[27] = new short[] {5,6};
+    t[28] = new short[] {5,8};
+    t[29] = new short[] {5,5};
+    t[30] = new short[] {5,9};
+    t[31] = new short[] {5,3};
+    t[32] = new short[] {5,2};
+    t[33] = new short[] {5,6};
+    t[34] = new short[] {5,4};
+    t[35] = new short[] {5,1};
+    t[36] = new short[] {6,1};
+    t[37] = new short[] {6,3};
+    t[38] = new short[] {7,1};
+    t[39] = new short[] {7,1};
+    t[40] = new short[] {7,1};
+    t[41] = new short[] {7,1};
+    t[42] = new short[] {7,1};
+    t[43] = new short[] {7,1};
+    t[44] = new short[] {7,1};
+    t[45] = new short[] {7,5};
+    t[46] = new short[] {7,5};
+    t[47] = new short[] {7,3};
+    t[48] = new short[] {7,3};
+    t[49] = new short[] {7,3};
+    t[50] = new short[] {7,3};
+    t[51] = new short[] {7,3};
+    t[52] = new short[] {7,2};
+    t[53] = new short[] {7,3};
+    t[54] = new short[] {7,3};
+    t[55] = new short[] {7,3};
+    t[56] = new short[] {7,3};
+    t[57] = new short[] {7,3};
+    t[58] = new short[] {7,3};
+    t[59] = new short[] {7,3};
+    t[60] = new short[] {7,3};
+    t[61] = new short[] {7,2};
+    t[62] = new short[] {7,6};
+    t[63] = new short[] {7,3};
+    t[64] = new short[] {8,0};
+    t[65] = new short[] {8,1};
+    t[66] = new short[] {9,1};
+    t[67] = new short[] {9,3};
+  }
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
 
   /** Parse-action table. */
-  protected static final short[][] _action_table = 
-    unpackFromStrings(new String[] {
-    "\000\241\000\004\010\005\001\002\000\004\002\243\001" +
-    "\002\000\004\004\006\001\002\000\006\011\010\031\007" +
-    "\001\002\000\016\012\016\013\020\014\013\032\ufff4\065" +
-    "\015\066\014\001\002\000\004\004\011\001\002\000\004" +
-    "\031\012\001\002\000\016\012\016\013\020\014\013\032" +
-    "\ufff4\065\015\066\014\001\002\000\004\025\234\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\067\037\001\002\000\004\004\227\001\002\000\012" +
-    "\004\021\016\027\017\024\020\026\001\002\000\004\032" +
-    "\223\001\002\000\014\004\021\016\027\017\024\020\026" +
-    "\021\025\001\002\000\072\004\ufffd\012\ufffd\013\ufffd\014" +
-    "\ufffd\022\ufffd\023\ufffd\024\ufffd\026\ufffd\027\ufffd\030\ufffd" +
-    "\032\ufffd\033\ufffd\034\ufffd\035\ufffd\036\ufffd\037\ufffd\040" +
-    "\ufffd\041\ufffd\042\ufffd\043\ufffd\044\ufffd\045\ufffd\046\ufffd" +
-    "\047\ufffd\052\ufffd\055\ufffd\065\ufffd\066\ufffd\001\002\000" +
-    "\004\004\031\001\002\000\006\004\ufff8\052\030\001\002" +
-    "\000\072\004\ufffa\012\ufffa\013\ufffa\014\ufffa\022\ufffa\023" +
-    "\ufffa\024\ufffa\026\ufffa\027\ufffa\030\ufffa\032\ufffa\033\ufffa" +
-    "\034\ufffa\035\ufffa\036\ufffa\037\ufffa\040\ufffa\041\ufffa\042" +
-    "\ufffa\043\ufffa\044\ufffa\045\ufffa\046\ufffa\047\ufffa\052\ufffa" +
-    "\055\ufffa\065\ufffa\066\ufffa\001\002\000\004\004\ufff7\001" +
-    "\002\000\072\004\ufffc\012\ufffc\013\ufffc\014\ufffc\022\ufffc" +
-    "\023\ufffc\024\ufffc\026\ufffc\027\ufffc\030\ufffc\032\ufffc\033" +
-    "\ufffc\034\ufffc\035\ufffc\036\ufffc\037\ufffc\040\ufffc\041\ufffc" +
-    "\042\ufffc\043\ufffc\044\ufffc\045\ufffc\046\ufffc\047\ufffc\052" +
-    "\ufffc\055\ufffc\065\ufffc\066\ufffc\001\002\000\072\004\ufffb" +
-    "\012\ufffb\013\ufffb\014\ufffb\022\ufffb\023\ufffb\024\ufffb\026" +
-    "\ufffb\027\ufffb\030\ufffb\032\ufffb\033\ufffb\034\ufffb\035\ufffb" +
-    "\036\ufffb\037\ufffb\040\ufffb\041\ufffb\042\ufffb\043\ufffb\044" +
-    "\ufffb\045\ufffb\046\ufffb\047\ufffb\052\ufffb\055\ufffb\065\ufffb" +
-    "\066\ufffb\001\002\000\072\004\ufff9\012\ufff9\013\ufff9\014" +
-    "\ufff9\022\ufff9\023\ufff9\024\ufff9\026\ufff9\027\ufff9\030\ufff9" +
-    "\032\ufff9\033\ufff9\034\ufff9\035\ufff9\036\ufff9\037\ufff9\040" +
-    "\ufff9\041\ufff9\042\ufff9\043\ufff9\044\ufff9\045\ufff9\046\ufff9" +
-    "\047\ufff9\052\ufff9\055\ufff9\065\ufff9\066\ufff9\001\002\000" +
-    "\004\025\032\001\002\000\014\004\021\016\027\017\024" +
-    "\020\026\026\uffee\001\002\000\004\026\uffed\001\002\000" +
-    "\006\004\220\052\030\001\002\000\004\026\036\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\067\037\001\002\000\004\025\215\001\002\000\006" +
-    "\004\212\052\030\001\002\000\004\025\206\001\002\000" +
-    "\016\012\016\013\020\014\013\032\ufff4\065\015\066\014" +
-    "\001\002\000\030\004\066\005\054\006\061\007\055\015" +
-    "\060\025\050\035\057\050\043\061\051\062\046\063\056" +
-    "\001\002\000\052\004\066\005\054\006\061\007\055\012" +
-    "\uffe8\013\uffe8\014\uffe8\015\060\023\uffe8\025\050\026\uffe8" +
-    "\032\uffe8\035\057\050\043\055\uffe8\061\051\062\046\063" +
-    "\056\065\uffe8\066\uffe8\001\002\000\040\024\102\027\104" +
-    "\033\176\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\001\002\000\066\012\uffdb\013\uffdb\014\uffdb\022\uffdb\023" +
-    "\uffdb\024\uffdb\026\uffdb\027\uffdb\030\uffdb\032\uffdb\033\uffdb" +
-    "\034\uffdb\035\uffdb\036\uffdb\037\uffdb\040\uffdb\041\uffdb\042" +
-    "\uffdb\043\uffdb\044\uffdb\045\uffdb\046\uffdb\047\uffdb\055\uffdb" +
-    "\065\uffdb\066\uffdb\001\002\000\004\025\167\001\002\000" +
-    "\030\004\066\005\054\006\061\007\055\015\060\025\050" +
-    "\035\057\050\043\061\051\062\046\063\056\001\002\000" +
-    "\066\012\uffd6\013\uffd6\014\uffd6\022\uffd6\023\uffd6\024\uffd6" +
-    "\026\uffd6\027\uffd6\030\uffd6\032\uffd6\033\uffd6\034\uffd6\035" +
-    "\uffd6\036\uffd6\037\uffd6\040\uffd6\041\uffd6\042\uffd6\043\uffd6" +
-    "\044\uffd6\045\uffd6\046\uffd6\047\uffd6\055\uffd6\065\uffd6\066" +
-    "\uffd6\001\002\000\054\004\053\005\054\006\061\007\055" +
-    "\015\060\016\027\017\024\020\026\025\050\031\052\032" +
-    "\157\035\057\050\043\053\047\056\041\057\062\060\044" +
-    "\061\051\062\046\063\056\067\037\001\002\000\046\004" +
-    "\ufffd\024\000\027\000\033\000\034\000\035\000\036\000" +
-    "\037\000\040\000\041\000\042\000\043\000\044\000\045" +
-    "\000\046\000\047\000\051\000\052\ufffd\001\002\000\066" +
-    "\012\uffd7\013\uffd7\014\uffd7\022\uffd7\023\uffd7\024\uffd7\026" +
-    "\uffd7\027\uffd7\030\uffd7\032\uffd7\033\uffd7\034\uffd7\035\uffd7" +
-    "\036\uffd7\037\uffd7\040\uffd7\041\uffd7\042\uffd7\043\uffd7\044" +
-    "\uffd7\045\uffd7\046\uffd7\047\uffd7\055\uffd7\065\uffd7\066\uffd7" +
-    "\001\002\000\066\012\uffd8\013\uffd8\014\uffd8\022\uffd8\023" +
-    "\uffd8\024\uffd8\026\uffd8\027\uffd8\030\uffd8\032\uffd8\033\uffd8" +
-    "\034\uffd8\035\uffd8\036\uffd8\037\uffd8\040\uffd8\041\uffd8\042" +
-    "\uffd8\043\uffd8\044\uffd8\045\uffd8\046\uffd8\047\uffd8\055\uffd8" +
-    "\065\uffd8\066\uffd8\001\002\000\066\012\uffda\013\uffda\014" +
-    "\uffda\022\uffda\023\uffda\024\uffda\026\uffda\027\uffda\030\uffda" +
-    "\032\uffda\033\uffda\034\uffda\035\uffda\036\uffda\037\uffda\040" +
-    "\uffda\041\uffda\042\uffda\043\uffda\044\uffda\045\uffda\046\uffda" +
-    "\047\uffda\055\uffda\065\uffda\066\uffda\001\002\000\030\004" +
-    "\066\005\054\006\061\007\055\015\060\025\050\035\057" +
-    "\050\043\061\051\062\046\063\056\001\002\000\012\004" +
-    "\146\016\027\017\024\020\026\001\002\000\066\012\uffd9" +
-    "\013\uffd9\014\uffd9\022\uffd9\023\uffd9\024\uffd9\026\uffd9\027" +
-    "\uffd9\030\uffd9\032\uffd9\033\uffd9\034\uffd9\035\uffd9\036\uffd9" +
-    "\037\uffd9\040\uffd9\041\uffd9\042\uffd9\043\uffd9\044\uffd9\045" +
-    "\uffd9\046\uffd9\047\uffd9\055\uffd9\065\uffd9\066\uffd9\001\002" +
-    "\000\004\025\136\001\002\000\042\024\uffdc\027\uffdc\033" +
-    "\uffdc\034\uffdc\035\uffdc\036\uffdc\037\uffdc\040\uffdc\041\uffdc" +
-    "\042\uffdc\043\uffdc\044\uffdc\045\uffdc\046\uffdc\047\uffdc\051" +
-    "\064\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\062\012\uffea\013\uffea\014\uffea\023\uffea" +
-    "\024\102\026\uffea\027\104\032\uffea\033\101\034\075\035" +
-    "\071\036\103\037\072\040\076\041\074\042\105\043\077" +
-    "\044\100\045\073\046\070\047\106\055\uffea\065\uffea\066" +
-    "\uffea\001\002\000\066\012\000\013\000\014\000\022\000" +
-    "\023\000\024\000\026\000\027\000\030\000\032\000\033" +
-    "\000\034\000\035\000\036\000\037\000\040\000\041\000" +
-    "\042\000\043\000\044\000\045\000\046\000\047\000\055" +
-    "\000\065\000\066\000\001\002\000\066\012\uffdc\013\uffdc" +
-    "\014\uffdc\022\uffdc\023\uffdc\024\uffdc\026\uffdc\027\uffdc\030" +
-    "\uffdc\032\uffdc\033\uffdc\034\uffdc\035\uffdc\036\uffdc\037\uffdc" +
-    "\040\uffdc\041\uffdc\042\uffdc\043\uffdc\044\uffdc\045\uffdc\046" +
-    "\uffdc\047\uffdc\055\uffdc\065\uffdc\066\uffdc\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\004" +
-    "\004\115\001\002\000\012\004\021\016\027\017\024\020" +
-    "\026\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\066\012\uffc6\013\uffc6\014\uffc6\022\uffc6" +
-    "\023\uffc6\024\uffc6\026\uffc6\027\104\030\uffc6\032\uffc6\033" +
-    "\101\034\075\035\071\036\103\037\072\040\076\041\074" +
-    "\042\105\043\077\044\100\045\073\046\uffc6\047\uffc6\055" +
-    "\uffc6\065\uffc6\066\uffc6\001\002\000\052\012\uffcc\013\uffcc" +
-    "\014\uffcc\022\uffcc\023\uffcc\024\uffcc\026\uffcc\027\104\030" +
-    "\uffcc\032\uffcc\033\101\034\075\035\071\036\103\037\072" +
-    "\046\uffcc\047\uffcc\055\uffcc\065\uffcc\066\uffcc\001\002\000" +
-    "\042\024\102\027\104\030\112\033\101\034\075\035\071" +
-    "\036\103\037\072\040\076\041\074\042\105\043\077\044" +
-    "\100\045\073\046\070\047\106\001\002\000\070\012\ufffe" +
-    "\013\ufffe\014\ufffe\022\ufffe\023\ufffe\024\ufffe\026\ufffe\027" +
-    "\ufffe\030\ufffe\032\ufffe\033\ufffe\034\ufffe\035\ufffe\036\ufffe" +
-    "\037\ufffe\040\ufffe\041\ufffe\042\ufffe\043\ufffe\044\ufffe\045" +
-    "\ufffe\046\ufffe\047\ufffe\051\ufffe\055\ufffe\065\ufffe\066\ufffe" +
-    "\001\002\000\066\012\uffd0\013\uffd0\014\uffd0\022\uffd0\023" +
-    "\uffd0\024\uffd0\026\uffd0\027\104\030\uffd0\032\uffd0\033\101" +
-    "\034\uffd0\035\uffd0\036\uffd0\037\uffd0\040\uffd0\041\uffd0\042" +
-    "\uffd0\043\uffd0\044\uffd0\045\uffd0\046\uffd0\047\uffd0\055\uffd0" +
-    "\065\uffd0\066\uffd0\001\002\000\070\012\uffd3\013\uffd3\014" +
-    "\uffd3\022\uffd3\023\uffd3\024\uffd3\026\uffd3\027\uffd3\030\uffd3" +
-    "\032\uffd3\033\uffd3\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040" +
-    "\uffd3\041\uffd3\042\uffd3\043\uffd3\044\uffd3\045\uffd3\046\uffd3" +
-    "\047\uffd3\052\030\055\uffd3\065\uffd3\066\uffd3\001\002\000" +
-    "\070\012\uffff\013\uffff\014\uffff\022\uffff\023\uffff\024\uffff" +
-    "\025\116\026\uffff\027\uffff\030\uffff\032\uffff\033\uffff\034" +
-    "\uffff\035\uffff\036\uffff\037\uffff\040\uffff\041\uffff\042\uffff" +
-    "\043\uffff\044\uffff\045\uffff\046\uffff\047\uffff\055\uffff\065" +
-    "\uffff\066\uffff\001\002\000\032\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\026\uffc2\035\057\050\043\061" +
-    "\051\062\046\063\056\001\002\000\004\026\uffc1\001\002" +
-    "\000\004\026\124\001\002\000\044\022\122\024\102\026" +
-    "\uffc0\027\104\033\101\034\075\035\071\036\103\037\072" +
-    "\040\076\041\074\042\105\043\077\044\100\045\073\046" +
-    "\070\047\106\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\004\026\uffbf\001\002\000\066" +
-    "\012\uffc4\013\uffc4\014\uffc4\022\uffc4\023\uffc4\024\uffc4\026" +
-    "\uffc4\027\uffc4\030\uffc4\032\uffc4\033\uffc4\034\uffc4\035\uffc4" +
-    "\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043\uffc4\044" +
-    "\uffc4\045\uffc4\046\uffc4\047\uffc4\055\uffc4\065\uffc4\066\uffc4" +
-    "\001\002\000\052\012\uffca\013\uffca\014\uffca\022\uffca\023" +
-    "\uffca\024\uffca\026\uffca\027\104\030\uffca\032\uffca\033\101" +
-    "\034\075\035\071\036\103\037\072\046\uffca\047\uffca\055" +
-    "\uffca\065\uffca\066\uffca\001\002\000\052\012\uffcb\013\uffcb" +
-    "\014\uffcb\022\uffcb\023\uffcb\024\uffcb\026\uffcb\027\104\030" +
-    "\uffcb\032\uffcb\033\101\034\075\035\071\036\103\037\072" +
-    "\046\uffcb\047\uffcb\055\uffcb\065\uffcb\066\uffcb\001\002\000" +
-    "\052\012\uffc9\013\uffc9\014\uffc9\022\uffc9\023\uffc9\024\uffc9" +
-    "\026\uffc9\027\104\030\uffc9\032\uffc9\033\101\034\075\035" +
-    "\071\036\103\037\072\046\uffc9\047\uffc9\055\uffc9\065\uffc9" +
-    "\066\uffc9\001\002\000\066\012\uffd2\013\uffd2\014\uffd2\022" +
-    "\uffd2\023\uffd2\024\uffd2\026\uffd2\027\104\030\uffd2\032\uffd2" +
-    "\033\101\034\uffd2\035\uffd2\036\103\037\072\040\uffd2\041" +
-    "\uffd2\042\uffd2\043\uffd2\044\uffd2\045\uffd2\046\uffd2\047\uffd2" +
-    "\055\uffd2\065\uffd2\066\uffd2\001\002\000\052\012\uffc8\013" +
-    "\uffc8\014\uffc8\022\uffc8\023\uffc8\024\uffc8\026\uffc8\027\104" +
-    "\030\uffc8\032\uffc8\033\101\034\075\035\071\036\103\037" +
-    "\072\046\uffc8\047\uffc8\055\uffc8\065\uffc8\066\uffc8\001\002" +
-    "\000\052\012\uffcd\013\uffcd\014\uffcd\022\uffcd\023\uffcd\024" +
-    "\uffcd\026\uffcd\027\104\030\uffcd\032\uffcd\033\101\034\075" +
-    "\035\071\036\103\037\072\046\uffcd\047\uffcd\055\uffcd\065" +
-    "\uffcd\066\uffcd\001\002\000\066\012\uffcf\013\uffcf\014\uffcf" +
-    "\022\uffcf\023\uffcf\024\uffcf\026\uffcf\027\104\030\uffcf\032" +
-    "\uffcf\033\101\034\uffcf\035\uffcf\036\uffcf\037\uffcf\040\uffcf" +
-    "\041\uffcf\042\uffcf\043\uffcf\044\uffcf\045\uffcf\046\uffcf\047" +
-    "\uffcf\055\uffcf\065\uffcf\066\uffcf\001\002\000\066\012\uffd1" +
-    "\013\uffd1\014\uffd1\022\uffd1\023\uffd1\024\uffd1\026\uffd1\027" +
-    "\104\030\uffd1\032\uffd1\033\101\034\uffd1\035\uffd1\036\103" +
-    "\037\072\040\uffd1\041\uffd1\042\uffd1\043\uffd1\044\uffd1\045" +
-    "\uffd1\046\uffd1\047\uffd1\055\uffd1\065\uffd1\066\uffd1\001\002" +
-    "\000\066\012\uffc7\013\uffc7\014\uffc7\022\uffc7\023\uffc7\024" +
-    "\uffc7\026\uffc7\027\104\030\uffc7\032\uffc7\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\uffc7\047\uffc7\055\uffc7\065\uffc7" +
-    "\066\uffc7\001\002\000\052\004\053\005\054\006\061\007" +
-    "\055\015\060\016\027\017\024\020\026\025\050\031\052" +
-    "\035\057\050\043\053\047\056\041\057\062\060\044\061" +
-    "\051\062\046\063\056\067\037\001\002\000\004\023\140" +
-    "\001\002\000\030\004\066\005\054\006\061\007\055\015" +
-    "\060\025\050\035\057\050\043\061\051\062\046\063\056" +
-    "\001\002\000\042\023\142\024\102\027\104\033\101\034" +
-    "\075\035\071\036\103\037\072\040\076\041\074\042\105" +
-    "\043\077\044\100\045\073\046\070\047\106\001\002\000" +
-    "\052\004\053\005\054\006\061\007\055\015\060\016\027" +
-    "\017\024\020\026\025\050\031\052\035\057\050\043\053" +
-    "\047\056\041\057\062\060\044\061\051\062\046\063\056" +
-    "\067\037\001\002\000\004\026\144\001\002\000\052\004" +
-    "\053\005\054\006\061\007\055\015\060\016\027\017\024" +
-    "\020\026\025\050\031\052\035\057\050\043\053\047\056" +
-    "\041\057\062\060\044\061\051\062\046\063\056\067\037" +
-    "\001\002\000\024\012\uffe3\013\uffe3\014\uffe3\023\uffe3\026" +
-    "\uffe3\032\uffe3\055\uffe3\065\uffe3\066\uffe3\001\002\000\010" +
-    "\025\153\027\ufffd\052\ufffd\001\002\000\006\027\150\052" +
-    "\030\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\042\024\102\027\104\030\152\033\101" +
-    "\034\075\035\071\036\103\037\072\040\076\041\074\042" +
-    "\105\043\077\044\100\045\073\046\070\047\106\001\002" +
-    "\000\066\012\uffd4\013\uffd4\014\uffd4\022\uffd4\023\uffd4\024" +
-    "\uffd4\026\uffd4\027\uffd4\030\uffd4\032\uffd4\033\uffd4\034\uffd4" +
-    "\035\uffd4\036\uffd4\037\uffd4\040\uffd4\041\uffd4\042\uffd4\043" +
-    "\uffd4\044\uffd4\045\uffd4\046\uffd4\047\uffd4\055\uffd4\065\uffd4" +
-    "\066\uffd4\001\002\000\032\004\066\005\054\006\061\007" +
-    "\055\015\060\025\050\026\uffc2\035\057\050\043\061\051" +
-    "\062\046\063\056\001\002\000\004\026\155\001\002\000" +
-    "\066\012\uffd5\013\uffd5\014\uffd5\022\uffd5\023\uffd5\024\uffd5" +
-    "\026\uffd5\027\uffd5\030\uffd5\032\uffd5\033\uffd5\034\uffd5\035" +
-    "\uffd5\036\uffd5\037\uffd5\040\uffd5\041\uffd5\042\uffd5\043\uffd5" +
-    "\044\uffd5\045\uffd5\046\uffd5\047\uffd5\055\uffd5\065\uffd5\066" +
-    "\uffd5\001\002\000\066\012\uffce\013\uffce\014\uffce\022\uffce" +
-    "\023\uffce\024\uffce\026\uffce\027\104\030\uffce\032\uffce\033" +
-    "\101\034\uffce\035\uffce\036\uffce\037\uffce\040\uffce\041\uffce" +
-    "\042\uffce\043\uffce\044\uffce\045\uffce\046\uffce\047\uffce\055" +
-    "\uffce\065\uffce\066\uffce\001\002\000\024\012\uffe1\013\uffe1" +
-    "\014\uffe1\023\uffe1\026\uffe1\032\uffe1\055\uffe1\065\uffe1\066" +
-    "\uffe1\001\002\000\006\023\163\032\uffde\001\002\000\004" +
-    "\032\162\001\002\000\024\012\uffe2\013\uffe2\014\uffe2\023" +
-    "\uffe2\026\uffe2\032\uffe2\055\uffe2\065\uffe2\066\uffe2\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\067\037\001\002\000\004\032\uffdd\001\002\000\042" +
-    "\024\102\026\166\027\104\033\101\034\075\035\071\036" +
-    "\103\037\072\040\076\041\074\042\105\043\077\044\100" +
-    "\045\073\046\070\047\106\001\002\000\066\012\uffc3\013" +
-    "\uffc3\014\uffc3\022\uffc3\023\uffc3\024\uffc3\026\uffc3\027\uffc3" +
-    "\030\uffc3\032\uffc3\033\uffc3\034\uffc3\035\uffc3\036\uffc3\037" +
-    "\uffc3\040\uffc3\041\uffc3\042\uffc3\043\uffc3\044\uffc3\045\uffc3" +
-    "\046\uffc3\047\uffc3\055\uffc3\065\uffc3\066\uffc3\001\002\000" +
-    "\030\004\066\005\054\006\061\007\055\015\060\025\050" +
-    "\035\057\050\043\061\051\062\046\063\056\001\002\000" +
-    "\042\024\102\026\171\027\104\033\101\034\075\035\071" +
-    "\036\103\037\072\040\076\041\074\042\105\043\077\044" +
-    "\100\045\073\046\070\047\106\001\002\000\004\054\172" +
-    "\001\002\000\052\004\053\005\054\006\061\007\055\015" +
-    "\060\016\027\017\024\020\026\025\050\031\052\035\057" +
-    "\050\043\053\047\056\041\057\062\060\044\061\051\062" +
-    "\046\063\056\067\037\001\002\000\024\012\uffe6\013\uffe6" +
-    "\014\uffe6\023\uffe6\026\uffe6\032\uffe6\055\174\065\uffe6\066" +
-    "\uffe6\001\002\000\052\004\053\005\054\006\061\007\055" +
-    "\015\060\016\027\017\024\020\026\025\050\031\052\035" +
-    "\057\050\043\053\047\056\041\057\062\060\044\061\051" +
-    "\062\046\063\056\067\037\001\002\000\024\012\uffe5\013" +
-    "\uffe5\014\uffe5\023\uffe5\026\uffe5\032\uffe5\055\uffe5\065\uffe5" +
-    "\066\uffe5\001\002\000\004\004\177\001\002\000\044\024" +
-    "\uffff\025\200\027\uffff\033\uffff\034\uffff\035\uffff\036\uffff" +
-    "\037\uffff\040\uffff\041\uffff\042\uffff\043\uffff\044\uffff\045" +
-    "\uffff\046\uffff\047\uffff\051\uffff\001\002\000\032\004\066" +
-    "\005\054\006\061\007\055\015\060\025\050\026\uffc2\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\004" +
-    "\026\202\001\002\000\062\012\uffe0\013\uffe0\014\uffe0\023" +
-    "\uffe0\024\uffc4\026\uffe0\027\uffc4\032\uffe0\033\uffc4\034\uffc4" +
-    "\035\uffc4\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043" +
-    "\uffc4\044\uffc4\045\uffc4\046\uffc4\047\uffc4\055\uffe0\065\uffe0" +
-    "\066\uffe0\001\002\000\062\012\uffe7\013\uffe7\014\uffe7\023" +
-    "\uffe7\024\102\026\uffe7\027\104\032\uffe7\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\070\047\106\055\uffe7\065\uffe7" +
-    "\066\uffe7\001\002\000\066\012\uffc5\013\uffc5\014\uffc5\022" +
-    "\uffc5\023\uffc5\024\uffc5\026\uffc5\027\104\030\uffc5\032\uffc5" +
-    "\033\101\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\055\uffc5\065\uffc5\066\uffc5\001\002\000\004\032\ufff1\001" +
-    "\002\000\030\004\066\005\054\006\061\007\055\015\060" +
-    "\025\050\035\057\050\043\061\051\062\046\063\056\001" +
-    "\002\000\042\024\102\026\210\027\104\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\070\047\106\001\002\000\052" +
-    "\004\053\005\054\006\061\007\055\015\060\016\027\017" +
-    "\024\020\026\025\050\031\052\035\057\050\043\053\047" +
-    "\056\041\057\062\060\044\061\051\062\046\063\056\067" +
-    "\037\001\002\000\024\012\uffe4\013\uffe4\014\uffe4\023\uffe4" +
-    "\026\uffe4\032\uffe4\055\uffe4\065\uffe4\066\uffe4\001\002\000" +
-    "\004\051\213\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\062\012\uffe9\013\uffe9\014\uffe9" +
-    "\023\uffe9\024\102\026\uffe9\027\104\032\uffe9\033\101\034" +
-    "\075\035\071\036\103\037\072\040\076\041\074\042\105" +
-    "\043\077\044\100\045\073\046\070\047\106\055\uffe9\065" +
-    "\uffe9\066\uffe9\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\042\024\102\026\217\027\104" +
-    "\033\101\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\001\002\000\024\012\uffdf\013\uffdf\014\uffdf\023\uffdf\026" +
-    "\uffdf\032\uffdf\055\uffdf\065\uffdf\066\uffdf\001\002\000\006" +
-    "\022\221\026\uffec\001\002\000\012\004\021\016\027\017" +
-    "\024\020\026\001\002\000\004\026\uffeb\001\002\000\004" +
-    "\002\ufff5\001\002\000\006\004\225\052\030\001\002\000" +
-    "\016\012\016\013\020\014\013\032\ufff4\065\015\066\014" +
-    "\001\002\000\004\032\ufff3\001\002\000\052\004\053\005" +
-    "\054\006\061\007\055\015\060\016\027\017\024\020\026" +
-    "\025\050\031\052\035\057\050\043\053\047\056\041\057" +
-    "\062\060\044\061\051\062\046\063\056\067\037\001\002" +
-    "\000\016\012\016\013\020\014\013\032\ufff4\065\015\066" +
-    "\014\001\002\000\004\032\ufff0\001\002\000\016\012\016" +
-    "\013\020\014\013\032\ufff4\065\015\066\014\001\002\000" +
-    "\004\032\uffef\001\002\000\014\004\021\016\027\017\024" +
-    "\020\026\026\uffee\001\002\000\004\026\236\001\002\000" +
-    "\052\004\053\005\054\006\061\007\055\015\060\016\027" +
-    "\017\024\020\026\025\050\031\052\035\057\050\043\053" +
-    "\047\056\041\057\062\060\044\061\051\062\046\063\056" +
-    "\067\037\001\002\000\016\012\016\013\020\014\013\032" +
-    "\ufff4\065\015\066\014\001\002\000\004\032\ufff2\001\002" +
-    "\000\004\032\242\001\002\000\004\002\ufff6\001\002\000" +
-    "\004\002\001\001\002" });
+  protected static final short[][] _action_table = new short[162][];
+
+  static {
+    _action_table0(_action_table);
+    _action_table1(_action_table);
+    _action_table2(_action_table);
+    _action_table3(_action_table);
+    _action_table4(_action_table);
+  }
+
+  private static void _action_table0(short[][] t) {
+    t[0] = new short[] {6,3,-1,0};
+    t[1] = new short[] {0,162,-1,0};
+    t[2] = new short[] {2,4,-1,0};
+    t[3] = new short[] {7,6,23,5,-1,0};
+    t[4] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[5] = new short[] {2,7,-1,0};
+    t[6] = new short[] {23,8,-1,0};
+    t[7] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[8] = new short[] {19,155,-1,0};
+    t[9] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[10] = new short[] {2,150,-1,0};
+    t[11] = new short[] {2,15,12,21,13,18,14,20,-1,0};
+    t[12] = new short[] {24,146,-1,0};
+    t[13] = new short[] {2,15,12,21,13,18,14,20,15,19,-1,0};
+    t[14] = new short[] {2,-5,8,-5,9,-5,10,-5,16,-5,17,-5,18,-5,20,-5,21,-5,22,-5,24,-5,25,-5,26,-5,27,-5,28,-5,29,-5,30,-5,31,-5,32,-5,33,-5,34,-5,35,-5,36,-5,37,-5,40,-5,43,-5,51,-5,52,-5,-1,0};
+    t[15] = new short[] {2,23,-1,0};
+    t[16] = new short[] {2,-10,40,22,-1,0};
+    t[17] = new short[] {2,-8,8,-8,9,-8,10,-8,16,-8,17,-8,18,-8,20,-8,21,-8,22,-8,24,-8,25,-8,26,-8,27,-8,28,-8,29,-8,30,-8,31,-8,32,-8,33,-8,34,-8,35,-8,36,-8,37,-8,40,-8,43,-8,51,-8,52,-8,-1,0};
+    t[18] = new short[] {2,-11,-1,0};
+    t[19] = new short[] {2,-6,8,-6,9,-6,10,-6,16,-6,17,-6,18,-6,20,-6,21,-6,22,-6,24,-6,25,-6,26,-6,27,-6,28,-6,29,-6,30,-6,31,-6,32,-6,33,-6,34,-6,35,-6,36,-6,37,-6,40,-6,43,-6,51,-6,52,-6,-1,0};
+    t[20] = new short[] {2,-7,8,-7,9,-7,10,-7,16,-7,17,-7,18,-7,20,-7,21,-7,22,-7,24,-7,25,-7,26,-7,27,-7,28,-7,29,-7,30,-7,31,-7,32,-7,33,-7,34,-7,35,-7,36,-7,37,-7,40,-7,43,-7,51,-7,52,-7,-1,0};
+    t[21] = new short[] {2,-9,8,-9,9,-9,10,-9,16,-9,17,-9,18,-9,20,-9,21,-9,22,-9,24,-9,25,-9,26,-9,27,-9,28,-9,29,-9,30,-9,31,-9,32,-9,33,-9,34,-9,35,-9,36,-9,37,-9,40,-9,43,-9,51,-9,52,-9,-1,0};
+    t[22] = new short[] {19,24,-1,0};
+    t[23] = new short[] {2,15,12,21,13,18,14,20,20,-20,-1,0};
+    t[24] = new short[] {20,-21,-1,0};
+    t[25] = new short[] {2,143,40,22,-1,0};
+    t[26] = new short[] {20,28,-1,0};
+    t[27] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[28] = new short[] {19,140,-1,0};
+    t[29] = new short[] {2,137,40,22,-1,0};
+    t[30] = new short[] {19,133,-1,0};
+    t[31] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[32] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[33] = new short[] {2,53,3,42,4,48,5,43,8,-26,9,-26,10,-26,11,47,17,-26,19,38,20,-26,24,-26,27,45,38,33,43,-26,47,39,48,35,49,44,51,-26,52,-26,-1,0};
+    t[34] = new short[] {8,-40,9,-40,10,-40,16,-40,17,-40,18,-40,20,-40,21,-40,22,-40,24,-40,25,-40,26,-40,27,-40,28,-40,29,-40,30,-40,31,-40,32,-40,33,-40,34,-40,35,-40,36,-40,37,-40,43,-40,51,-40,52,-40,-1,0};
+    t[35] = new short[] {18,65,21,67,25,125,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[36] = new short[] {19,118,-1,0};
+    t[37] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[38] = new short[] {8,-45,9,-45,10,-45,16,-45,17,-45,18,-45,20,-45,21,-45,22,-45,24,-45,25,-45,26,-45,27,-45,28,-45,29,-45,30,-45,31,-45,32,-45,33,-45,34,-45,35,-45,36,-45,37,-45,43,-45,51,-45,52,-45,-1,0};
+    t[39] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,24,110,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[40] = new short[] {2,-5,18,-2,21,-2,25,-2,26,-2,27,-2,28,-2,29,-2,30,-2,31,-2,32,-2,33,-2,34,-2,35,-2,36,-2,37,-2,39,-2,40,-5,-1,0};
+    t[41] = new short[] {8,-44,9,-44,10,-44,16,-44,17,-44,18,-44,20,-44,21,-44,22,-44,24,-44,25,-44,26,-44,27,-44,28,-44,29,-44,30,-44,31,-44,32,-44,33,-44,34,-44,35,-44,36,-44,37,-44,43,-44,51,-44,52,-44,-1,0};
+    t[42] = new short[] {8,-43,9,-43,10,-43,16,-43,17,-43,18,-43,20,-43,21,-43,22,-43,24,-43,25,-43,26,-43,27,-43,28,-43,29,-43,30,-43,31,-43,32,-43,33,-43,34,-43,35,-43,36,-43,37,-43,43,-43,51,-43,52,-43,-1,0};
+    t[43] = new short[] {8,-41,9,-41,10,-41,16,-41,17,-41,18,-41,20,-41,21,-41,22,-41,24,-41,25,-41,26,-41,27,-41,28,-41,29,-41,30,-41,31,-41,32,-41,33,-41,34,-41,35,-41,36,-41,37,-41,43,-41,51,-41,52,-41,-1,0};
+  }
+
+  private static void _action_table1(short[][] t) {
+    t[44] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[45] = new short[] {8,-36,9,-36,10,-36,17,-36,20,-36,24,-36,43,-36,51,-36,52,-36,-1,0};
+    t[46] = new short[] {2,101,12,21,13,18,14,20,-1,0};
+    t[47] = new short[] {8,-42,9,-42,10,-42,16,-42,17,-42,18,-42,20,-42,21,-42,22,-42,24,-42,25,-42,26,-42,27,-42,28,-42,29,-42,30,-42,31,-42,32,-42,33,-42,34,-42,35,-42,36,-42,37,-42,43,-42,51,-42,52,-42,-1,0};
+    t[48] = new short[] {19,93,-1,0};
+    t[49] = new short[] {18,-39,21,-39,25,-39,26,-39,27,-39,28,-39,29,-39,30,-39,31,-39,32,-39,33,-39,34,-39,35,-39,36,-39,37,-39,39,51,-1,0};
+    t[50] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[51] = new short[] {8,-24,9,-24,10,-24,17,-24,18,65,20,-24,21,67,24,-24,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,43,-24,51,-24,52,-24,-1,0};
+    t[52] = new short[] {8,-2,9,-2,10,-2,16,-2,17,-2,18,-2,20,-2,21,-2,22,-2,24,-2,25,-2,26,-2,27,-2,28,-2,29,-2,30,-2,31,-2,32,-2,33,-2,34,-2,35,-2,36,-2,37,-2,43,-2,51,-2,52,-2,-1,0};
+    t[53] = new short[] {8,-39,9,-39,10,-39,16,-39,17,-39,18,-39,20,-39,21,-39,22,-39,24,-39,25,-39,26,-39,27,-39,28,-39,29,-39,30,-39,31,-39,32,-39,33,-39,34,-39,35,-39,36,-39,37,-39,43,-39,51,-39,52,-39,-1,0};
+    t[54] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[55] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[56] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[57] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[58] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[59] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[60] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[61] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[62] = new short[] {2,77,-1,0};
+    t[63] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[64] = new short[] {2,15,12,21,13,18,14,20,-1,0};
+    t[65] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[66] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[67] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[68] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[69] = new short[] {8,-61,9,-61,10,-61,16,-61,17,-61,18,-61,20,-61,21,67,22,-61,24,-61,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,-61,37,-61,43,-61,51,-61,52,-61,-1,0};
+    t[70] = new short[] {8,-55,9,-55,10,-55,16,-55,17,-55,18,-55,20,-55,21,67,22,-55,24,-55,25,63,26,60,27,55,28,66,29,57,36,-55,37,-55,43,-55,51,-55,52,-55,-1,0};
+    t[71] = new short[] {18,65,21,67,22,73,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[72] = new short[] {8,-4,9,-4,10,-4,16,-4,17,-4,18,-4,20,-4,21,-4,22,-4,24,-4,25,-4,26,-4,27,-4,28,-4,29,-4,30,-4,31,-4,32,-4,33,-4,34,-4,35,-4,36,-4,37,-4,39,-4,43,-4,51,-4,52,-4,-1,0};
+    t[73] = new short[] {8,-51,9,-51,10,-51,16,-51,17,-51,18,-51,20,-51,21,67,22,-51,24,-51,25,63,26,-51,27,-51,28,-51,29,-51,30,-51,31,-51,32,-51,33,-51,34,-51,35,-51,36,-51,37,-51,43,-51,51,-51,52,-51,-1,0};
+    t[74] = new short[] {8,-48,9,-48,10,-48,16,-48,17,-48,18,-48,20,-48,21,-48,22,-48,24,-48,25,-48,26,-48,27,-48,28,-48,29,-48,30,-48,31,-48,32,-48,33,-48,34,-48,35,-48,36,-48,37,-48,40,22,43,-48,51,-48,52,-48,-1,0};
+    t[75] = new short[] {8,-57,9,-57,10,-57,16,-57,17,-57,18,-57,20,-57,21,67,22,-57,24,-57,25,63,26,60,27,55,28,66,29,57,36,-57,37,-57,43,-57,51,-57,52,-57,-1,0};
+  }
+
+  private static void _action_table2(short[][] t) {
+    t[76] = new short[] {8,-3,9,-3,10,-3,16,-3,17,-3,18,-3,19,78,20,-3,21,-3,22,-3,24,-3,25,-3,26,-3,27,-3,28,-3,29,-3,30,-3,31,-3,32,-3,33,-3,34,-3,35,-3,36,-3,37,-3,43,-3,51,-3,52,-3,-1,0};
+    t[77] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,20,-65,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[78] = new short[] {20,-66,-1,0};
+    t[79] = new short[] {20,84,-1,0};
+    t[80] = new short[] {16,82,18,65,20,-67,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[81] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[82] = new short[] {20,-68,-1,0};
+    t[83] = new short[] {8,-63,9,-63,10,-63,16,-63,17,-63,18,-63,20,-63,21,-63,22,-63,24,-63,25,-63,26,-63,27,-63,28,-63,29,-63,30,-63,31,-63,32,-63,33,-63,34,-63,35,-63,36,-63,37,-63,43,-63,51,-63,52,-63,-1,0};
+    t[84] = new short[] {8,-56,9,-56,10,-56,16,-56,17,-56,18,-56,20,-56,21,67,22,-56,24,-56,25,63,26,60,27,55,28,66,29,57,36,-56,37,-56,43,-56,51,-56,52,-56,-1,0};
+    t[85] = new short[] {8,-58,9,-58,10,-58,16,-58,17,-58,18,-58,20,-58,21,67,22,-58,24,-58,25,63,26,60,27,55,28,66,29,57,36,-58,37,-58,43,-58,51,-58,52,-58,-1,0};
+    t[86] = new short[] {8,-49,9,-49,10,-49,16,-49,17,-49,18,-49,20,-49,21,67,22,-49,24,-49,25,63,26,-49,27,-49,28,66,29,57,30,-49,31,-49,32,-49,33,-49,34,-49,35,-49,36,-49,37,-49,43,-49,51,-49,52,-49,-1,0};
+    t[87] = new short[] {8,-59,9,-59,10,-59,16,-59,17,-59,18,-59,20,-59,21,67,22,-59,24,-59,25,63,26,60,27,55,28,66,29,57,36,-59,37,-59,43,-59,51,-59,52,-59,-1,0};
+    t[88] = new short[] {8,-54,9,-54,10,-54,16,-54,17,-54,18,-54,20,-54,21,67,22,-54,24,-54,25,63,26,60,27,55,28,66,29,57,36,-54,37,-54,43,-54,51,-54,52,-54,-1,0};
+    t[89] = new short[] {8,-52,9,-52,10,-52,16,-52,17,-52,18,-52,20,-52,21,67,22,-52,24,-52,25,63,26,-52,27,-52,28,-52,29,-52,30,-52,31,-52,32,-52,33,-52,34,-52,35,-52,36,-52,37,-52,43,-52,51,-52,52,-52,-1,0};
+    t[90] = new short[] {8,-60,9,-60,10,-60,16,-60,17,-60,18,-60,20,-60,21,67,22,-60,24,-60,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,-60,37,-60,43,-60,51,-60,52,-60,-1,0};
+    t[91] = new short[] {8,-50,9,-50,10,-50,16,-50,17,-50,18,-50,20,-50,21,67,22,-50,24,-50,25,63,26,-50,27,-50,28,66,29,57,30,-50,31,-50,32,-50,33,-50,34,-50,35,-50,36,-50,37,-50,43,-50,51,-50,52,-50,-1,0};
+    t[92] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[93] = new short[] {17,95,-1,0};
+    t[94] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[95] = new short[] {17,97,18,65,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[96] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[97] = new short[] {20,99,-1,0};
+    t[98] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[99] = new short[] {8,-31,9,-31,10,-31,17,-31,20,-31,24,-31,43,-31,51,-31,52,-31,-1,0};
+    t[100] = new short[] {19,106,21,-5,40,-5,-1,0};
+    t[101] = new short[] {21,103,40,22,-1,0};
+    t[102] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[103] = new short[] {18,65,21,67,22,105,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[104] = new short[] {8,-47,9,-47,10,-47,16,-47,17,-47,18,-47,20,-47,21,-47,22,-47,24,-47,25,-47,26,-47,27,-47,28,-47,29,-47,30,-47,31,-47,32,-47,33,-47,34,-47,35,-47,36,-47,37,-47,43,-47,51,-47,52,-47,-1,0};
+    t[105] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,20,-65,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[106] = new short[] {20,108,-1,0};
+    t[107] = new short[] {8,-46,9,-46,10,-46,16,-46,17,-46,18,-46,20,-46,21,-46,22,-46,24,-46,25,-46,26,-46,27,-46,28,-46,29,-46,30,-46,31,-46,32,-46,33,-46,34,-46,35,-46,36,-46,37,-46,43,-46,51,-46,52,-46,-1,0};
+  }
+
+  private static void _action_table3(short[][] t) {
+    t[108] = new short[] {8,-53,9,-53,10,-53,16,-53,17,-53,18,-53,20,-53,21,67,22,-53,24,-53,25,63,26,-53,27,-53,28,-53,29,-53,30,-53,31,-53,32,-53,33,-53,34,-53,35,-53,36,-53,37,-53,43,-53,51,-53,52,-53,-1,0};
+    t[109] = new short[] {8,-33,9,-33,10,-33,17,-33,20,-33,24,-33,43,-33,51,-33,52,-33,-1,0};
+    t[110] = new short[] {17,114,24,-37,-1,0};
+    t[111] = new short[] {24,113,-1,0};
+    t[112] = new short[] {8,-32,9,-32,10,-32,17,-32,20,-32,24,-32,43,-32,51,-32,52,-32,-1,0};
+    t[113] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[114] = new short[] {24,-38,-1,0};
+    t[115] = new short[] {18,65,20,117,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[116] = new short[] {8,-64,9,-64,10,-64,16,-64,17,-64,18,-64,20,-64,21,-64,22,-64,24,-64,25,-64,26,-64,27,-64,28,-64,29,-64,30,-64,31,-64,32,-64,33,-64,34,-64,35,-64,36,-64,37,-64,43,-64,51,-64,52,-64,-1,0};
+    t[117] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[118] = new short[] {18,65,20,120,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[119] = new short[] {42,121,-1,0};
+    t[120] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[121] = new short[] {8,-28,9,-28,10,-28,17,-28,20,-28,24,-28,43,123,51,-28,52,-28,-1,0};
+    t[122] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[123] = new short[] {8,-29,9,-29,10,-29,17,-29,20,-29,24,-29,43,-29,51,-29,52,-29,-1,0};
+    t[124] = new short[] {2,126,-1,0};
+    t[125] = new short[] {18,-3,19,127,21,-3,25,-3,26,-3,27,-3,28,-3,29,-3,30,-3,31,-3,32,-3,33,-3,34,-3,35,-3,36,-3,37,-3,39,-3,-1,0};
+    t[126] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,20,-65,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[127] = new short[] {20,129,-1,0};
+    t[128] = new short[] {8,-34,9,-34,10,-34,17,-34,18,-63,20,-34,21,-63,24,-34,25,-63,26,-63,27,-63,28,-63,29,-63,30,-63,31,-63,32,-63,33,-63,34,-63,35,-63,36,-63,37,-63,43,-34,51,-34,52,-34,-1,0};
+    t[129] = new short[] {8,-27,9,-27,10,-27,17,-27,18,65,20,-27,21,67,24,-27,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,43,-27,51,-27,52,-27,-1,0};
+    t[130] = new short[] {8,-62,9,-62,10,-62,16,-62,17,-62,18,-62,20,-62,21,67,22,-62,24,-62,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,43,-62,51,-62,52,-62,-1,0};
+    t[131] = new short[] {24,-17,-1,0};
+    t[132] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[133] = new short[] {18,65,20,135,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[134] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[135] = new short[] {8,-30,9,-30,10,-30,17,-30,20,-30,24,-30,43,-30,51,-30,52,-30,-1,0};
+    t[136] = new short[] {39,138,-1,0};
+    t[137] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[138] = new short[] {8,-25,9,-25,10,-25,17,-25,18,65,20,-25,21,67,24,-25,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,43,-25,51,-25,52,-25,-1,0};
+    t[139] = new short[] {2,53,3,42,4,48,5,43,11,47,19,38,27,45,38,33,47,39,48,35,49,44,-1,0};
+    t[140] = new short[] {18,65,20,142,21,67,25,63,26,60,27,55,28,66,29,57,30,61,31,59,32,68,33,62,34,64,35,58,36,56,37,69,-1,0};
+    t[141] = new short[] {8,-35,9,-35,10,-35,17,-35,20,-35,24,-35,43,-35,51,-35,52,-35,-1,0};
+    t[142] = new short[] {16,144,20,-22,-1,0};
+    t[143] = new short[] {2,15,12,21,13,18,14,20,-1,0};
+    t[144] = new short[] {20,-23,-1,0};
+    t[145] = new short[] {0,-13,-1,0};
+    t[146] = new short[] {2,148,40,22,-1,0};
+    t[147] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[148] = new short[] {24,-15,-1,0};
+  }
+
+  private static void _action_table4(short[][] t) {
+    t[149] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[150] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[151] = new short[] {24,-18,-1,0};
+    t[152] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[153] = new short[] {24,-19,-1,0};
+    t[154] = new short[] {2,15,12,21,13,18,14,20,20,-20,-1,0};
+    t[155] = new short[] {20,157,-1,0};
+    t[156] = new short[] {2,41,3,42,4,48,5,43,11,47,12,21,13,18,14,20,19,38,23,40,27,45,38,33,41,37,44,31,45,49,46,34,47,39,48,35,49,44,53,29,54,46,-1,0};
+    t[157] = new short[] {8,12,9,14,10,9,24,-14,51,11,52,10,-1,0};
+    t[158] = new short[] {24,-16,-1,0};
+    t[159] = new short[] {24,161,-1,0};
+    t[160] = new short[] {0,-12,-1,0};
+    t[161] = new short[] {0,-1,-1,0};
+  }
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
 
   /** <code>reduce_goto</code> table. */
-  protected static final short[][] _reduce_table = 
-    unpackFromStrings(new String[] {
-    "\000\241\000\004\003\003\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\004\240\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\004\016\001" +
-    "\001\000\002\001\001\000\012\007\231\011\044\014\062" +
-    "\015\037\001\001\000\002\001\001\000\004\015\223\001" +
-    "\001\000\002\001\001\000\006\015\022\016\021\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\010\005" +
-    "\034\006\032\015\033\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\012\007\041\011\044\014" +
-    "\062\015\037\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\004\204\001\001\000\006\011" +
-    "\203\014\066\001\001\000\006\011\202\014\066\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\006\011\164\014\066\001\001\000\002\001\001\000\014" +
-    "\007\157\010\160\011\044\014\062\015\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\155\014\066\001\001\000\004\015" +
-    "\146\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\064\014\066\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\006\011\134" +
-    "\014\066\001\001\000\006\011\133\014\066\001\001\000" +
-    "\006\011\132\014\066\001\001\000\006\011\131\014\066" +
-    "\001\001\000\006\011\130\014\066\001\001\000\006\011" +
-    "\127\014\066\001\001\000\006\011\126\014\066\001\001" +
-    "\000\006\011\125\014\066\001\001\000\006\011\124\014" +
-    "\066\001\001\000\002\001\001\000\004\015\113\001\001" +
-    "\000\006\011\112\014\066\001\001\000\006\011\110\014" +
-    "\066\001\001\000\006\011\107\014\066\001\001\000\006" +
-    "\011\106\014\066\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\012\011\120\012" +
-    "\117\013\116\014\066\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\010\011\120\013\122\014" +
-    "\066\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\012\007\136\011" +
-    "\044\014\062\015\037\001\001\000\002\001\001\000\006" +
-    "\011\140\014\066\001\001\000\002\001\001\000\012\007" +
-    "\142\011\044\014\062\015\037\001\001\000\002\001\001" +
-    "\000\012\007\144\011\044\014\062\015\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\011\150\014\066\001\001\000\002\001\001\000\002\001" +
-    "\001\000\012\011\120\012\153\013\116\014\066\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\014\007\157\010\163\011\044\014\062\015" +
-    "\037\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\167\014\066\001\001\000\002\001" +
-    "\001\000\002\001\001\000\012\007\172\011\044\014\062" +
-    "\015\037\001\001\000\002\001\001\000\012\007\174\011" +
-    "\044\014\062\015\037\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\012\011\120\012\200\013" +
-    "\116\014\066\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\006\011\206\014\066\001\001\000\002\001\001\000\012" +
-    "\007\210\011\044\014\062\015\037\001\001\000\002\001" +
-    "\001\000\002\001\001\000\006\011\213\014\066\001\001" +
-    "\000\002\001\001\000\006\011\215\014\066\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\006\221\015\033\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\004\004\225\001\001\000\002" +
-    "\001\001\000\012\007\227\011\044\014\062\015\037\001" +
-    "\001\000\004\004\230\001\001\000\002\001\001\000\004" +
-    "\004\232\001\001\000\002\001\001\000\010\005\234\006" +
-    "\032\015\033\001\001\000\002\001\001\000\012\007\236" +
-    "\011\044\014\062\015\037\001\001\000\004\004\237\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001" });
+  protected static final short[][] _reduce_table = new short[162][];
+
+  static {
+    _reduce_table0(_reduce_table);
+  }
+
+  private static void _reduce_table0(short[][] t) {
+    t[0] = new short[] {1,1,-1,-1};
+    t[1] = new short[] {-1,-1};
+    t[2] = new short[] {-1,-1};
+    t[3] = new short[] {-1,-1};
+    t[4] = new short[] {2,159,-1,-1};
+    t[5] = new short[] {-1,-1};
+    t[6] = new short[] {-1,-1};
+    t[7] = new short[] {2,12,-1,-1};
+    t[8] = new short[] {-1,-1};
+    t[9] = new short[] {5,152,7,35,10,49,11,29,-1,-1};
+    t[10] = new short[] {-1,-1};
+    t[11] = new short[] {11,146,-1,-1};
+    t[12] = new short[] {-1,-1};
+    t[13] = new short[] {11,16,12,15,-1,-1};
+    t[14] = new short[] {-1,-1};
+    t[15] = new short[] {-1,-1};
+    t[16] = new short[] {-1,-1};
+    t[17] = new short[] {-1,-1};
+    t[18] = new short[] {-1,-1};
+    t[19] = new short[] {-1,-1};
+    t[20] = new short[] {-1,-1};
+    t[21] = new short[] {-1,-1};
+    t[22] = new short[] {-1,-1};
+    t[23] = new short[] {3,26,4,24,11,25,-1,-1};
+    t[24] = new short[] {-1,-1};
+    t[25] = new short[] {-1,-1};
+    t[26] = new short[] {-1,-1};
+    t[27] = new short[] {5,31,7,35,10,49,11,29,-1,-1};
+    t[28] = new short[] {-1,-1};
+    t[29] = new short[] {-1,-1};
+    t[30] = new short[] {-1,-1};
+    t[31] = new short[] {2,131,-1,-1};
+    t[32] = new short[] {7,130,10,53,-1,-1};
+    t[33] = new short[] {7,129,10,53,-1,-1};
+    t[34] = new short[] {-1,-1};
+    t[35] = new short[] {-1,-1};
+    t[36] = new short[] {-1,-1};
+    t[37] = new short[] {7,115,10,53,-1,-1};
+    t[38] = new short[] {-1,-1};
+    t[39] = new short[] {5,110,6,111,7,35,10,49,11,29,-1,-1};
+    t[40] = new short[] {-1,-1};
+    t[41] = new short[] {-1,-1};
+    t[42] = new short[] {-1,-1};
+    t[43] = new short[] {-1,-1};
+    t[44] = new short[] {7,108,10,53,-1,-1};
+    t[45] = new short[] {-1,-1};
+    t[46] = new short[] {11,101,-1,-1};
+    t[47] = new short[] {-1,-1};
+    t[48] = new short[] {-1,-1};
+    t[49] = new short[] {-1,-1};
+    t[50] = new short[] {7,51,10,53,-1,-1};
+    t[51] = new short[] {-1,-1};
+    t[52] = new short[] {-1,-1};
+    t[53] = new short[] {-1,-1};
+    t[54] = new short[] {7,91,10,53,-1,-1};
+    t[55] = new short[] {7,90,10,53,-1,-1};
+    t[56] = new short[] {7,89,10,53,-1,-1};
+    t[57] = new short[] {7,88,10,53,-1,-1};
+    t[58] = new short[] {7,87,10,53,-1,-1};
+    t[59] = new short[] {7,86,10,53,-1,-1};
+    t[60] = new short[] {7,85,10,53,-1,-1};
+    t[61] = new short[] {7,84,10,53,-1,-1};
+    t[62] = new short[] {-1,-1};
+    t[63] = new short[] {7,75,10,53,-1,-1};
+    t[64] = new short[] {11,74,-1,-1};
+    t[65] = new short[] {7,73,10,53,-1,-1};
+    t[66] = new short[] {7,71,10,53,-1,-1};
+    t[67] = new short[] {7,70,10,53,-1,-1};
+    t[68] = new short[] {7,69,10,53,-1,-1};
+    t[69] = new short[] {-1,-1};
+    t[70] = new short[] {-1,-1};
+    t[71] = new short[] {-1,-1};
+    t[72] = new short[] {-1,-1};
+    t[73] = new short[] {-1,-1};
+    t[74] = new short[] {-1,-1};
+    t[75] = new short[] {-1,-1};
+    t[76] = new short[] {-1,-1};
+    t[77] = new short[] {7,80,8,79,9,78,10,53,-1,-1};
+    t[78] = new short[] {-1,-1};
+    t[79] = new short[] {-1,-1};
+    t[80] = new short[] {-1,-1};
+    t[81] = new short[] {7,80,9,82,10,53,-1,-1};
+    t[82] = new short[] {-1,-1};
+    t[83] = new short[] {-1,-1};
+    t[84] = new short[] {-1,-1};
+    t[85] = new short[] {-1,-1};
+    t[86] = new short[] {-1,-1};
+    t[87] = new short[] {-1,-1};
+    t[88] = new short[] {-1,-1};
+    t[89] = new short[] {-1,-1};
+    t[90] = new short[] {-1,-1};
+    t[91] = new short[] {-1,-1};
+    t[92] = new short[] {5,93,7,35,10,49,11,29,-1,-1};
+    t[93] = new short[] {-1,-1};
+    t[94] = new short[] {7,95,10,53,-1,-1};
+    t[95] = new short[] {-1,-1};
+    t[96] = new short[] {5,97,7,35,10,49,11,29,-1,-1};
+    t[97] = new short[] {-1,-1};
+    t[98] = new short[] {5,99,7,35,10,49,11,29,-1,-1};
+    t[99] = new short[] {-1,-1};
+    t[100] = new short[] {-1,-1};
+    t[101] = new short[] {-1,-1};
+    t[102] = new short[] {7,103,10,53,-1,-1};
+    t[103] = new short[] {-1,-1};
+    t[104] = new short[] {-1,-1};
+    t[105] = new short[] {7,80,8,106,9,78,10,53,-1,-1};
+    t[106] = new short[] {-1,-1};
+    t[107] = new short[] {-1,-1};
+    t[108] = new short[] {-1,-1};
+    t[109] = new short[] {-1,-1};
+    t[110] = new short[] {-1,-1};
+    t[111] = new short[] {-1,-1};
+    t[112] = new short[] {-1,-1};
+    t[113] = new short[] {5,110,6,114,7,35,10,49,11,29,-1,-1};
+    t[114] = new short[] {-1,-1};
+    t[115] = new short[] {-1,-1};
+    t[116] = new short[] {-1,-1};
+    t[117] = new short[] {7,118,10,53,-1,-1};
+    t[118] = new short[] {-1,-1};
+    t[119] = new short[] {-1,-1};
+    t[120] = new short[] {5,121,7,35,10,49,11,29,-1,-1};
+    t[121] = new short[] {-1,-1};
+    t[122] = new short[] {5,123,7,35,10,49,11,29,-1,-1};
+    t[123] = new short[] {-1,-1};
+    t[124] = new short[] {-1,-1};
+    t[125] = new short[] {-1,-1};
+    t[126] = new short[] {7,80,8,127,9,78,10,53,-1,-1};
+    t[127] = new short[] {-1,-1};
+    t[128] = new short[] {-1,-1};
+    t[129] = new short[] {-1,-1};
+    t[130] = new short[] {-1,-1};
+    t[131] = new short[] {-1,-1};
+    t[132] = new short[] {7,133,10,53,-1,-1};
+    t[133] = new short[] {-1,-1};
+    t[134] = new short[] {5,135,7,35,10,49,11,29,-1,-1};
+    t[135] = new short[] {-1,-1};
+    t[136] = new short[] {-1,-1};
+    t[137] = new short[] {7,138,10,53,-1,-1};
+    t[138] = new short[] {-1,-1};
+    t[139] = new short[] {7,140,10,53,-1,-1};
+    t[140] = new short[] {-1,-1};
+    t[141] = new short[] {-1,-1};
+    t[142] = new short[] {-1,-1};
+    t[143] = new short[] {4,144,11,25,-1,-1};
+    t[144] = new short[] {-1,-1};
+    t[145] = new short[] {-1,-1};
+    t[146] = new short[] {-1,-1};
+    t[147] = new short[] {2,148,-1,-1};
+    t[148] = new short[] {-1,-1};
+    t[149] = new short[] {5,150,7,35,10,49,11,29,-1,-1};
+    t[150] = new short[] {2,151,-1,-1};
+    t[151] = new short[] {-1,-1};
+    t[152] = new short[] {2,153,-1,-1};
+    t[153] = new short[] {-1,-1};
+    t[154] = new short[] {3,155,4,24,11,25,-1,-1};
+    t[155] = new short[] {-1,-1};
+    t[156] = new short[] {5,157,7,35,10,49,11,29,-1,-1};
+    t[157] = new short[] {2,158,-1,-1};
+    t[158] = new short[] {-1,-1};
+    t[159] = new short[] {-1,-1};
+    t[160] = new short[] {-1,-1};
+    t[161] = new short[] {-1,-1};
+  }
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -516,17 +510,37 @@ public class Parser extends java_cup.runtime.lr_parser {
     throws java.lang.Exception
     {
 
-  return lexer.nextToken();
+  return tokens.next();
 
     }
 
 
 
 /**
- * The lexical analyser used to preprocess the source file.
+ * The provider of the tokens of the source file.
  */
 
-  private Lexer lexer;
+  private TokenReader tokens;
+
+/**
+ * The error reporting utility used during parsing.
+ */
+
+  private ErrorMsg errorMsg;
+
+/**
+ * True if a syntax error has been found in a deferred body, when the
+ * class contained a syntax error after that body.
+ */
+
+  private boolean failedBody;
+
+/**
+ * The names of the classes referenced in the source file, in order
+ * of first occurrence.
+ */
+
+  private final Set<String> referencedClasses = new LinkedHashSet<>();
 
 /**
  * Yields the error reporting utility used during parsing.
@@ -535,18 +549,65 @@ public class Parser extends java_cup.runtime.lr_parser {
  */
 
   public ErrorMsg getErrorMsg() {
-    return lexer.getErrorMsg();
+    return errorMsg;
+  }
+
+/**
+ * Yields the names of the classes referenced in the source file,
+ * in order of first occurrence. They are available after parsing and
+ * include the classes instantiated in the bodies whose parsing is deferred.
+ *
+ * @return the names of the referenced classes
+ */
+
+  public Set<String> getReferencedClasses() {
+    referencedClasses.addAll(tokens.getInstantiatedClasses());
+
+    return referencedClasses;
+  }
+
+/**
+ * Takes note that the source file references the given class.
+ *
+ * @param className the name of the referenced class
+ */
+
+  void references(String className) {
+    referencedClasses.add(className);
   }
 
 /**
  * Reports a syntax error at a given token. This overrrides a method
  * in the superclass which is called whenever a syntax error must be reported.
+ * The bodies deferred before the error are parsed first: if one of them
+ * contains a syntax error, only that error is reported, as without deferred bodies.
  *
  * @param token the token where the message should be signalled
  */
 
   public void syntax_error(java_cup.runtime.Symbol token) {
-    lexer.getErrorMsg().error(token.left,"syntax error");
+    if (!(failedBody = tokens.parseDeferredBodies()))
+      errorMsg.error(token.left,"syntax error");
+  }
+
+/**
+ * Reports an error of the parser that is not bound to a line of
+ * the source file. This overrides a method in the superclass, so that the
+ * report goes through the error reporting utility of the source file.
+ *
+ * @param message the message
+ * @param info the token where the error occurred, if any
+ */
+
+  public void report_error(String message, Object info) {
+    // the error of the body has been reported already
+    if (failedBody)
+      return;
+
+    if (info instanceof java_cup.runtime.Symbol && ((java_cup.runtime.Symbol) info).left != -1)
+      message += " at character " + ((java_cup.runtime.Symbol) info).left + " of input";
+
+    errorMsg.report(message);
   }
 
 /**
@@ -556,8 +617,43 @@ public class Parser extends java_cup.runtime.lr_parser {
  * @param lexer the lexical analyser which tokenises the input source file
  */
 
-  public Parser(Lexer lexer) {
-    this.lexer = lexer;
+  public Parser(TokenSource lexer) {
+    this.tokens = new TokenReader(lexer);
+    this.errorMsg = tokens.getErrorMsg();
+  }
+
+/**
+ * Builds a syntactical analyser that parses the tokens of a deferred body.
+ *
+ * @param errorMsg the error reporting utility of the source file of the body
+ * @param tokens the tokens to parse
+ */
+
+  private Parser(ErrorMsg errorMsg, List<Symbol> tokens) {
+    this.tokens = new TokenReader(errorMsg, tokens);
+    this.errorMsg = errorMsg;
+  }
+
+/**
+ * Parses the tokens of a deferred body. They are wrapped into a class
+ * with a single method, so that they can be parsed with this same grammar.
+ * The positions of the tokens are those in the original source file.
+ *
+ * @param errorMsg the error reporting utility of the source file of the body
+ * @param body the tokens of the body, including its braces
+ * @return the abstract syntax of the body, or {@code null} if it contains
+ *         a syntax error, that is reported through {@code errorMsg}
+ */
+
+  public static Command parseBody(ErrorMsg errorMsg, List<Symbol> body) {
+    try {
+      ClassDefinition wrapper = (ClassDefinition) new Parser(errorMsg, TokenReader.wrapBody(body)).parse().value;
+
+      return ((CodeDeclaration) wrapper.getDeclarations()).getBody();
+    }
+    catch (Exception e) {
+      return null;
+    }
   }
 
 }
@@ -586,7 +682,7 @@ class CUP$Parser$actions {
       switch (CUP$Parser$act_num)
         {
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // expseq_aux ::= exp COMMA expseq_aux 
+          case 67: // expseq_aux ::= exp COMMA expseq_aux 
             {
               ExpressionSeq RESULT = null;
 		int headleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -604,7 +700,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // expseq_aux ::= exp 
+          case 66: // expseq_aux ::= exp 
             {
               ExpressionSeq RESULT = null;
 		int headleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -616,7 +712,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // expseq ::= expseq_aux 
+          case 65: // expseq ::= expseq_aux 
             {
               ExpressionSeq RESULT = null;
 		int esleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -628,7 +724,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // expseq ::= 
+          case 64: // expseq ::= 
             {
               ExpressionSeq RESULT = null;
 		 RESULT = null; 
@@ -637,7 +733,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // exp ::= LPAREN exp RPAREN 
+          case 63: // exp ::= LPAREN exp RPAREN 
             {
               Expression RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -649,7 +745,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // exp ::= exp DOT ID LPAREN expseq RPAREN 
+          case 62: // exp ::= exp DOT ID LPAREN expseq RPAREN 
             {
               Expression RESULT = null;
 		int receiverleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -660,7 +756,7 @@ class CUP$Parser$actions {
 		Object d = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int actualsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
@@ -670,7 +766,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // exp ::= NOT exp 
+          case 61: // exp ::= NOT exp 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -685,7 +781,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // exp ::= exp OR exp 
+          case 60: // exp ::= exp OR exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -703,7 +799,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // exp ::= exp AND exp 
+          case 59: // exp ::= exp AND exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -721,7 +817,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // exp ::= exp NEQ exp 
+          case 58: // exp ::= exp NEQ exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -739,7 +835,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // exp ::= exp EQ exp 
+          case 57: // exp ::= exp EQ exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -757,7 +853,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // exp ::= exp GT exp 
+          case 56: // exp ::= exp GT exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -775,7 +871,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // exp ::= exp LE exp 
+          case 55: // exp ::= exp LE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -793,7 +889,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // exp ::= exp LT exp 
+          case 54: // exp ::= exp LT exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -811,7 +907,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // exp ::= exp GE exp 
+          case 53: // exp ::= exp GE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -829,7 +925,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // exp ::= MINUS exp 
+          case 52: // exp ::= MINUS exp 
             {
               Expression RESULT = null;
 		int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -844,7 +940,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // exp ::= exp DIVIDE exp 
+          case 51: // exp ::= exp DIVIDE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -862,7 +958,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // exp ::= exp TIMES exp 
+          case 50: // exp ::= exp TIMES exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -880,7 +976,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // exp ::= exp MINUS exp 
+          case 49: // exp ::= exp MINUS exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -898,7 +994,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // exp ::= exp PLUS exp 
+          case 48: // exp ::= exp PLUS exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -916,7 +1012,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // exp ::= exp AS type 
+          case 47: // exp ::= exp AS type 
             {
               Expression RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -934,7 +1030,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // exp ::= NEW type LBRACK exp RBRACK 
+          case 46: // exp ::= NEW type LBRACK exp RBRACK 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -952,7 +1048,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // exp ::= NEW ID LPAREN expseq RPAREN 
+          case 45: // exp ::= NEW ID LPAREN expseq RPAREN 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -960,17 +1056,17 @@ class CUP$Parser$actions {
 		Object n = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int actualsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new NewObject(nleft, id, actuals); 
+		 parser.references(id.getName()); RESULT = new NewObject(nleft, id.getName(), actuals); 
               CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // exp ::= NIL 
+          case 44: // exp ::= NIL 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -982,19 +1078,19 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 42: // exp ::= STRING 
+          case 43: // exp ::= STRING 
             {
               Expression RESULT = null;
 		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new StringLiteral(sleft,s); 
+		 parser.references("String"); RESULT = new StringLiteral(sleft,s); 
               CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 41: // exp ::= FLOATING 
+          case 42: // exp ::= FLOATING 
             {
               Expression RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1006,7 +1102,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 40: // exp ::= INTEGER 
+          case 41: // exp ::= INTEGER 
             {
               Expression RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1018,7 +1114,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 39: // exp ::= FALSE 
+          case 40: // exp ::= FALSE 
             {
               Expression RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1030,7 +1126,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 38: // exp ::= TRUE 
+          case 39: // exp ::= TRUE 
             {
               Expression RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1042,7 +1138,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 37: // exp ::= lvalue 
+          case 38: // exp ::= lvalue 
             {
               Expression RESULT = null;
 		int lvalueleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1054,7 +1150,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 36: // comseq ::= com SEMICOLON comseq 
+          case 37: // comseq ::= com SEMICOLON comseq 
             {
               Command RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1072,7 +1168,7 @@ class CUP$Parser$actions {
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 35: // comseq ::= com 
+          case 36: // comseq ::= com 
             {
               Command RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
@@ -1083,6 +1179,18 @@ class CUP$Parser$actions {
             }
           return CUP$Parser$result;
 
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // com ::= BODY 
+            {
+              Command RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		DeferredBody b = (DeferredBody)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = b; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 34: // com ::= ASSERT LPAREN exp RPAREN 
             {
@@ -1110,7 +1218,7 @@ class CUP$Parser$actions {
 		Object d = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int actualsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
@@ -1263,7 +1371,7 @@ class CUP$Parser$actions {
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		int initialiserleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int initialiserright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression initialiser = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
@@ -1299,7 +1407,7 @@ class CUP$Parser$actions {
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		FormalParameters next = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
@@ -1317,7 +1425,7 @@ class CUP$Parser$actions {
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new FormalParameters(tleft,t, id, null); 
               CUP$Parser$result = new java_cup.runtime.Symbol(4/*formals_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
@@ -1371,7 +1479,7 @@ class CUP$Parser$actions {
 		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
@@ -1395,7 +1503,7 @@ class CUP$Parser$actions {
 		TypeExpression returnType = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
 		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
 		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
@@ -1444,7 +1552,7 @@ class CUP$Parser$actions {
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
@@ -1471,15 +1579,15 @@ class CUP$Parser$actions {
 		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
 		int superclassleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int superclassright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String superclass = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		symbol.Symbol superclass = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int declarationsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int declarationsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ClassMemberDeclaration declarations = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new ClassDefinition
-	(cleft, name, superclass, declarations); 
+		 parser.references(superclass.getName()); RESULT = new ClassDefinition
+	(cleft, name.getName(), superclass.getName(), declarations); 
               CUP$Parser$result = new java_cup.runtime.Symbol(1/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
@@ -1493,12 +1601,12 @@ class CUP$Parser$actions {
 		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
 		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		symbol.Symbol name = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int declarationsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int declarationsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ClassMemberDeclaration declarations = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new ClassDefinition
-	(cleft, name, "Object", declarations); 
+		 parser.references("Object"); RESULT = new ClassDefinition
+	(cleft, name.getName(), "Object", declarations); 
               CUP$Parser$result = new java_cup.runtime.Symbol(1/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
@@ -1584,8 +1692,8 @@ class CUP$Parser$actions {
               TypeExpression RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new ClassTypeExpression(idleft, id); 
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 parser.references(id.getName()); RESULT = new ClassTypeExpression(idleft, id.getName()); 
               CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
@@ -1620,7 +1728,7 @@ class CUP$Parser$actions {
 		Object d = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		int fieldleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int fieldright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		String field = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		symbol.Symbol field = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new FieldAccess(dleft,receiver, field); 
               CUP$Parser$result = new java_cup.runtime.Symbol(10/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
@@ -1632,7 +1740,7 @@ class CUP$Parser$actions {
               Lvalue RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		symbol.Symbol id = (symbol.Symbol)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Variable(idleft, id); 
               CUP$Parser$result = new java_cup.runtime.Symbol(10/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
@@ -0,0 +1,304 @@
+package syntactical;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import java_cup.runtime.Symbol;
+import absyn.DeferredBody;
+import errorMsg.ErrorMsg;
+import lexical.TokenSource;
+import metrics.Measurement;
+import metrics.Metrics;
+import metrics.Phase;
+import types.CompilationContext;
+
+/**
+ * The provider of the tokens to a syntactical analyser. The tokens are
+ * read from a lexical analyser or replayed from the tokens of a deferred body.
+ * If bodies must be deferred, the tokens of a body of a member of the class,
+ * between braces, are collapsed into a single {@code BODY} token, whose value
+ * is a {@link DeferredBody}.
+ */
+
+final class TokenReader {
+
+	/**
+	 * The lexical analyser used to preprocess the source file, or {@code null}
+	 * if the tokens are replayed.
+	 */
+
+	private final TokenSource lexer;
+
+	/**
+	 * The error reporting utility of the source file.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The tokens of a deferred body that is being parsed, or {@code null}
+	 * if the tokens come from {@link #lexer}.
+	 */
+
+	private final Iterator<Symbol> replayed;
+
+	/**
+	 * True if the bodies of the members of the class must be deferred,
+	 * that is, parsed only when they are needed.
+	 */
+
+	private final boolean deferBodies;
+
+	/**
+	 * The number of braces opened and not yet closed so far.
+	 */
+
+	private int depth;
+
+	/**
+	 * The tokens already read from {@link #lexer} that must be returned
+	 * before reading new ones.
+	 */
+
+	private final Deque<Symbol> pending = new ArrayDeque<>();
+
+	/**
+	 * The bodies deferred so far and not parsed yet, in order.
+	 */
+
+	private final List<DeferredBody> deferred = new ArrayList<>();
+
+	/**
+	 * The names of the classes instantiated in the bodies deferred so far,
+	 * in order of first occurrence.
+	 */
+
+	private final Set<String> instantiated = new LinkedHashSet<>();
+
+	/**
+	 * The metrics of the compilation where the source file is parsed.
+	 */
+
+	private final Metrics metrics = CompilationContext.current().getMetrics();
+
+	/**
+	 * The measurement of the lexical analysis of the source file,
+	 * or {@code null} if the metrics are not enabled or the tokens are replayed.
+	 */
+
+	private final Measurement lexing;
+
+	/**
+	 * Builds a provider of the tokens read from a lexical analyser.
+	 *
+	 * @param lexer the lexical analyser which tokenises the input source file
+	 */
+
+	TokenReader(TokenSource lexer) {
+		// compact bodies are built from parsed bodies
+		this(lexer, CompilationContext.current().isLazy() && !CompilationContext.current().isCompactSyntax());
+	}
+
+	/**
+	 * Builds a provider of the tokens read from a lexical analyser.
+	 *
+	 * @param lexer the lexical analyser which tokenises the input source file
+	 * @param deferBodies true if the bodies of the members of the class must be deferred
+	 */
+
+	TokenReader(TokenSource lexer, boolean deferBodies) {
+		this.lexer = lexer;
+		this.errorMsg = lexer.getErrorMsg();
+		this.replayed = null;
+		this.deferBodies = deferBodies;
+		this.lexing = metrics.isEnabled() ? metrics.get(Phase.LEX, lexer.parsedClass()) : null;
+	}
+
+	/**
+	 * Builds a provider that replays the given tokens.
+	 *
+	 * @param errorMsg the error reporting utility of the source file of the tokens
+	 * @param tokens the tokens to replay
+	 */
+
+	TokenReader(ErrorMsg errorMsg, List<Symbol> tokens) {
+		this.lexer = null;
+		this.errorMsg = errorMsg;
+		this.replayed = tokens.iterator();
+		this.deferBodies = false;
+		this.lexing = null;
+	}
+
+	/**
+	 * Yields the error reporting utility of the source file.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Yields the next token to parse.
+	 *
+	 * @return the next token
+	 * @throws Exception if the token cannot be read
+	 */
+
+	Symbol next() throws Exception {
+		if (replayed != null)
+			return replayed.hasNext() ? replayed.next() : new Symbol(sym.EOF);
+		else if (!pending.isEmpty())
+			return pending.removeFirst();
+
+		Symbol token = lex();
+		if (token.sym == sym.LBRACE && depth++ == 1 && deferBodies)
+			// the body of a constructor, method, test or fixture
+			return deferBody(token);
+		else if (token.sym == sym.RBRACE)
+			depth--;
+
+		return token;
+	}
+
+	/**
+	 * Reads the tokens of a body up to its closing brace and yields
+	 * a {@code BODY} token for them.
+	 *
+	 * @param open the opening brace of the body
+	 * @return the {@code BODY} token or, if the body is not closed,
+	 *         the opening brace, followed by the other tokens
+	 *         read so far, which are then parsed as usual
+	 * @throws Exception if a token cannot be read
+	 */
+
+	private Symbol deferBody(Symbol open) throws Exception {
+		List<Symbol> tokens = new ArrayList<>();
+		tokens.add(open);
+
+		for (int nesting = 1; nesting > 0; ) {
+			Symbol token = lex();
+			if (token.sym == sym.EOF) {
+				pending.addAll(tokens.subList(1, tokens.size()));
+				pending.add(token);
+				return open;
+			}
+
+			tokens.add(token);
+			if (token.sym == sym.LBRACE)
+				nesting++;
+			else if (token.sym == sym.RBRACE)
+				nesting--;
+		}
+
+		depth--;
+
+		DeferredBody body = new DeferredBody(open.left, errorMsg, tokens);
+		deferred.add(body);
+		instantiates(tokens);
+
+		return new Symbol(sym.BODY, open.left, tokens.get(tokens.size() - 1).right, body);
+	}
+
+	/**
+	 * Takes note of the classes instantiated by the given tokens of a body,
+	 * that is, those after {@code new} and before the actual parameters
+	 * of a constructor, and of {@code String}, for the string constants.
+	 *
+	 * @param tokens the tokens of the body
+	 */
+
+	private void instantiates(List<Symbol> tokens) {
+		for (int pos = 0; pos < tokens.size(); pos++) {
+			int token = tokens.get(pos).sym;
+			if (token == sym.STRING)
+				instantiated.add("String");
+			else if (token == sym.NEW && pos + 2 < tokens.size() && tokens.get(pos + 1).sym == sym.ID && tokens.get(pos + 2).sym == sym.LPAREN)
+				instantiated.add(((symbol.Symbol) tokens.get(pos + 1).value).getName());
+		}
+	}
+
+	/**
+	 * Yields the names of the classes instantiated in the bodies deferred so far.
+	 * They are not referenced by the abstract syntax of the class until the
+	 * bodies are parsed.
+	 *
+	 * @return the names of the classes, in order of first occurrence
+	 */
+
+	Set<String> getInstantiatedClasses() {
+		return instantiated;
+	}
+
+	/**
+	 * Parses the bodies deferred so far, up to the first that contains a syntax
+	 * error, so that the error is reported. This is called when the class contains
+	 * a syntax error after those bodies: its abstract syntax is not built, hence
+	 * they would never be parsed, and their first error, where the parsing without
+	 * deferred bodies stops, would be lost.
+	 *
+	 * @return true if and only if one of the bodies contains a syntax error.
+	 *         Then the syntax error of the class must not be reported, since
+	 *         the parsing without deferred bodies does not reach it
+	 */
+
+	boolean parseDeferredBodies() {
+		boolean failed = false;
+		for (Iterator<DeferredBody> it = deferred.iterator(); it.hasNext() && !failed; )
+			failed = it.next().hasSyntaxError();
+
+		deferred.clear();
+
+		return failed;
+	}
+
+	/**
+	 * Reads the next token from the lexical analyser.
+	 *
+	 * @return the token
+	 * @throws Exception if the token cannot be read
+	 */
+
+	private Symbol lex() throws Exception {
+		Metrics.Timer timer = metrics.start(lexing);
+		try {
+			return lexer.nextToken();
+		}
+		finally {
+			timer.close();
+		}
+	}
+
+	/**
+	 * Wraps the tokens of a deferred body into a class with a single method,
+	 * so that they can be parsed as a class. The positions of the tokens
+	 * are those in the original source file.
+	 *
+	 * @param body the tokens of the body, including its braces
+	 * @return the tokens of the class
+	 */
+
+	static List<Symbol> wrapBody(List<Symbol> body) {
+		int pos = body.get(0).left;
+
+		List<Symbol> tokens = new ArrayList<>(body.size() + 9);
+		tokens.add(new Symbol(sym.CLASS, pos, pos));
+		tokens.add(new Symbol(sym.ID, pos, pos, symbol.Symbol.of("Deferred")));
+		tokens.add(new Symbol(sym.LBRACE, pos, pos));
+		tokens.add(new Symbol(sym.METHOD, pos, pos));
+		tokens.add(new Symbol(sym.VOID, pos, pos));
+		tokens.add(new Symbol(sym.ID, pos, pos, symbol.Symbol.of("body")));
+		tokens.add(new Symbol(sym.LPAREN, pos, pos));
+		tokens.add(new Symbol(sym.RPAREN, pos, pos));
+		tokens.addAll(body);
+		tokens.add(new Symbol(sym.RBRACE, pos, pos));
+
+		return tokens;
+	}
+}
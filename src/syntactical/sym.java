@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10j
-// Mon Aug 03 16:36:30 CEST 2015
+// Sun Oct 18 09:12:24 UTC 2026
 //----------------------------------------------------
 
 package syntactical;
@@ -57,6 +57,7 @@ public class sym {
   public static final int FLOAT = 13;
   public static final int THEN = 42;
   public static final int RBRACE = 24;
+  public static final int BODY = 54;
   public static final int EXTENDS = 7;
   public static final int STRING = 3;
   public static final int FIXTURE = 52;
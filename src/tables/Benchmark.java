@@ -0,0 +1,93 @@
+package tables;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import errorMsg.ErrorMsg;
+import metrics.Throughput;
+import semantical.TypeChecker;
+import symbol.Symbol;
+import types.IntType;
+import types.Type;
+import types.VoidType;
+
+public class Benchmark {
+
+	public static void main(String[] args) throws Exception {
+		int[] sizes = { 100, 1_000, 5_000, 20_000 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int pos = 0; pos < args.length; pos++)
+				sizes[pos] = Integer.parseInt(args[pos]);
+		}
+
+		for (int size: sizes) {
+			// the locals are named as our code generators name them, in order of declaration
+			Symbol[] locals = new Symbol[size];
+			for (int pos = 0; pos < size; pos++)
+				locals[pos] = Symbol.of("v" + pos);
+
+			check(locals);
+			System.out.println(String.format("%,7d locals: %,d ns per declaration and use of a local",
+				size, new Declarations(locals).measure().getNanosPerOperation()));
+		}
+	}
+
+	private static void check(Symbol[] locals) {
+		Map<Symbol, Integer> expected = new HashMap<>();
+		Table<Integer> table = Table.empty(), previous = table;
+
+		for (int pos = 0; pos < locals.length; pos++) {
+			previous = table;
+			table = table.put(locals[pos], pos);
+			expected.put(locals[pos], pos);
+		}
+
+		// the tables are persistent: the previous one has not been modified
+		if (locals.length > 0 && previous.get(locals[locals.length - 1]) != null)
+			throw new IllegalStateException("A persistent table has been modified");
+
+		for (Symbol local: locals)
+			if (!expected.get(local).equals(table.get(local)))
+				throw new IllegalStateException("Wrong binding for " + local);
+
+		// an AVL tree with n nodes is at most about 1.44 log2(n) high
+		if (table.height() > 1.45 * Math.log(locals.length + 2) / Math.log(2))
+			throw new IllegalStateException("Unbalanced table of height " + table.height());
+	}
+
+	private static class Declarations extends Throughput {
+
+		private final Symbol[] locals;
+
+		private Declarations(Symbol[] locals) {
+			this.locals = locals;
+		}
+
+		@Override
+		protected long run() {
+			TypeChecker checker = new TypeChecker(VoidType.INSTANCE, new ErrorMsg("Benchmark.kit"));
+			long sum = 0;
+
+			// each local is initialised from the previous one and the first one is used at the end,
+			// as in the straight-line code of generated methods
+			for (int pos = 0; pos < locals.length; pos++) {
+				if (pos > 0) {
+					Type type = checker.getVar(locals[pos - 1]);
+					sum += checker.getVarNum(locals[pos - 1]) + (type == IntType.INSTANCE ? 1 : 0);
+				}
+
+				checker = checker.putVar(locals[pos], IntType.INSTANCE);
+			}
+
+			if (locals.length > 0)
+				sum += checker.getVarNum(locals[0]);
+
+			// this prevents the loop from being optimised away
+			if (sum < 0)
+				System.out.println(sum);
+
+			return locals.length;
+		}
+	}
+}
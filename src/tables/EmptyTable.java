@@ -1,5 +1,7 @@
 package tables;
 
+import symbol.Symbol;
+
 /**
  * An empty symbol table.
  *
@@ -11,12 +13,17 @@ final class EmptyTable<E> extends Table<E> {
 	EmptyTable() {}
 
 	@Override
-	public E get(String key) {
+	int height() {
+		return 0;
+	}
+
+	@Override
+	public E get(Symbol key) {
 		return null;  // there is no key in this empty table
 	}
 
 	@Override
-	public Table<E> put(String key, E value) {
+	public Table<E> put(Symbol key, E value) {
 		// builds a non-empty symbol table with empty subtrees
 		return new NonEmptyTable<E>(key, value);
 	}
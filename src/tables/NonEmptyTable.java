@@ -1,7 +1,13 @@
 package tables;
 
+import symbol.Symbol;
+
 /**
- * A non-empty symbol table. It is organized as a binary search tree.
+ * A non-empty symbol table. It is organized as a binary search tree,
+ * ordered by the identifiers of the symbols. The tree is kept balanced as an
+ * AVL tree, so that it does not degenerate into a list when the symbols are
+ * put in the order of their identifiers, as it happens for the local variables
+ * of a method. Hence lookups and updates take logarithmic time.
  *
  * @author  <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -12,7 +18,7 @@ final class NonEmptyTable<E> extends Table<E> {
 	 * the key on top of the tree.
 	 */
 
-	private final String key;
+	private final Symbol key;
 
 	/**
 	 * the value bound on key at the top of the tree.
@@ -32,6 +38,12 @@ final class NonEmptyTable<E> extends Table<E> {
 
 	private final Table<E> right;
 
+	/**
+	 * the height of the tree.
+	 */
+
+	private final int height;
+
 	/**
 	 * Builds a non-empty table.
 	 *
@@ -41,11 +53,12 @@ final class NonEmptyTable<E> extends Table<E> {
 	 * @param right the right subtree
 	 */
 
-	private NonEmptyTable(String key, E value, Table<E> left, Table<E> right) {
+	private NonEmptyTable(Symbol key, E value, Table<E> left, Table<E> right) {
 		this.key = key;
 		this.value = value;
 		this.left = left;
 		this.right = right;
+		this.height = Math.max(left.height(), right.height()) + 1;
 	}
 
 	/**
@@ -55,47 +68,87 @@ final class NonEmptyTable<E> extends Table<E> {
 	 * @param value the value bound to {@code key}
 	 */
 
-	NonEmptyTable(String key, E value) {
+	NonEmptyTable(Symbol key, E value) {
 		this.key = key;
 		this.value = value;
 		this.left = Table.empty();
 		this.right = Table.empty();
+		this.height = 1;
 	}
 
 	@Override
-	public E get(String key) {
-		int comp = this.key.compareTo(key);
+	int height() {
+		return height;
+	}
 
-		if (comp < 0)
-			return left.get(key);
-		else if (comp == 0)
+	@Override
+	public E get(Symbol key) {
+		if (key == this.key)
 			return value;
+		else if (this.key.getId() < key.getId())
+			return left.get(key);
 		else
 			return right.get(key);
 	}
 
 	@Override
-	public Table<E> put(String key, E value) {
-		int comp = this.key.compareTo(key);
-
-		if (comp < 0) {
+	public Table<E> put(Symbol key, E value) {
+		if (key == this.key)
+			if (value == this.value)
+				return this;
+			else
+				return new NonEmptyTable<E>(this.key, value, left, right);
+		else if (this.key.getId() < key.getId()) {
 			Table<E> temp = left.put(key,value);
 			if (temp == left)
 				return this;
 			else
-				return new NonEmptyTable<E>(this.key, this.value, temp, right);
+				return balance(this.key, this.value, temp, right);
 		}
-		else if (comp == 0)
-			if (value == this.value)
-				return this;
-			else
-				return new NonEmptyTable<E>(this.key, value, left, right);
 		else {
 			Table<E> temp = right.put(key,value);
 			if (temp == right)
 				return this;
 			else
-				return new NonEmptyTable<E>(this.key, this.value, left, temp);
+				return balance(this.key, this.value, left, temp);
 		}
 	}
+
+	/**
+	 * Builds a non-empty table from two subtrees whose heights differ by at most two,
+	 * rotating them if they differ by two, so that the result is balanced.
+	 *
+	 * @param key the key in the root of the tree
+	 * @param value the value bound to {@code key}
+	 * @param left the left subtree
+	 * @param right the right subtree
+	 * @return the balanced table
+	 */
+
+	private static <E> NonEmptyTable<E> balance(Symbol key, E value, Table<E> left, Table<E> right) {
+		if (left.height() > right.height() + 1) {
+			NonEmptyTable<E> l = (NonEmptyTable<E>) left;
+			if (l.left.height() >= l.right.height())
+				// single rotation
+				return new NonEmptyTable<E>(l.key, l.value, l.left, new NonEmptyTable<E>(key, value, l.right, right));
+
+			// double rotation
+			NonEmptyTable<E> lr = (NonEmptyTable<E>) l.right;
+			return new NonEmptyTable<E>(lr.key, lr.value,
+				new NonEmptyTable<E>(l.key, l.value, l.left, lr.left), new NonEmptyTable<E>(key, value, lr.right, right));
+		}
+		else if (right.height() > left.height() + 1) {
+			NonEmptyTable<E> r = (NonEmptyTable<E>) right;
+			if (r.right.height() >= r.left.height())
+				// single rotation
+				return new NonEmptyTable<E>(r.key, r.value, new NonEmptyTable<E>(key, value, left, r.left), r.right);
+
+			// double rotation
+			NonEmptyTable<E> rl = (NonEmptyTable<E>) r.left;
+			return new NonEmptyTable<E>(rl.key, rl.value,
+				new NonEmptyTable<E>(key, value, left, rl.left), new NonEmptyTable<E>(r.key, r.value, rl.right, r.right));
+		}
+		else
+			return new NonEmptyTable<E>(key, value, left, right);
+	}
 }
\ No newline at end of file
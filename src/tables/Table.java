@@ -1,5 +1,7 @@
 package tables;
 
+import symbol.Symbol;
+
 /**
  * A table mapping symbols to objects.
  *
@@ -35,7 +37,7 @@ public abstract class Table<E> {
      *         Yields {@code null} if no object is bound to {@code key}
      */
 
-    public abstract E get(String key);
+    public abstract E get(Symbol key);
 
     /**
      * Builds a new table, identical to this, but where a given symbol is
@@ -47,5 +49,13 @@ public abstract class Table<E> {
      *         is bound to {@code value}
      */
 
-    public abstract Table<E> put(String key, E value);
+    public abstract Table<E> put(Symbol key, E value);
+
+    /**
+     * Yields the height of the tree that implements this table.
+     *
+     * @return the height, that is 0 for the empty table
+     */
+
+    abstract int height();
 }
\ No newline at end of file
@@ -5,8 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import metrics.Metrics;
+import metrics.Phase;
 import types.ClassType;
 import types.CodeSignature;
+import types.CompilationContext;
 import types.FixtureSignature;
 import types.TestSignature;
 import bytecode.BranchingBytecode;
@@ -50,12 +53,6 @@ public class Block {
 
 	private boolean mergeable;
 
-	/**
-	 * The number of blocks created so far.
-	 */
-
-	private static int counter = 0;
-
 	/**
 	 * Builds a block of code with no predecessors and with the given bytecode and successors.
 	 *
@@ -68,8 +65,9 @@ public class Block {
 		this.follows = follows;
 		this.mergeable = true;
 
-		// we assign a unique identifier to this block
-		this.id = counter++;
+		// we assign a unique identifier to this block,
+		// distinct from those of the other blocks of the same compilation
+		this.id = CompilationContext.current().nextBlockIdentifier();
 	}
 
 	/**
@@ -231,8 +229,9 @@ public class Block {
 	 */
 
 	void cleanUp(Program program) {
-		// the start method of the program is definitely called
-		program.getSigs().add(program.getStart());
+		// the start method of the program, if any, is definitely called
+		if (program.getStart() != null)
+			program.getSigs().add(program.getStart());
 
 		cleanUp(new HashSet<Block>(), program);
 	}
@@ -278,7 +277,7 @@ public class Block {
 				if (bytecode instanceof CALL)
 					// we continue by cleaning the dynamic targets
 					for (CodeSignature target: ((CALL) bytecode).getDynamicTargets())
-						target.getCode().cleanUp(done,program);
+						cleanUp(target, done, program);
 				
 				cleanupTestsAndFixtures(bytecode, done, program);
 			}
@@ -286,30 +285,55 @@ public class Block {
 		}
 	}
 	
+	/**
+	 * Cleans-up the code of the given method, constructor, test or fixture,
+	 * reached from the code being cleaned-up. The time spent is reported
+	 * in the metrics of its defining class. The code of the classes loaded from
+	 * their binary interface does not exist, since they have been compiled already.
+	 *
+	 * @param code the signature of the code
+	 * @param done the set of blocks which have been already cleaned-up
+	 * @param program the program which is being cleaned-up
+	 */
+
+	private static void cleanUp(CodeSignature code, Set<Block> done, Program program) {
+		if (code.getCode() == null)
+			return;
+
+		ClassType clazz = code.getDefiningClass();
+		Metrics.Timer timer = clazz.getContext().getMetrics().start(Phase.CLEAN_UP, clazz.getName());
+		try {
+			code.getCode().cleanUp(done, program);
+		}
+		finally {
+			timer.close();
+		}
+	}
+
 	private void cleanupTestsAndFixtures(Bytecode bytecode, Set<Block> done, Program program) {
 		if (bytecode instanceof FieldAccessBytecode) {
 			
 			ClassType clazz = ((FieldAccessBytecode) bytecode).getField().getDefiningClass();
 			
 			for (TestSignature t : clazz.testLookup()) {
-				t.getCode().cleanUp(done, program);
+				cleanUp(t, done, program);
 				program.getSigs().add(t);
 			}
 			
 			for (FixtureSignature f : clazz.fixtureLookup()) {
-				f.getCode().cleanUp(done, program);
+				cleanUp(f, done, program);
 				program.getSigs().add(f);
 			}
 			
 		} else if (bytecode instanceof CALL) 
 			for (CodeSignature target: ((CALL) bytecode).getDynamicTargets()){
 				for (TestSignature t : target.getDefiningClass().testLookup()) {
-					t.getCode().cleanUp(done, program);
+					cleanUp(t, done, program);
 					program.getSigs().add(t);
 				}
 				
 				for (FixtureSignature f : target.getDefiningClass().fixtureLookup()) {
-					f.getCode().cleanUp(done, program);
+					cleanUp(f, done, program);
 					program.getSigs().add(f);
 				}
 			}
@@ -1,7 +1,12 @@
 package translation;
 
+import java.io.File;
+import java.io.IOException;
+
+import metrics.Metrics;
 import errorMsg.ErrorMsg;
 import types.ClassType;
+import types.CompilationContext;
 import translation.Program;
 
 public class Main {
@@ -11,6 +16,31 @@ public class Main {
 			return;
 		}
 
+		// if required, the resources used by each phase of the compilation
+		// are measured and written into a JSON or CSV file at the end
+		String metricsFile = System.getProperty("kitten.metrics");
+		Metrics metrics = CompilationContext.current().getMetrics();
+		if (metricsFile != null)
+			metrics.setEnabled(true);
+
+		// if required, the bodies of the members of the classes are parsed and
+		// type-checked only when the translation reaches them: their errors are
+		// reported during the translation, and not at all for unreachable members
+		if (System.getProperty("kitten.lazy") != null)
+			CompilationContext.current().setLazy(true);
+
+		if (System.getProperty("kitten.fastLexer") != null)
+			CompilationContext.current().setFastLexer(true);
+
+		if (System.getProperty("kitten.descentParser") != null)
+			CompilationContext.current().setDescentParser(true);
+
+		if (System.getProperty("kitten.syntaxCache") != null)
+			CompilationContext.current().setSyntaxCache(true);
+
+		if (System.getProperty("kitten.compactSyntax") != null)
+			CompilationContext.current().setCompactSyntax(true);
+
 		long totalTime = System.currentTimeMillis();
 
 		// we build the class type for the file name passed as a parameter.
@@ -22,13 +52,17 @@ public class Main {
 
 		// if this class did not parse and type-check correctly,
 		// we cannot translate the program into intermediate Kitten code
+		Program program = null;
 		if (errorMsg != null && !errorMsg.anyErrors()) {
 			time = System.currentTimeMillis();
 			// we translate this class into Kitten bytecode
-			Program program = clazz.translate();
+			program = clazz.translate();
 
 			System.out.println("Translation into Kitten bytecode completed \t[" + (System.currentTimeMillis() - time) + "ms]");
+		}
 
+		// if the bodies are processed lazily, their errors are found during the translation
+		if (program != null && !errorMsg.anyErrors()) {
 			time = System.currentTimeMillis();
 			program.dumpCodeDot();
 
@@ -36,5 +70,13 @@ public class Main {
 		}
 
 		System.out.println("Total compilation time was " + (System.currentTimeMillis() - totalTime) + "ms");
+
+		if (metricsFile != null)
+			try {
+				metrics.writeTo(new File(metricsFile));
+			}
+			catch (IOException e) {
+				System.out.println("Could not write the metrics into " + metricsFile);
+			}
 	}
 }
\ No newline at end of file
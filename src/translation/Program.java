@@ -5,14 +5,25 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RecursiveTask;
 
+import javaBytecodeGenerator.BytecodeCache;
+import javaBytecodeGenerator.ClassOutput;
+import javaBytecodeGenerator.FileOutput;
 import javaBytecodeGenerator.JavaClassGenerator;
 import javaBytecodeGenerator.TestClassGenerator;
+import metrics.Metrics;
+import metrics.Phase;
+import types.ClassInterface;
 import types.ClassMemberSignature;
 import types.ClassType;
 import types.CodeSignature;
+import types.CompilationContext;
+import types.ConstructorSignature;
 import types.FixtureSignature;
+import types.MethodSignature;
 import types.TestSignature;
 import types.TypeList;
 import bytecode.Bytecode;
@@ -39,6 +50,27 @@ public class Program {
 
 	private final CodeSignature start;
 
+	/**
+	 * The cache of the Java bytecode generated for the classes of this program.
+	 * This is {@code null} if no cache is used.
+	 */
+
+	private BytecodeCache cache;
+
+	/**
+	 * The destination of the Java bytecode generated for this program.
+	 */
+
+	private ClassOutput output = new FileOutput();
+
+	/**
+	 * True if this program contains all fields, constructors and methods of its
+	 * classes built from source, so that their binary interfaces are written
+	 * together with their Java bytecode.
+	 */
+
+	private boolean complete;
+
 	/**
 	 * Builds a program, that is, a set of class member signatures.
 	 *
@@ -78,6 +110,29 @@ public class Program {
 		return start;
 	}
 
+	/**
+	 * Specifies the cache used to avoid the generation of the Java bytecode of
+	 * the classes of this program that have not changed since a previous
+	 * compilation.
+	 *
+	 * @param cache the cache, or {@code null} if no cache must be used
+	 */
+
+	public void setBytecodeCache(BytecodeCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Sets the destination of the Java bytecode generated for this program.
+	 * By default, it is dumped into class files in the current directory.
+	 *
+	 * @param output the destination
+	 */
+
+	public void setClassOutput(ClassOutput output) {
+		this.output = output;
+	}
+
 	/**
 	 * Yields the first block of code from which the program starts.
 	 *
@@ -93,6 +148,22 @@ public class Program {
 	 */
 
 	public void cleanUp() {
+		ClassType clazz = start.getDefiningClass();
+		Metrics.Timer timer = clazz.getContext().getMetrics().start(Phase.CLEAN_UP, clazz.getName());
+		try {
+			cleanUpFromStart();
+		}
+		finally {
+			timer.close();
+		}
+	}
+
+	/**
+	 * Cleans-up the code reachable from the start of this program, from its
+	 * tests and from its fixtures.
+	 */
+
+	private void cleanUpFromStart() {
 		
 		sigs.clear();
 		start.getCode().cleanUp(this);
@@ -117,18 +188,77 @@ public class Program {
 
 	}
 
+	/**
+	 * Translates and adds to this program all fields, constructors and methods
+	 * of its classes that have been built from source without errors, also
+	 * those that are not reachable from the start of this program. Hence their
+	 * Java bytecode is complete and their binary interfaces are written
+	 * together with their Java bytecode, so that later compilations can load
+	 * them from their interfaces rather than from their source files.
+	 */
+
+	public void translateAll() {
+		Set<ClassMemberSignature> translated = new HashSet<>(sigs);
+		Set<ClassType> included = new HashSet<>();
+
+		// the translation might build new classes, hence we repeat until no new class is found
+		boolean changed;
+		do {
+			changed = false;
+
+			for (ClassType clazz : new ArrayList<>(getClasses()))
+				if (isComplete(clazz) && included.add(clazz)) {
+					changed = true;
+					sigs.addAll(clazz.getFields().values());
+
+					for (ConstructorSignature constructor : clazz.getConstructors())
+						constructor.getAbstractSyntax().translate(sigs);
+
+					for (Set<MethodSignature> methods : clazz.getMethods().values())
+						for (MethodSignature method : methods)
+							method.getAbstractSyntax().translate(sigs);
+				}
+		}
+		while (changed);
+
+		// the code translated now must be cleaned-up as well
+		for (ClassMemberSignature sig : new ArrayList<>(sigs))
+			if (sig instanceof CodeSignature && !translated.contains(sig))
+				((CodeSignature) sig).getCode().cleanUp(this);
+
+		complete = true;
+	}
+
+	/**
+	 * Determines if the given class has been built from source without errors,
+	 * so that all its members can be translated.
+	 *
+	 * @param clazz the class
+	 * @return true if and only if {@code clazz} has a complete abstract syntax
+	 */
+
+	private static boolean isComplete(ClassType clazz) {
+		return !clazz.isPrecompiled() && clazz.getErrorMsg() != null && !clazz.getErrorMsg().anyErrors();
+	}
+
 	/**
 	 * Dumps the Kitten code of the signatures in this set into dot files. It is assumed that all these signatures have already been translated into Kitten code.
 	 */
 
 	public void dumpCodeDot() {
 		for (ClassMemberSignature sig : sigs)
-			if (sig instanceof CodeSignature)
+			// the code of the classes loaded from their binary interface does not exist
+			if (sig instanceof CodeSignature && ((CodeSignature) sig).getCode() != null) {
+				Metrics.Timer timer = sig.getDefiningClass().getContext().getMetrics().start(Phase.DUMP, sig.getDefiningClass().getName());
 				try {
 					dumpCodeDot((CodeSignature) sig, "./");
 				} catch (IOException e) {
 					System.out.println("Could not dump Kitten code for " + sig);
 				}
+				finally {
+					timer.close();
+				}
+			}
 	}
 
 	/**
@@ -199,28 +329,183 @@ public class Program {
 	}
 
 	/**
-	 * Generates the Java bytecode for all the class types and dumps the relative {@code .class} files on the file system.
+	 * Yields the class types of this program. They are the class that contains
+	 * the starting code of this program and all those it depends on.
+	 *
+	 * @return the class types of this program
+	 */
+
+	private Collection<ClassType> getClasses() {
+		if (start != null)
+			return start.getDefiningClass().getDependencyClosure();
+		else
+			return ClassType.getAll();
+	}
+
+	/**
+	 * Generates the Java bytecode for all the class types and writes it into the destination of this program.
 	 */
 
 	public void generateJavaBytecode() {
-		// we consider one class at the time and we generate its Java bytecode
-		for (ClassType clazz : ClassType.getAll())
-			try {
-				new JavaClassGenerator(clazz, sigs).getJavaClass().dump(clazz + ".class");
-			} catch (IOException e) {
-				System.out.println("Could not dump the Java bytecode for class " + clazz);
-			}
+		generateJavaBytecode(getClasses(), false);
 	}
 
 	public void generateJavaBytecodeForTests(ArrayList<String> testslist) {
-		for (ClassType clazz : ClassType.getAll())
+		List<ClassType> classes = new ArrayList<>();
+		for (ClassType clazz : getClasses())
 			if (!clazz.testLookup().isEmpty())
+				classes.add(clazz);
+
+		generateJavaBytecode(classes, true);
+		////testslist.add(clazz + "Test");
+	}
+
+	/**
+	 * Generates in parallel the Java bytecode for the given class types, or for their
+	 * test classes, and writes it into the destination of this program.
+	 * Each class has its own generator and constant pool, hence the result does not
+	 * depend on the order of generation. The errors are reported in the order of
+	 * the classes. The classes loaded from their binary interface are skipped,
+	 * since their Java bytecode has been generated by a previous compilation.
+	 *
+	 * @param classes the class types
+	 * @param test true if the test classes of {@code classes} must be generated
+	 */
+
+	private void generateJavaBytecode(Collection<ClassType> classes, boolean test) {
+		CompilationContext context = CompilationContext.current();
+
+		List<Generation> generations = new ArrayList<>();
+		for (ClassType clazz : classes) {
+			if (clazz.isPrecompiled())
+				continue;
+
+			Generation generation = new Generation(context, clazz, test);
+			generation.fork();
+			generations.add(generation);
+		}
+
+		for (Generation generation : generations)
+			if (!generation.join())
+				if (test)
+					System.out.println("Could not dump the Java bytecode for class " + generation.clazz + "Test.class");
+				else
+					System.out.println("Could not dump the Java bytecode for class " + generation.clazz);
+	}
+
+	/**
+	 * Yields the Java bytecode for the given class type or for its test class.
+	 * If a cache is in use, the bytecode is taken from the cache if possible,
+	 * and stored into the cache otherwise.
+	 *
+	 * @param clazz the class type
+	 * @param test true if the test class of {@code clazz} must be generated
+	 * @return the Java bytecode of the generated class
+	 * @throws IOException if the generated bytecode cannot be stored into the cache
+	 */
+
+	private byte[] generateJavaBytecode(ClassType clazz, boolean test) throws IOException {
+		String key = null;
+
+		if (cache != null) {
+			// the members of the class that are part of this program
+			Set<ClassMemberSignature> members = new HashSet<>();
+			for (ClassMemberSignature sig : sigs)
+				if (sig.getDefiningClass() == clazz)
+					members.add(sig);
+
+			byte[] cached = cache.get(key = cache.key(clazz, test ? "test" : "class", members));
+			if (cached != null)
+				return cached;
+		}
+
+		byte[] bytes;
+		if (test)
+			bytes = new TestClassGenerator(clazz, sigs).getJavaClass().getBytes();
+		else
+			bytes = new JavaClassGenerator(clazz, sigs).getJavaClass().getBytes();
+
+		if (cache != null)
+			cache.put(key, bytes);
+
+		return bytes;
+	}
+
+	/**
+	 * The generation of the Java bytecode of a class type, or of its test class,
+	 * and its writing into the destination of this program, together with
+	 * its binary interface if this program is complete.
+	 */
+
+	@SuppressWarnings("serial")
+	private class Generation extends RecursiveTask<Boolean> {
+
+		/**
+		 * The compilation context where the class type has been built.
+		 */
+
+		private final CompilationContext context;
+
+		/**
+		 * The class type.
+		 */
+
+		private final ClassType clazz;
+
+		/**
+		 * True if the test class of {@link #clazz} must be generated.
+		 */
+
+		private final boolean test;
+
+		private Generation(CompilationContext context, ClassType clazz, boolean test) {
+			this.context = context;
+			this.clazz = clazz;
+			this.test = test;
+		}
+
+		/**
+		 * Generates and writes the Java bytecode.
+		 *
+		 * @return true if and only if the Java bytecode has been written
+		 */
+
+		@Override
+		protected Boolean compute() {
+			String className = clazz + (test ? "Test" : "");
+			Metrics metrics = context.getMetrics();
+
+			CompilationContext.Scope scope = context.enter();
+			try {
+				byte[] bytes;
+				Metrics.Timer generation = metrics.start(Phase.CODEGEN, className);
 				try {
-					new TestClassGenerator(clazz, sigs).getJavaClass().dump(clazz + "Test.class");
-					////testslist.add(clazz + "Test");
-				} catch (IOException e) {
-					System.out.println("Could not dump the Java bytecode for class " + clazz + "Test.class");
+					bytes = generateJavaBytecode(clazz, test);
+				}
+				finally {
+					generation.close();
+				}
+
+				Metrics.Timer dumping = metrics.start(Phase.DUMP, className);
+				try {
+					output.write(className, bytes);
+
+					if (complete && !test && isComplete(clazz))
+						output.writeInterface(className, ClassInterface.of(clazz));
+				}
+				finally {
+					dumping.close();
 				}
+
+				return true;
+			}
+			catch (IOException e) {
+				return false;
+			}
+			finally {
+				scope.close();
+			}
+		}
 	}
 
 	/**
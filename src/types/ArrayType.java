@@ -1,7 +1,8 @@
 package types;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
 
 /**
  * A (mono-dimensional) array type of the Kitten language.
@@ -12,13 +13,14 @@ import java.util.Map;
 public class ArrayType extends ReferenceType {
 
 	/**
-	 * A map from elements type to the unique array type for that elements type.
+	 * The compilation context where this array type has been built.
+	 * It holds, for each elements type, the unique array type for that elements type.
 	 * It is used in order to avoid duplication of array types for
 	 * the same elements type. In this way, comparison of array types
 	 * can be performed through simple == tests.
 	 */
 
-	private final static Map<Type, ArrayType> memory = new HashMap<>();
+	private final CompilationContext context;
 
 	/**
 	 * The type of the elements of the array.
@@ -29,24 +31,34 @@ public class ArrayType extends ReferenceType {
 	/**
 	 * Builds an array type for the given type of elements.
 	 *
+	 * @param context the compilation context where the array type is built
 	 * @param elementsType the type of the elements of the array
 	 */
 
-	private ArrayType(Type elementsType) {
+	private ArrayType(CompilationContext context, Type elementsType) {
+		this.context = context;
 		this.elementsType = elementsType;
 	}
 
 	/**
-	 * Returns the unique {@code ArrayType} object with the given elements type.
+	 * Returns the unique {@code ArrayType} object with the given elements type,
+	 * in the compilation context of the current thread.
 	 *
 	 * @param elementsType the type of the elements of the array
 	 * @return the unique type
 	 */
 
 	public static ArrayType mk(Type elementsType) {
+		CompilationContext context = CompilationContext.current();
+		ConcurrentMap<Type, ArrayType> memory = context.arrays;
 		ArrayType result = memory.get(elementsType);
-		if (result == null)
-			memory.put(elementsType, result = new ArrayType(elementsType));
+		if (result == null) {
+			// array types can be built by code generators running in parallel:
+			// only the first one that gets registered is ever used
+			ArrayType previous = memory.putIfAbsent(elementsType, result = new ArrayType(context, elementsType));
+			if (previous != null)
+				result = previous;
+		}
 
 		return result;
 	}
@@ -68,6 +80,26 @@ public class ArrayType extends ReferenceType {
 			return ArrayType.mk(ArrayType.mk(elementsType,dimensions - 1));
 	}
 
+	/**
+	 * Forgets the array types whose elements are, directly or through
+	 * other array types, one of the given class types.
+	 *
+	 * @param context the compilation context where the array types are forgotten
+	 * @param classes the class types that are not valid anymore
+	 */
+
+	static void forget(CompilationContext context, Set<ClassType> classes) {
+		Iterator<ArrayType> it = context.arrays.values().iterator();
+		while (it.hasNext()) {
+			Type elements = it.next().elementsType;
+			while (elements instanceof ArrayType)
+				elements = ((ArrayType) elements).elementsType;
+
+			if (classes.contains(elements))
+				it.remove();
+		}
+	}
+
 	/**
 	 * Returns the type of the elements of this array.
 	 *
@@ -100,7 +132,7 @@ public class ArrayType extends ReferenceType {
 		if (other instanceof ArrayType)
 			return elementsType.canBeAssignedToSpecial(((ArrayType) other).elementsType);
 		else
-			return other == getObjectType();
+			return other == context.objectType;
 	}
 
 	/**
@@ -130,16 +162,16 @@ public class ArrayType extends ReferenceType {
 	public Type leastCommonSupertype(Type other) {
 		// between array and class, the least common supertype is Object
 		if (other instanceof ClassType)
-			return getObjectType();
+			return context.objectType;
 		else if (other instanceof ArrayType)
 			// an array of primitive types can only be compared with itself.
 			// Otherwise, the least common supertype is Object
 			if (elementsType instanceof PrimitiveType)
-				return this == other ? this : getObjectType();
+				return this == other ? this : context.objectType;
 			else {
 				Type lcs = elementsType.leastCommonSupertype(((ArrayType) other).elementsType);
 
-				return lcs == null ? getObjectType() : mk(lcs);
+				return lcs == null ? context.objectType : mk(lcs);
 			}
 
 		// the least common supertype of an array and null or an UnusedType is the array
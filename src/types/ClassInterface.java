@@ -0,0 +1,342 @@
+package types;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import symbol.Symbol;
+
+/**
+ * The binary interface of a compiled class, as stored in a {@code .kiti} file
+ * next to its class file. It holds the name of the class, the name of its
+ * superclass and the signatures of its fields, constructors and methods, so
+ * that the class can be used by other classes without parsing and
+ * type-checking its source file. Tests and fixtures are not part of the interface.
+ * <br><br>
+ * Types are stored through their name, as they are written in Kitten. The file
+ * starts with a magic number and a version. Then come the name of the class,
+ * the name of its superclass (empty for {@code Object}), the fields
+ * (name and type), the constructors (parameters types) and the methods (name,
+ * return type and parameters types). Each table is preceded by its size.
+ */
+
+public final class ClassInterface {
+
+	/**
+	 * The magic number at the beginning of each {@code .kiti} file.
+	 */
+
+	private final static int MAGIC = 0x4B495449;
+
+	/**
+	 * The version of the format of the {@code .kiti} files.
+	 */
+
+	private final static short VERSION = 1;
+
+	/**
+	 * The name of the class.
+	 */
+
+	private final String name;
+
+	/**
+	 * The name of the superclass, or {@code null} for {@code Object}.
+	 */
+
+	private final String superclassName;
+
+	/**
+	 * The names and types of the fields.
+	 */
+
+	private final List<String[]> fields = new ArrayList<>();
+
+	/**
+	 * The types of the parameters of each constructor.
+	 */
+
+	private final List<String[]> constructors = new ArrayList<>();
+
+	/**
+	 * The name, the return type and the types of the parameters of each method.
+	 */
+
+	private final List<String[]> methods = new ArrayList<>();
+
+	/**
+	 * Reads the interface of a class from the given buffer.
+	 *
+	 * @param buffer the buffer, holding the content of a {@code .kiti} file
+	 * @throws IOException if the buffer does not contain a valid interface
+	 */
+
+	private ClassInterface(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION)
+				throw new IOException("Not a Kitten interface");
+
+			this.name = readString(buffer);
+			String superclassName = readString(buffer);
+			this.superclassName = superclassName.isEmpty() ? null : superclassName;
+
+			for (int count = buffer.getShort() & 0xffff; count > 0; count--)
+				fields.add(new String[] { readString(buffer), readString(buffer) });
+
+			for (int count = buffer.getShort() & 0xffff; count > 0; count--)
+				constructors.add(readTypes(buffer, 0));
+
+			for (int count = buffer.getShort() & 0xffff; count > 0; count--) {
+				String name = readString(buffer);
+				String returnType = readString(buffer);
+				String[] method = readTypes(buffer, 2);
+				method[0] = name;
+				method[1] = returnType;
+				methods.add(method);
+			}
+		}
+		catch (RuntimeException e) {
+			// the buffer is truncated or otherwise corrupted
+			throw new IOException("Corrupted Kitten interface", e);
+		}
+	}
+
+	/**
+	 * Reads a string, written as its length followed by its UTF-8 bytes.
+	 *
+	 * @param buffer the buffer
+	 * @return the string
+	 */
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xffff];
+		buffer.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads a list of types, written as its length followed by the names of the types.
+	 *
+	 * @param buffer the buffer
+	 * @param offset the number of free slots to leave at the beginning of the result
+	 * @return the names of the types, after {@code offset} free slots
+	 */
+
+	private static String[] readTypes(ByteBuffer buffer, int offset) {
+		String[] result = new String[offset + (buffer.get() & 0xff)];
+		for (int pos = offset; pos < result.length; pos++)
+			result[pos] = readString(buffer);
+
+		return result;
+	}
+
+	/**
+	 * Yields the name of the superclass of the class.
+	 *
+	 * @return the name of the superclass, or {@code null} for {@code Object}
+	 */
+
+	String getSuperclassName() {
+		return superclassName;
+	}
+
+	/**
+	 * Determines if the given class must be loaded from its interface. This is the case
+	 * if its {@code .kiti} file exists and is not older than its source file, if any,
+	 * and the class must not be built from source, as it happens for the class
+	 * being compiled and for the classes whose source has been provided in memory.
+	 *
+	 * @param context the compilation context where the class is built
+	 * @param name the name of the class
+	 * @return true if and only if the class must be loaded from its interface
+	 */
+
+	static boolean isUsable(CompilationContext context, String name) {
+		if (context.fromSource.contains(name) || context.getSource(name) != null)
+			return false;
+
+		File file = new File(name + ".kiti");
+		File source = new File(name + ".kit");
+
+		return file.isFile() && (!source.isFile() || source.lastModified() <= file.lastModified());
+	}
+
+	/**
+	 * Loads the interface of the given class, if it must be loaded from its
+	 * interface. The {@code .kiti} file is memory-mapped.
+	 *
+	 * @param context the compilation context where the class is built
+	 * @param name the name of the class
+	 * @return the interface, or {@code null} if the class must be built from
+	 *         source, or its interface cannot be read or belongs to another class
+	 */
+
+	static ClassInterface load(CompilationContext context, String name) {
+		if (!isUsable(context, name))
+			return null;
+
+		try (FileChannel channel = FileChannel.open(new File(name + ".kiti").toPath(), StandardOpenOption.READ)) {
+			ClassInterface result = new ClassInterface(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+			return result.name.equals(name) ? result : null;
+		}
+		catch (IOException e) {
+			// we fall back to the source file
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the signatures of the fields, constructors and methods of this
+	 * interface to the given class. The types are looked up in the compilation
+	 * context of the class, that must be the current one.
+	 *
+	 * @param clazz the class
+	 */
+
+	void addMembersTo(ClassType clazz) {
+		for (String[] field: fields)
+			clazz.addField(Symbol.of(field[0]), new FieldSignature(clazz, toType(field[1]), Symbol.of(field[0]), null));
+
+		for (String[] constructor: constructors)
+			clazz.addConstructor(new ConstructorSignature(clazz, toTypeList(constructor, 0), null));
+
+		for (String[] method: methods)
+			clazz.addMethod(Symbol.of(method[0]), new MethodSignature(clazz, toType(method[1]), toTypeList(method, 2), Symbol.of(method[0]), null));
+	}
+
+	/**
+	 * Yields the type with the given name.
+	 *
+	 * @param name the name of the type, as written in Kitten
+	 * @return the type
+	 */
+
+	private static Type toType(String name) {
+		switch (name) {
+		case "int": return IntType.INSTANCE;
+		case "float": return FloatType.INSTANCE;
+		case "boolean": return BooleanType.INSTANCE;
+		case "void": return VoidType.INSTANCE;
+		default:
+			if (name.endsWith("[]"))
+				return ArrayType.mk(toType(name.substring(0, name.length() - 2)));
+			else
+				return ClassType.mk(name);
+		}
+	}
+
+	/**
+	 * Yields the list of the types with the given names.
+	 *
+	 * @param names the names of the types
+	 * @param offset the position in {@code names} where the types start
+	 * @return the list of types
+	 */
+
+	private static TypeList toTypeList(String[] names, int offset) {
+		TypeList result = TypeList.EMPTY;
+		for (int pos = names.length - 1; pos >= offset; pos--)
+			result = result.push(toType(names[pos]));
+
+		return result;
+	}
+
+	/**
+	 * Yields the binary interface of the given class. The members are sorted,
+	 * so that the same class always yields the same interface.
+	 *
+	 * @param clazz the class
+	 * @return the content of the {@code .kiti} file of the class
+	 */
+
+	public static byte[] of(ClassType clazz) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			writeString(out, clazz.getName());
+			writeString(out, clazz.getSuperclass() != null ? clazz.getSuperclass().getName() : "");
+
+			Map<String, FieldSignature> fields = new TreeMap<>();
+			for (FieldSignature field: clazz.getFields().values())
+				fields.put(field.getName().toString(), field);
+
+			out.writeShort(fields.size());
+			for (FieldSignature field: fields.values()) {
+				writeString(out, field.getName().toString());
+				writeString(out, field.getType().toString());
+			}
+
+			Map<String, ConstructorSignature> constructors = new TreeMap<>();
+			for (ConstructorSignature constructor: clazz.getConstructors())
+				constructors.put(constructor.getParameters().toString(), constructor);
+
+			out.writeShort(constructors.size());
+			for (ConstructorSignature constructor: constructors.values())
+				writeTypes(out, constructor.getParameters());
+
+			Map<String, MethodSignature> methods = new TreeMap<>();
+			for (Set<MethodSignature> overloads: clazz.getMethods().values())
+				for (MethodSignature method: overloads)
+					methods.put(method.getName() + "(" + method.getParameters() + ")", method);
+
+			out.writeShort(methods.size());
+			for (MethodSignature method: methods.values()) {
+				writeString(out, method.getName().toString());
+				writeString(out, method.getReturnType().toString());
+				writeTypes(out, method.getParameters());
+			}
+		}
+		catch (IOException e) {
+			// impossible for an in-memory stream
+			throw new IllegalStateException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes a string as its length followed by its UTF-8 bytes.
+	 *
+	 * @param out the stream where the string is written
+	 * @param s the string
+	 * @throws IOException if the string cannot be written
+	 */
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Writes a list of types as its length followed by the names of the types.
+	 *
+	 * @param out the stream where the types are written
+	 * @param types the types
+	 * @throws IOException if the types cannot be written
+	 */
+
+	private static void writeTypes(DataOutputStream out, TypeList types) throws IOException {
+		List<Type> list = new ArrayList<>();
+		for (TypeList cursor = types; cursor != TypeList.EMPTY; cursor = cursor.getTail())
+			list.add(cursor.getHead());
+
+		out.writeByte(list.size());
+		for (Type type: list)
+			writeString(out, type.toString());
+	}
+}
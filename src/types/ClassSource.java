@@ -0,0 +1,282 @@
+package types;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import lexical.FastLexer;
+import lexical.Lexer;
+import lexical.TokenSource;
+import metrics.Metrics;
+import metrics.Phase;
+import syntactical.DescentParser;
+import syntactical.Parser;
+import absyn.BinarySyntax;
+import absyn.ClassDefinition;
+import errorMsg.ErrorMsg;
+
+/**
+ * The result of the lexical and syntactical analysis of the source file
+ * of a class. The source files of a class and of the classes it references,
+ * directly or indirectly, can be analysed in parallel, before the
+ * corresponding class types are built. If required, the result is loaded
+ * from a {@link SyntaxCache} instead, when the source file has not changed.
+ * If required, the bodies of the constructors, methods, tests and fixtures
+ * are kept in compact form.
+ */
+
+final class ClassSource {
+
+	/**
+	 * The abstract syntax of the class, or {@code null} if the source file
+	 * cannot be found or contains a syntax error.
+	 */
+
+	private final ClassDefinition abstractSyntax;
+
+	/**
+	 * The error reporting utility of the source file, or {@code null}
+	 * if the source file cannot be found.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The names of the classes referenced in the source file.
+	 */
+
+	private final List<String> referencedClasses;
+
+	/**
+	 * Performs the lexical and syntactical analysis of the source file
+	 * of the given class.
+	 *
+	 * @param context the compilation context where the analysis is performed
+	 * @param name the name of the class
+	 * @param deferErrors true if the errors must be printed only when
+	 *                    the class type is built
+	 */
+
+	private ClassSource(CompilationContext context, String name, boolean deferErrors) {
+		ClassDefinition abstractSyntax = null;
+		ErrorMsg errorMsg = null;
+		List<String> referencedClasses = new ArrayList<>();
+
+		CompilationContext.Scope scope = context.enter();
+		Metrics.Timer timer = context.getMetrics().start(Phase.PARSE, name);
+		try {
+			String text = context.getSource(name);
+
+			// deferred bodies cannot be cached
+			boolean compact = context.isCompactSyntax();
+			byte[] hash = text == null && context.isSyntaxCache() && (compact || !context.isLazy()) ? SyntaxCache.hash(name) : null;
+			SyntaxCache cached = hash != null ? SyntaxCache.load(name, hash, compact) : null;
+			if (cached != null) {
+				errorMsg = cached.getErrorMsg();
+				abstractSyntax = cached.getAbstractSyntax();
+				referencedClasses.addAll(cached.getReferencedClasses());
+			}
+			else {
+				TokenSource lexer;
+				if (context.isFastLexer()) {
+					Metrics.Timer lexing = context.getMetrics().start(Phase.LEX, name);
+					try {
+						lexer = (text != null ? FastLexer.lex(name, new StringReader(text)) : FastLexer.lex(name)).asTokenSource();
+					}
+					finally {
+						lexing.close();
+					}
+				}
+				else
+					lexer = text != null ? new Lexer(name, new StringReader(text)) : new Lexer(name);
+
+				errorMsg = lexer.getErrorMsg();
+				if (deferErrors)
+					errorMsg.defer();
+
+				if (context.isDescentParser()) {
+					DescentParser parser = new DescentParser(lexer);
+					abstractSyntax = parser.parse();
+					referencedClasses.addAll(parser.getReferencedClasses());
+				}
+				else {
+					Parser parser = new Parser(lexer);
+					abstractSyntax = (ClassDefinition) parser.parse().value;
+					referencedClasses.addAll(parser.getReferencedClasses());
+				}
+
+				boolean cache = hash != null && !errorMsg.anyErrors();
+				byte[] syntax = cache || compact ? BinarySyntax.of(abstractSyntax) : null;
+				if (cache)
+					SyntaxCache.store(name, hash, syntax, errorMsg, referencedClasses);
+
+				// the nodes of the bodies are rebuilt when needed
+				if (compact)
+					abstractSyntax = BinarySyntax.read(ByteBuffer.wrap(syntax), true);
+			}
+		}
+		catch (Exception e) {
+			// the source file cannot be found or contains a syntax error
+			abstractSyntax = null;
+		}
+		finally {
+			timer.close();
+			scope.close();
+		}
+
+		this.abstractSyntax = abstractSyntax;
+		this.errorMsg = errorMsg;
+		this.referencedClasses = referencedClasses;
+	}
+
+	/**
+	 * Yields the abstract syntax of the class.
+	 *
+	 * @return the abstract syntax, or {@code null} if the source file
+	 *         cannot be found or contains a syntax error
+	 */
+
+	ClassDefinition getAbstractSyntax() {
+		return abstractSyntax;
+	}
+
+	/**
+	 * Yields the error reporting utility of the source file. The errors
+	 * found during the analysis, if any, are printed now.
+	 *
+	 * @return the error reporting utility, or {@code null}
+	 *         if the source file cannot be found
+	 */
+
+	ErrorMsg getErrorMsg() {
+		if (errorMsg != null)
+			errorMsg.flush();
+
+		return errorMsg;
+	}
+
+	/**
+	 * Yields the names of the classes referenced in the source file.
+	 *
+	 * @return the names of the classes
+	 */
+
+	List<String> getReferencedClasses() {
+		return referencedClasses;
+	}
+
+	/**
+	 * Yields the result of the analysis of the source file of the given class.
+	 * If the analysis has been started in parallel, this waits for its result.
+	 * Otherwise, the analysis is performed now.
+	 *
+	 * @param context the compilation context where the class is built
+	 * @param name the name of the class
+	 * @return the result of the analysis
+	 */
+
+	static ClassSource of(CompilationContext context, String name) {
+		ForkJoinTask<ClassSource> task = context.analyses.remove(name);
+
+		return task != null ? task.join() : new ClassSource(context, name, false);
+	}
+
+	/**
+	 * Analyses in parallel the source files of the given classes and of all
+	 * classes they reference, directly or indirectly, that have not been built
+	 * yet. Each source file is analysed only once, with its own error reporting
+	 * utility. This method returns when all analyses have finished. Their results
+	 * are later consumed by {@link #of}.
+	 *
+	 * @param context the compilation context where the classes will be built
+	 * @param names the names of the classes
+	 */
+
+	static void parseAll(CompilationContext context, Collection<String> names) {
+		List<ForkJoinTask<ClassSource>> started = new ArrayList<>();
+		for (String name: names) {
+			ForkJoinTask<ClassSource> task = start(context, name);
+			if (task != null)
+				started.add(task);
+		}
+
+		for (ForkJoinTask<ClassSource> task: started)
+			task.join();
+	}
+
+	/**
+	 * Starts the analysis of the source file of the given class, unless it has
+	 * already been started, or the class has already been built, or it will be
+	 * loaded from its binary interface, or its source file does not exist.
+	 * In the latter case, the error is reported when the class type is built.
+	 *
+	 * @param context the compilation context where the class will be built
+	 * @param name the name of the class
+	 * @return the task performing the analysis, or {@code null} if it has not
+	 *         been started
+	 */
+
+	private static ForkJoinTask<ClassSource> start(CompilationContext context, String name) {
+		if (context.classes.containsKey(name) || (context.getSource(name) == null && !new File(name + ".kit").isFile())
+				|| ClassInterface.isUsable(context, name))
+			return null;
+
+		Analysis task = new Analysis(context, name);
+		if (context.analyses.putIfAbsent(name, task) != null)
+			return null;
+
+		return task.fork();
+	}
+
+	/**
+	 * The parallel analysis of a source file, that recursively starts the
+	 * analysis of the classes referenced in that file.
+	 */
+
+	private static class Analysis extends RecursiveTask<ClassSource> {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The compilation context where the class will be built.
+		 */
+
+		private final CompilationContext context;
+
+		/**
+		 * The name of the class.
+		 */
+
+		private final String name;
+
+		private Analysis(CompilationContext context, String name) {
+			this.context = context;
+			this.name = name;
+		}
+
+		@Override
+		protected ClassSource compute() {
+			ClassSource result = new ClassSource(context, name, true);
+
+			// we analyse the referenced classes in parallel and wait for
+			// those that we started, so that the analysis of the whole
+			// program is over when the analysis of its main class is over
+			List<ForkJoinTask<ClassSource>> started = new ArrayList<>();
+			for (String referenced: result.referencedClasses) {
+				ForkJoinTask<ClassSource> task = start(context, referenced);
+				if (task != null)
+					started.add(task);
+			}
+
+			for (ForkJoinTask<ClassSource> task: started)
+				task.join();
+
+			return result;
+		}
+	}
+}
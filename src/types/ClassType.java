@@ -1,19 +1,29 @@
 package types;
 
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import lexical.Lexer;
-import syntactical.Parser;
+import metrics.Metrics;
+import metrics.Phase;
+import symbol.Symbol;
 import translation.Program;
 import absyn.ClassDefinition;
+import absyn.CodeDeclaration;
 import errorMsg.ErrorMsg;
 
 /**
@@ -24,6 +34,12 @@ import errorMsg.ErrorMsg;
 
 public final class ClassType extends ReferenceType {
 
+	/**
+	 * The compilation context where this class has been built.
+	 */
+
+	private final CompilationContext context;
+
 	/**
 	 * The name of this class.
 	 */
@@ -42,25 +58,36 @@ public final class ClassType extends ReferenceType {
 
 	private final List<ClassType> subclasses;
 
+	/**
+	 * The superclasses of this class, from {@code Object} down to this class
+	 * itself, so that the superclass at depth {@code d} in the hierarchy is at
+	 * index {@code d}. This is the display of this class, that allows one to
+	 * check subclassing in constant time. It is a cache for {@link #getDisplay()}.
+	 * It is volatile since the code generators can compute it in parallel.
+	 */
+
+	private volatile ClassType[] display;
+
 	/**
 	 * The set of instances of this class. This is a cache for
-	 * {@link #getInstances()}.
+	 * {@link #getInstances()}. It is volatile since the code generators
+	 * can compute it in parallel.
 	 */
 
-	private List<ClassType> instances;
+	private volatile List<ClassType> instances;
 
 	/**
 	 * A map from field symbols to their signature.
 	 */
 
-	private final Map<String, FieldSignature> fields = new HashMap<>();
+	private final Map<Symbol, FieldSignature> fields = new HashMap<>();
 
 	/**
 	 * The set of constructor signatures in this class.
 	 */
 
 	private final Set<ConstructorSignature> constructors = new HashSet<>();
-	private final Map<String, TestSignature> tests = new HashMap<String, TestSignature>();
+	private final Map<Symbol, TestSignature> tests = new HashMap<Symbol, TestSignature>();
 	private final Set<FixtureSignature> fixtures = new HashSet<>();
 	/**
 	 * A map from method symbols to the set of signatures of the methods with
@@ -68,7 +95,41 @@ public final class ClassType extends ReferenceType {
 	 * given name.
 	 */
 
-	private final Map<String, Set<MethodSignature>> methods = new HashMap<>();
+	private final Map<Symbol, Set<MethodSignature>> methods = new HashMap<>();
+
+	/**
+	 * The methods in {@link #methods}, indexed by name and then by number
+	 * of parameters. The methods with a given name are indexed when they
+	 * are first looked up by {@link #methodsLookup(Symbol, TypeList)}.
+	 */
+
+	private final Map<Symbol, Map<Integer, Set<MethodSignature>>> methodsByArity = new HashMap<>();
+
+	/**
+	 * The results of {@link #methodsLookup(Symbol, TypeList)}, indexed by name
+	 * of the method and then by types of the actual parameters. They can be
+	 * memoised since the methods of a class and of its superclasses are all
+	 * added before the first lookup.
+	 */
+
+	private final Map<Symbol, Map<TypeList, Set<MethodSignature>>> resolutions = new HashMap<>();
+
+	/**
+	 * The virtual method table of this class: the methods called on its instances,
+	 * defined in this class or inherited and not overridden, indexed by name and
+	 * then by types of the parameters. This is a cache for {@link #getVtable()}.
+	 * It is volatile since the code generators can compute it in parallel.
+	 */
+
+	private volatile Map<Symbol, Map<TypeList, MethodSignature>> vtable;
+
+	/**
+	 * The results of {@link #virtualTargets(Symbol, TypeList)}, indexed by name
+	 * of the method and then by types of its parameters. They are forgotten
+	 * together with {@link #instances}, whenever a subclass is added or removed.
+	 */
+
+	private final ConcurrentMap<Symbol, ConcurrentMap<TypeList, Set<MethodSignature>>> virtualTargets = new ConcurrentHashMap<>();
 
 	/**
 	 * The utility for issuing errors about this class.
@@ -76,6 +137,13 @@ public final class ClassType extends ReferenceType {
 
 	private ErrorMsg errorMsg;
 
+	/**
+	 * True if and only if this class has been loaded from its binary interface.
+	 * Its Java bytecode has been generated by a previous compilation.
+	 */
+
+	private final boolean precompiled;
+
 	/**
 	 * The abstract syntax of this class.
 	 */
@@ -88,63 +156,178 @@ public final class ClassType extends ReferenceType {
 
 	private boolean typeChecked;
 
+	/**
+	 * The classes that have been looked up while building or type-checking
+	 * this class. If any of them changes, this class must be rebuilt.
+	 */
+
+	private final Set<ClassType> dependencies = new HashSet<>();
+
+	/**
+	 * The names of the classes referenced in the source file of this class,
+	 * also by the bodies whose parsing is deferred. It is empty if this class
+	 * has been loaded from its binary interface.
+	 */
+
+	private final List<String> referencedClasses;
+
+	/**
+	 * The last modification time of the source file of this class, when it
+	 * was parsed. It is 0 if the source file did not exist.
+	 */
+
+	private final long sourceLastModified;
+
+	/**
+	 * The length of the source file of this class, when it was parsed.
+	 */
+
+	private final long sourceLength;
+
 	/**
 	 * Constructs a class type with the given name. If the class cannot be found
 	 * or contains a syntactical error, a fictitious class with no fields, no
 	 * constructors and no methods is created.
 	 *
+	 * @param context
+	 *            the compilation context where the class is built
 	 * @param name
 	 *            the name of the class
 	 */
 
-	private ClassType(String name) {
-		// we record its name
+	private ClassType(CompilationContext context, String name) {
+		// we record its context and name
+		this.context = context;
 		this.name = name;
 
 		// there are no subclasses at the moment
 		this.subclasses = new ArrayList<>();
 
 		// we record this object for future lookup
-		memory.put(name, this);
+		context.classes.put(name, this);
 
 		// we have not type-checked this class yet
 		this.typeChecked = false;
 
-		ClassDefinition abstractSyntax;
+		// we take note of the state of the source file, so that we can
+		// later discover if it has been modified
+		File file = new File(name + ".kit");
+		this.sourceLastModified = file.lastModified();
+		this.sourceLength = file.length();
+
+		// the classes looked up from now on are dependencies of this class
+		context.clients.push(this);
+
 		ClassType superclass;
+		ClassDefinition abstractSyntax;
+		List<String> referencedClasses;
 
-		// we perform lexical and syntactical analysis. The result is
-		// the abstract syntax of this class definition
 		try {
-			Parser parser = new Parser(new Lexer(name));
-			errorMsg = parser.getErrorMsg();
-			abstractSyntax = (ClassDefinition) parser.parse().value;
-			// we add the fields, constructors and methods of this class
-			abstractSyntax.addMembersTo(this);
-		} catch (Exception e) {
-			// there is a syntax error in the class text or the same class
-			// cannot be found on the file system or cannot be type-checked:
-			// we build a fictitious syntax for the class, so that the
-			// processing can go on
-			if (name.equals("Object"))
-				abstractSyntax = new ClassDefinition(0, name, null, null);
-			else
-				abstractSyntax = new ClassDefinition(0, name, "Object", null);
-		}
+			// if the class has an up-to-date binary interface, we load its members
+			// from there, without parsing and type-checking its source file
+			ClassInterface summary;
+			Metrics.Timer loading = context.getMetrics().start(Phase.PARSE, name);
+			try {
+				summary = ClassInterface.load(context, name);
+			}
+			finally {
+				loading.close();
+			}
 
-		if (!name.equals("Object"))
-			// if this is not Object, we create its superclass also and take
-			// note that we are a direct subclass of our superclass
-			(superclass = mk(abstractSyntax.getSuperclassName())).subclasses.add(this);
-		else {
-			// otherwise we take note of the top of the hierarchy of the
-			// reference types
-			setObjectType(this);
-			superclass = null;
+			this.precompiled = summary != null;
+
+			if (precompiled) {
+				CompilationContext.Scope scope = context.enter();
+				try {
+					errorMsg = new ErrorMsg(name + ".kiti");
+					summary.addMembersTo(this);
+					abstractSyntax = new ClassDefinition(0, name, summary.getSuperclassName(), null);
+					referencedClasses = Collections.emptyList();
+				}
+				finally {
+					scope.close();
+				}
+			}
+			else {
+				// we perform lexical and syntactical analysis, unless it has already
+				// been performed in parallel. The result is the abstract syntax of
+				// this class definition
+				ClassSource source = ClassSource.of(context, name);
+				errorMsg = source.getErrorMsg();
+				abstractSyntax = source.getAbstractSyntax();
+				referencedClasses = source.getReferencedClasses();
+
+				CompilationContext.Scope scope = context.enter();
+				Metrics.Timer timer = context.getMetrics().start(Phase.TYPE_CHECK, name);
+				try {
+					if (abstractSyntax != null)
+						try {
+							// we add the fields, constructors and methods of this class
+							abstractSyntax.addMembersTo(this);
+						}
+						catch (RuntimeException e) {
+							// the class cannot be type-checked
+							abstractSyntax = null;
+						}
+
+					if (abstractSyntax == null)
+						// there is a syntax error in the class text or the same class
+						// cannot be found on the file system or cannot be type-checked:
+						// we build a fictitious syntax for the class, so that the
+						// processing can go on
+						if (name.equals("Object"))
+							abstractSyntax = new ClassDefinition(0, name, null, null);
+						else
+							abstractSyntax = new ClassDefinition(0, name, "Object", null);
+				}
+				finally {
+					timer.close();
+					scope.close();
+				}
+			}
+
+			if (!name.equals("Object"))
+				// if this is not Object, we create its superclass also and take
+				// note that we are a direct subclass of our superclass
+				(superclass = mk(context, abstractSyntax.getSuperclassName())).addSubclass(this);
+			else {
+				// otherwise we take note of the top of the hierarchy of the
+				// reference types
+				context.objectType = this;
+				superclass = null;
+			}
+		}
+		finally {
+			// the stack of the clients is restored also if the class cannot be built
+			context.clients.pop();
 		}
 
 		this.abstractSyntax = abstractSyntax;
 		this.superclass = superclass;
+		this.referencedClasses = referencedClasses;
+	}
+
+	/**
+	 * Determines if this class has been loaded from its binary interface,
+	 * rather than from its source file. In that case, its members have no
+	 * abstract syntax and no code, and its Java bytecode is not generated,
+	 * since it has been generated by a previous compilation.
+	 *
+	 * @return true if and only if this class has been loaded from its interface
+	 */
+
+	public boolean isPrecompiled() {
+		return precompiled;
+	}
+
+	/**
+	 * Yields the compilation context where this class has been built.
+	 *
+	 * @return the compilation context of this class
+	 */
+
+	public CompilationContext getContext() {
+		return context;
 	}
 
 	/**
@@ -207,7 +390,38 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public boolean subclass(ClassType other) {
-		return this == other || (superclass != null && superclass.subclass(other));
+		// other is a superclass of this if and only if it is in the display
+		// of this, at the same depth it has in the hierarchy
+		ClassType[] display = getDisplay();
+		int depth = other.getDisplay().length - 1;
+
+		return depth < display.length && display[depth] == other;
+	}
+
+	/**
+	 * Yields the display of this class, that is, its superclasses from
+	 * {@code Object} down to this class itself. It is computed the first time
+	 * it is needed, when the hierarchy above this class is complete.
+	 *
+	 * @return the display of this class
+	 */
+
+	private ClassType[] getDisplay() {
+		// we first check to see if we already computed the display
+		ClassType[] display = this.display;
+		if (display != null)
+			return display;
+
+		if (superclass == null)
+			display = new ClassType[] { this };
+		else {
+			ClassType[] above = superclass.getDisplay();
+			display = Arrays.copyOf(above, above.length + 1);
+			display[above.length] = this;
+		}
+
+		// concurrent computations yield the same display
+		return this.display = display;
 	}
 
 	/**
@@ -235,15 +449,26 @@ public final class ClassType extends ReferenceType {
 		// between a class type and an array type, the least common supertype is
 		// Object
 		if (other instanceof ArrayType)
-			return getObjectType();
+			return context.objectType;
 		else if (other instanceof ClassType) {
-			// we look in our superclasses for a superclass of other
-			for (ClassType cursor = this; cursor != null; cursor = cursor.getSuperclass())
-				if (other.canBeAssignedTo(cursor))
-					return cursor;
+			// the common superclasses are a common prefix of the displays:
+			// we look for the end of that prefix by binary search
+			ClassType[] display = getDisplay(), otherDisplay = ((ClassType) other).getDisplay();
+			if (display[0] != otherDisplay[0])
+				// last chance, always valid
+				return context.objectType;
+
+			// the displays coincide up to low and differ from high on
+			int low = 0, high = Math.min(display.length, otherDisplay.length);
+			while (high - low > 1) {
+				int mid = (low + high) >>> 1;
+				if (display[mid] == otherDisplay[mid])
+					low = mid;
+				else
+					high = mid;
+			}
 
-			// last chance, always valid
-			return getObjectType();
+			return display[low];
 		}
 		// the supertype of a class type and null or an unused type is the class
 		// itself
@@ -254,6 +479,32 @@ public final class ClassType extends ReferenceType {
 			return null;
 	}
 
+	/**
+	 * Takes note that the given class is a direct subclass of this class.
+	 * This changes the instances of this class and of its superclasses.
+	 *
+	 * @param subclass the subclass
+	 */
+
+	private void addSubclass(ClassType subclass) {
+		subclasses.add(subclass);
+		forgetInstances();
+	}
+
+	/**
+	 * Forgets the instances of this class and of its superclasses, and the
+	 * information computed from them, since a subclass has been added or removed.
+	 * The superclasses of a class being built are not known yet.
+	 */
+
+	private void forgetInstances() {
+		for (ClassType cursor = this; cursor != null; cursor = cursor.superclass) {
+			cursor.instances = null;
+			cursor.vtable = null;
+			cursor.virtualTargets.clear();
+		}
+	}
+
 	/**
 	 * Yields the set of strict and non-strict, direct and indirect subclasses
 	 * of this class.
@@ -266,6 +517,7 @@ public final class ClassType extends ReferenceType {
 	public final List<ClassType> getInstances() {
 		// we first check to see if we already computed the set of instances of
 		// this class
+		List<ClassType> instances = this.instances;
 		if (instances != null)
 			return instances;
 
@@ -278,8 +530,8 @@ public final class ClassType extends ReferenceType {
 			result.addAll(sub.getInstances());
 
 		// we take note of the set of instances, so that we do not recompute it
-		// next time
-		return instances = result;
+		// next time. Concurrent computations yield the same list
+		return this.instances = result;
 	}
 
 	/**
@@ -292,7 +544,7 @@ public final class ClassType extends ReferenceType {
 	 *            the signature of the field
 	 */
 
-	public void addField(String name, FieldSignature sig) {
+	public void addField(Symbol name, FieldSignature sig) {
 		fields.put(name, sig);
 	}
 
@@ -318,7 +570,7 @@ public final class ClassType extends ReferenceType {
 	 *            the signature of the method
 	 */
 
-	public final void addMethod(String name, MethodSignature sig) {
+	public final void addMethod(Symbol name, MethodSignature sig) {
 		// we read all methods, in this class, with the given name
 		Set<MethodSignature> set = methods.get(name);
 		if (set == null)
@@ -328,7 +580,7 @@ public final class ClassType extends ReferenceType {
 		set.add(sig);
 	}
 
-	public final void addTest(String name, TestSignature test) {
+	public final void addTest(Symbol name, TestSignature test) {
 		this.tests.put(name, test);
 	}
 
@@ -342,7 +594,7 @@ public final class ClassType extends ReferenceType {
 	 * @return the fields
 	 */
 
-	public Map<String, FieldSignature> getFields() {
+	public Map<Symbol, FieldSignature> getFields() {
 		return fields;
 	}
 
@@ -362,7 +614,7 @@ public final class ClassType extends ReferenceType {
 	 * @return the methods
 	 */
 
-	public Map<String, Set<MethodSignature>> getMethods() {
+	public Map<Symbol, Set<MethodSignature>> getMethods() {
 		return methods;
 	}
 
@@ -377,7 +629,7 @@ public final class ClassType extends ReferenceType {
 	 *         found
 	 */
 
-	public final FieldSignature fieldLookup(String name) {
+	public final FieldSignature fieldLookup(Symbol name) {
 		FieldSignature result;
 
 		// we first look in this signature
@@ -443,7 +695,7 @@ public final class ClassType extends ReferenceType {
 	 *         been found
 	 */
 
-	public final MethodSignature methodLookup(String name, TypeList formals) {
+	public final MethodSignature methodLookup(Symbol name, TypeList formals) {
 		// we check all methods in this signature having the given name
 		Set<MethodSignature> candidates = methods.get(name);
 		if (candidates != null)
@@ -457,7 +709,77 @@ public final class ClassType extends ReferenceType {
 		return superclass == null ? null : superclass.methodLookup(name, formals);
 	}
 
-	public final TestSignature testLookup(String name) {
+	/**
+	 * Yields the signatures of the methods that might be called by a virtual call
+	 * to the method with exactly the given name and parameters types, on a receiver
+	 * whose static type is this class. They are those that {@link #methodLookup(Symbol, TypeList)}
+	 * yields from every instance of this class, as found in their virtual method tables.
+	 * The result is computed once for each method, and again after a subclass is added.
+	 *
+	 * @param name
+	 *            the name of the method
+	 * @param formals
+	 *            the types of the formal parameters of the method
+	 * @return the signatures of the methods, as a set that cannot be modified
+	 */
+
+	public final Set<MethodSignature> virtualTargets(Symbol name, TypeList formals) {
+		ConcurrentMap<TypeList, Set<MethodSignature>> computed = virtualTargets.get(name);
+		if (computed == null) {
+			ConcurrentMap<TypeList, Set<MethodSignature>> previous = virtualTargets.putIfAbsent(name, computed = new ConcurrentHashMap<>());
+			if (previous != null)
+				computed = previous;
+		}
+
+		Set<MethodSignature> result = computed.get(formals);
+		if (result == null) {
+			result = new HashSet<>();
+			for (ClassType instance : getInstances()) {
+				Map<TypeList, MethodSignature> table = instance.getVtable().get(name);
+				MethodSignature target = table == null ? null : table.get(formals);
+				if (target != null)
+					result.add(target);
+			}
+
+			// concurrent computations yield the same set
+			computed.put(formals, result = Collections.unmodifiableSet(result));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Yields the virtual method table of this class. It is computed the first
+	 * time it is needed, when all classes have been built and hence all
+	 * methods have been added to them. The tables of the methods whose name
+	 * is not defined in this class are shared with the superclass.
+	 *
+	 * @return the virtual method table
+	 */
+
+	private Map<Symbol, Map<TypeList, MethodSignature>> getVtable() {
+		Map<Symbol, Map<TypeList, MethodSignature>> vtable = this.vtable;
+		if (vtable != null)
+			return vtable;
+
+		// we start from the methods inherited from the superclass
+		vtable = superclass == null ? new HashMap<Symbol, Map<TypeList, MethodSignature>>() : new HashMap<>(superclass.getVtable());
+
+		// and override them with those defined in this class
+		for (Map.Entry<Symbol, Set<MethodSignature>> entry : methods.entrySet()) {
+			Map<TypeList, MethodSignature> inherited = vtable.get(entry.getKey());
+			Map<TypeList, MethodSignature> table = inherited == null ? new HashMap<TypeList, MethodSignature>() : new HashMap<>(inherited);
+			for (MethodSignature method : entry.getValue())
+				table.put(method.getParameters(), method);
+
+			vtable.put(entry.getKey(), table);
+		}
+
+		// concurrent computations yield the same table
+		return this.vtable = vtable;
+	}
+
+	public final TestSignature testLookup(Symbol name) {
 		return tests.get(name);
 	}
 
@@ -484,18 +806,43 @@ public final class ClassType extends ReferenceType {
 	 *         no method has been found
 	 */
 
-	public final Set<MethodSignature> methodsLookup(String name, TypeList formals) {
+	public final Set<MethodSignature> methodsLookup(Symbol name, TypeList formals) {
+		Map<TypeList, Set<MethodSignature>> resolved = resolutions.get(name);
+		if (resolved == null)
+			resolutions.put(name, resolved = new HashMap<>());
+
+		Set<MethodSignature> result = resolved.get(formals);
+		if (result == null)
+			// the result is shared by all subsequent lookups, hence it cannot be modified
+			resolved.put(formals, result = Collections.unmodifiableSet(resolve(name, formals)));
+
+		return result;
+	}
+
+	/**
+	 * Computes the result of {@link #methodsLookup(Symbol, TypeList)}.
+	 * Only the methods with as many parameters as {@code formals} are considered,
+	 * since the others cannot be compatible with {@code formals}.
+	 *
+	 * @param name
+	 *            the name of the method to look up for
+	 * @param formals
+	 *            the types the formal parameters of the methods should be more
+	 *            general of
+	 * @return the signatures of the resulting methods
+	 */
+
+	private Set<MethodSignature> resolve(Symbol name, TypeList formals) {
 		// the set of candidates is initially the set of all methods
-		// called name and defined in this class
-		Set<MethodSignature> candidates = methods.get(name);
-		if (candidates == null)
-			candidates = new HashSet<>();
+		// called name, with as many parameters as formals, defined in this class
+		Set<MethodSignature> sameArity = methodsWithArity(name, formals.getSize());
+		Set<MethodSignature> candidates = new HashSet<>(sameArity);
 
 		if (superclass != null) {
 			// if this class extends another class, we consider all possible
 			// candidate targets in the superclass, so that we allow method
 			// inheritance
-			Set<MethodSignature> superCandidates = superclass.methodsLookup(name, formals);
+			Set<MethodSignature> superCandidates = new HashSet<>(superclass.methodsLookup(name, formals));
 
 			// we remove from the inherited candidates those which are
 			// redefined in this class, in order to model method overriding
@@ -517,6 +864,14 @@ public final class ClassType extends ReferenceType {
 
 			// we add the inherited and not overridden candidates
 			candidates.addAll(superCandidates);
+
+			// if this class defines methods called name, the inherited
+			// candidates become methods of this class as well
+			Set<MethodSignature> own = methods.get(name);
+			if (own != null) {
+				own.addAll(superCandidates);
+				sameArity.addAll(superCandidates);
+			}
 		}
 
 		// we return the most specific methods amongst those called name
@@ -524,6 +879,40 @@ public final class ClassType extends ReferenceType {
 		return mostSpecific(candidates, formals);
 	}
 
+	/**
+	 * Yields the methods of this class with the given name and number of parameters.
+	 *
+	 * @param name
+	 *            the name of the methods
+	 * @param arity
+	 *            the number of parameters of the methods
+	 * @return the methods, as a set that is kept in {@link #methodsByArity}
+	 */
+
+	private Set<MethodSignature> methodsWithArity(Symbol name, int arity) {
+		Map<Integer, Set<MethodSignature>> byArity = methodsByArity.get(name);
+		if (byArity == null) {
+			methodsByArity.put(name, byArity = new HashMap<>());
+
+			Set<MethodSignature> own = methods.get(name);
+			if (own != null)
+				for (MethodSignature method : own) {
+					int size = method.getParameters().getSize();
+					Set<MethodSignature> set = byArity.get(size);
+					if (set == null)
+						byArity.put(size, set = new HashSet<>());
+
+					set.add(method);
+				}
+		}
+
+		Set<MethodSignature> result = byArity.get(arity);
+		if (result == null)
+			byArity.put(arity, result = new HashSet<>());
+
+		return result;
+	}
+
 	/**
 	 * Yields the subset of a set of code signatures whose parameters are
 	 * compatible with those provided and such that no two signatures in the
@@ -578,34 +967,47 @@ public final class ClassType extends ReferenceType {
 	}
 
 	/**
-	 * A table which binds each symbol to its corresponding
-	 * {@code KittenClassType}. This lets us have a unique
-	 * {@code KittenClassType} for a given name.
+	 * Yields a class type with the given name, in the compilation context of
+	 * the current thread. See {@link #mk(CompilationContext, String)}.
+	 *
+	 * @param name
+	 *            the name of the class
+	 * @return the unique class type object for the class with the given name
 	 */
 
-	private final static Map<String, ClassType> memory = new HashMap<>();
+	public static ClassType mk(String name) {
+		return mk(CompilationContext.current(), name);
+	}
 
 	/**
 	 * Yields a class type with the given name. If a class type object named
-	 * <tt>name</tt> already exists, that object is returned. Otherwise, if a
+	 * <tt>name</tt> already exists in the given context, that object is returned. Otherwise, if a
 	 * Kitten class named <tt>name.kit</tt> exists and contains no error, a
 	 * <tt>KittenClassType</tt> is returned. Otherwise, a fictitious
 	 * <tt>KittenClassType</tt> is returned, whose code has no fields nor
 	 * constructors nor methods.
 	 *
+	 * @param context
+	 *            the compilation context where the class is looked up
 	 * @param name
 	 *            the name of the class
 	 * @return the unique class type object for the class with the given name
 	 */
 
-	public static ClassType mk(String name) {
+	public static ClassType mk(CompilationContext context, String name) {
 		ClassType result;
 
 		// we first check to see if we already built this class type
-		if ((result = memory.get(name)) != null)
-			return result;
-		else
-			return new ClassType(name);
+		if ((result = context.classes.get(name)) == null)
+			result = new ClassType(context, name);
+
+		// the class currently being built or type-checked, if any,
+		// depends on the class that has been looked up
+		ClassType client = context.clients.peek();
+		if (client != null && client != result)
+			client.dependencies.add(result);
+
+		return result;
 	}
 
 	/**
@@ -624,24 +1026,153 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public static ClassType mkFromFileName(String fileName) {
-		if (fileName.endsWith(".kit"))
-			fileName = fileName.substring(0, fileName.length() - 4);
+		return mkFromFileNames(Collections.singletonList(fileName)).get(0);
+	}
 
-		ClassType result = mk(fileName);
+	/**
+	 * Yields the class types for the given files. Their source files, and
+	 * those of the classes they reference, are first lexed and parsed in parallel,
+	 * each with its own error reporting utility. Only then the class types are
+	 * built, in the given order, and type-checked, as for
+	 * {@link #mkFromFileName(String)}. This is meant for the compilation of
+	 * a whole source tree, whose files are all known in advance.
+	 *
+	 * @param fileNames
+	 *            the names of the files of the classes, including the <tt>.kit</tt>
+	 *            termination
+	 * @return the unique Kitten class type objects for the (type-checked) classes
+	 *         with the given names, in the same order
+	 */
 
-		result.typeCheck();
+	public static List<ClassType> mkFromFileNames(Collection<String> fileNames) {
+		List<String> names = new ArrayList<>();
+		for (String fileName: fileNames)
+			names.add(fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName);
+
+		// we analyse in parallel the source files of the classes of the program
+		// and then build their class types in the usual order
+		// the classes being compiled are never loaded from their binary interface
+		CompilationContext context = CompilationContext.current();
+		context.fromSource.addAll(names);
+		ClassSource.parseAll(context, names);
+
+		List<ClassType> result = new ArrayList<>();
+		for (String name: names)
+			result.add(mk(context, name));
+
+		for (ClassType clazz: result)
+			clazz.typeCheck();
+
+		// the analyses of the classes that are never used are useless now
+		context.analyses.clear();
 
 		return result;
 	}
 
 	/**
-	 * Yields {@code ClassType}'s that have been created so far.
+	 * Yields {@code ClassType}'s that have been created so far in the
+	 * compilation context of the current thread.
 	 *
 	 * @return the types
 	 */
 
 	public final static Collection<ClassType> getAll() {
-		return memory.values();
+		return CompilationContext.current().classes.values();
+	}
+
+	/**
+	 * Yields this class and all classes it depends on, directly or
+	 * indirectly. These are the classes that have been built while building,
+	 * type-checking and translating this class.
+	 *
+	 * @return this class and the classes it depends on
+	 */
+
+	public final Set<ClassType> getDependencyClosure() {
+		Set<ClassType> result = new LinkedHashSet<>();
+		Deque<ClassType> worklist = new ArrayDeque<>();
+
+		result.add(this);
+		worklist.push(this);
+
+		while (!worklist.isEmpty())
+			for (ClassType dependency : worklist.pop().dependencies)
+				if (result.add(dependency))
+					worklist.push(dependency);
+
+		return result;
+	}
+
+	/**
+	 * Determines if the source file of this class has been modified, created
+	 * or deleted since this class was built.
+	 *
+	 * @return true if and only if the source file of this class has changed
+	 */
+
+	public boolean isSourceChanged() {
+		File source = new File(name + ".kit");
+
+		return source.lastModified() != sourceLastModified || source.length() != sourceLength;
+	}
+
+	/**
+	 * Forgets the classes whose source file has changed since they were built,
+	 * in the compilation context of the current thread,
+	 * together with all classes that depend on them, directly or indirectly.
+	 * The remaining classes are kept, already parsed and type-checked, so that
+	 * a subsequent compilation only rebuilds what has changed.
+	 *
+	 * @return the names of the classes that have been forgotten
+	 */
+
+	public static Set<String> invalidateChanged() {
+		Map<String, ClassType> memory = CompilationContext.current().classes;
+
+		// we compute, for each class, the classes that depend on it
+		Map<ClassType, Set<ClassType>> dependents = new HashMap<>();
+		for (ClassType clazz : memory.values())
+			for (ClassType dependency : clazz.dependencies) {
+				Set<ClassType> set = dependents.get(dependency);
+				if (set == null)
+					dependents.put(dependency, set = new HashSet<>());
+
+				set.add(clazz);
+			}
+
+		// the stale classes are those whose source has changed and,
+		// transitively, those that depend on a stale class
+		Set<ClassType> stale = new HashSet<>();
+		Deque<ClassType> worklist = new ArrayDeque<>();
+		for (ClassType clazz : memory.values())
+			if (clazz.isSourceChanged() && stale.add(clazz))
+				worklist.push(clazz);
+
+		while (!worklist.isEmpty()) {
+			Set<ClassType> set = dependents.get(worklist.pop());
+			if (set != null)
+				for (ClassType dependent : set)
+					if (stale.add(dependent))
+						worklist.push(dependent);
+		}
+
+		Set<String> result = new HashSet<>();
+		if (!stale.isEmpty()) {
+			for (ClassType clazz : stale) {
+				memory.remove(clazz.name);
+				result.add(clazz.name);
+			}
+
+			// the surviving classes forget their stale subclasses
+			for (ClassType clazz : memory.values())
+				if (clazz.subclasses.removeAll(stale))
+					clazz.forgetInstances();
+
+			ArrayType.forget(CompilationContext.current(), stale);
+			TypeList.forget(CompilationContext.current(), stale);
+		}
+
+		return result;
 	}
 
 	/**
@@ -664,8 +1195,27 @@ public final class ClassType extends ReferenceType {
 			// we are going to type-check this class now
 			typeChecked = true;
 
-			// we type-check the abstract syntax of this class
-			abstractSyntax.typeCheck(this);
+			// we type-check the abstract syntax of this class, taking note
+			// of the classes it depends on
+			CompilationContext.Scope scope = context.enter();
+			Metrics.Timer timer = context.getMetrics().start(Phase.TYPE_CHECK, name);
+			context.clients.push(this);
+			try {
+				abstractSyntax.typeCheck(this);
+
+				// the bodies type-checked lazily might instantiate classes that are built
+				// only when their code is translated: the targets of the virtual calls
+				// translated before would miss their methods. Hence they are built now,
+				// as it happens when the bodies are type-checked with their class
+				if (context.isLazy())
+					for (String referenced : referencedClasses)
+						mk(context, referenced).typeCheck();
+			}
+			finally {
+				context.clients.pop();
+				timer.close();
+				scope.close();
+			}
 
 			// we continue by type-checking our superclass, if any
 			ClassType superclass = getSuperclass();
@@ -674,6 +1224,33 @@ public final class ClassType extends ReferenceType {
 		}
 	}
 
+	/**
+	 * Type-checks a constructor or method of this class whose type-checking
+	 * has been deferred until its code is translated.
+	 *
+	 * @param declaration the declaration of the constructor or method
+	 * @return true if and only if this class contains no errors after the type-checking
+	 */
+
+	public boolean typeCheck(CodeDeclaration declaration) {
+		typeCheck();
+
+		// the classes referenced by the declaration are dependencies of this class
+		CompilationContext.Scope scope = context.enter();
+		Metrics.Timer timer = context.getMetrics().start(Phase.TYPE_CHECK, name);
+		context.clients.push(this);
+		try {
+			declaration.typeCheckDeferred(this);
+		}
+		finally {
+			context.clients.pop();
+			timer.close();
+			scope.close();
+		}
+
+		return errorMsg == null || !errorMsg.anyErrors();
+	}
+
 	/**
 	 * Translates this class into intermediate Kitten code. It is assumed that
 	 * this class has been already type-checked.
@@ -683,7 +1260,16 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public Program translate() {
-		return abstractSyntax.translate();
+		// the classes built during the translation are dependencies of this class
+		CompilationContext.Scope scope = context.enter();
+		context.clients.push(this);
+		try {
+			return abstractSyntax.translate();
+		}
+		finally {
+			context.clients.pop();
+			scope.close();
+		}
 	}
 
 	public void dumpDot() throws IOException {
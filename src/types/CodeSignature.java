@@ -4,6 +4,7 @@ import javaBytecodeGenerator.GeneralClassGenerator;
 
 import org.apache.bcel.generic.InvokeInstruction;
 
+import symbol.Symbol;
 import translation.Block;
 import absyn.CodeDeclaration;
 
@@ -19,7 +20,7 @@ public abstract class CodeSignature extends ClassMemberSignature {
      * The name of this code object.
      */
 
-    private final String name;
+    private final Symbol name;
 
     /**
      * The return type of this code object.
@@ -52,7 +53,7 @@ public abstract class CodeSignature extends ClassMemberSignature {
      */
 
     protected CodeSignature(ClassType clazz, Type returnType, TypeList parameters,
-    		String name, CodeDeclaration abstractSyntax) {
+    		Symbol name, CodeDeclaration abstractSyntax) {
 
     	super(clazz,abstractSyntax);
 
@@ -113,7 +114,7 @@ public abstract class CodeSignature extends ClassMemberSignature {
      * @return the name of this code object
      */
 
-    public String getName() {
+    public Symbol getName() {
     	return name;
     }
 
@@ -0,0 +1,420 @@
+package types;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import metrics.Metrics;
+
+/**
+ * The state of a compilation. It owns the registries of the class types, of
+ * the array types and of the lists of types built during the compilation and
+ * the generators of the unique identifiers of the nodes of abstract syntax
+ * and of the blocks of code.
+ * Distinct contexts are completely independent, so that distinct compilations
+ * can run in the same Java virtual machine, and all the memory of a
+ * compilation can be reclaimed once its context is not used anymore.
+ * <br><br>
+ * A context is bound to the thread that runs the compilation through
+ * {@link #enter()}. The threads that never entered a context use a default,
+ * shared context.
+ */
+
+public final class CompilationContext {
+
+	/**
+	 * The context used by the threads that did not enter any context.
+	 */
+
+	private final static CompilationContext DEFAULT = new CompilationContext();
+
+	/**
+	 * The context entered by each thread, if any.
+	 */
+
+	private final static ThreadLocal<CompilationContext> current = new ThreadLocal<>();
+
+	/**
+	 * A table which binds each symbol to its corresponding class type.
+	 * This lets us have a unique class type for a given name.
+	 */
+
+	final Map<String, ClassType> classes = new ConcurrentHashMap<>();
+
+	/**
+	 * The analyses of the source files of the classes that have been started
+	 * in parallel, but whose class type has not been built yet.
+	 * There is at most one analysis for each class name.
+	 */
+
+	final ConcurrentMap<String, ForkJoinTask<ClassSource>> analyses = new ConcurrentHashMap<>();
+
+	/**
+	 * The texts of the source files that are not read from the file system,
+	 * for each class name.
+	 */
+
+	private final Map<String, String> texts = new ConcurrentHashMap<>();
+
+	/**
+	 * The names of the classes that must be built from their source file,
+	 * even if they have a binary interface. These are the classes being compiled.
+	 */
+
+	final Set<String> fromSource = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * A map from elements type to the unique array type for that elements type.
+	 */
+
+	final ConcurrentMap<Type, ArrayType> arrays = new ConcurrentHashMap<>();
+
+	/**
+	 * The lists of types with a single element built in this context, indexed
+	 * by that element. All other lists of types are built from these.
+	 */
+
+	final ConcurrentMap<Type, TypeList> typeLists = new ConcurrentHashMap<>();
+
+	/**
+	 * The stack of the classes currently being built, type-checked or translated.
+	 * The top of the stack is the class that depends on those looked up
+	 * through {@link ClassType#mk(String)}.
+	 */
+
+	final Deque<ClassType> clients = new ArrayDeque<>();
+
+	/**
+	 * The top of the hierarchy of the reference types.
+	 */
+
+	ClassType objectType;
+
+	/**
+	 * The number of nodes of abstract syntax created so far. This and the
+	 * following counters are atomic, since the context is entered by the
+	 * threads that analyse and compile the classes in parallel.
+	 */
+
+	private final AtomicInteger nodes = new AtomicInteger();
+
+	/**
+	 * The number of blocks of code created so far.
+	 */
+
+	private final AtomicInteger blocks = new AtomicInteger();
+
+	/**
+	 * The number of fixtures created so far.
+	 */
+
+	private final AtomicInteger fixtures = new AtomicInteger();
+
+	/**
+	 * The metrics of the phases of the compilation.
+	 */
+
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * True if the bodies of the constructors, methods, tests and fixtures
+	 * are parsed and type-checked only when their code is translated.
+	 */
+
+	private volatile boolean lazy;
+
+	/**
+	 * True if the source files are tokenised through {@link lexical.FastLexer}
+	 * rather than through the lexical analyser generated by JLex.
+	 */
+
+	private volatile boolean fastLexer;
+
+	/**
+	 * True if the source files are parsed through {@link syntactical.DescentParser}
+	 * rather than through the syntactical analyser generated by CUP.
+	 */
+
+	private volatile boolean descentParser;
+
+	/**
+	 * True if the abstract syntax of the source files is cached next to them
+	 * and loaded from that cache when the source files have not changed.
+	 */
+
+	private volatile boolean syntaxCache;
+
+	/**
+	 * True if the bodies of the constructors, methods, tests and fixtures
+	 * are kept in compact form until their code is translated.
+	 */
+
+	private volatile boolean compactSyntax;
+
+	/**
+	 * Yields the context of the compilation run by the current thread.
+	 *
+	 * @return the context entered by the current thread, or a default, shared
+	 *         context if the current thread did not enter any context
+	 */
+
+	public static CompilationContext current() {
+		CompilationContext result = current.get();
+
+		return result != null ? result : DEFAULT;
+	}
+
+	/**
+	 * Binds this context to the current thread, until the resulting scope
+	 * is closed. Then the context that was current before is restored.
+	 *
+	 * @return the scope where this context is current
+	 */
+
+	public Scope enter() {
+		Scope scope = new Scope(current.get());
+		current.set(this);
+
+		return scope;
+	}
+
+	/**
+	 * Yields the metrics of the phases of the compilations run in this context.
+	 * They are collected only after being enabled.
+	 *
+	 * @return the metrics
+	 */
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Determines if the bodies of the constructors, methods, tests and fixtures
+	 * are parsed and type-checked only when their code is translated.
+	 *
+	 * @return true if and only if the bodies are processed lazily
+	 */
+
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	/**
+	 * Specifies if the bodies of the constructors, methods, tests and fixtures
+	 * must be parsed and type-checked only when their code is translated.
+	 * In that case, the members that are not reachable from the translated
+	 * code are never parsed and type-checked, hence their errors are not reported.
+	 * The classes that the bodies instantiate are built and type-checked with their
+	 * class anyway, as without lazy bodies, so that the targets of the virtual calls
+	 * are known before the translation starts. If the class contains a syntax error
+	 * outside the bodies, the bodies before that error are parsed and, if one of them
+	 * contains a syntax error, only that error is reported, as without lazy bodies.
+	 * The errors in the bodies that are reached are reported during the translation,
+	 * hence after those of the rest of the classes.
+	 * By default, all bodies are parsed and type-checked eagerly.
+	 *
+	 * @param lazy true if the bodies must be processed lazily
+	 */
+
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	/**
+	 * Determines if the source files are tokenised through {@link lexical.FastLexer}.
+	 *
+	 * @return true if and only if the fast lexical analyser is used
+	 */
+
+	public boolean isFastLexer() {
+		return fastLexer;
+	}
+
+	/**
+	 * Specifies if the source files must be tokenised through {@link lexical.FastLexer}
+	 * rather than through the lexical analyser generated by JLex. Both yield the
+	 * same tokens and report the same errors. By default, the latter is used.
+	 *
+	 * @param fastLexer true if the fast lexical analyser must be used
+	 */
+
+	public void setFastLexer(boolean fastLexer) {
+		this.fastLexer = fastLexer;
+	}
+
+	/**
+	 * Determines if the source files are parsed through {@link syntactical.DescentParser}.
+	 *
+	 * @return true if and only if the recursive-descent syntactical analyser is used
+	 */
+
+	public boolean isDescentParser() {
+		return descentParser;
+	}
+
+	/**
+	 * Specifies if the source files must be parsed through {@link syntactical.DescentParser}
+	 * rather than through the syntactical analyser generated by CUP. Both build the
+	 * same abstract syntax and report the same errors. By default, the latter is used.
+	 *
+	 * @param descentParser true if the recursive-descent syntactical analyser must be used
+	 */
+
+	public void setDescentParser(boolean descentParser) {
+		this.descentParser = descentParser;
+	}
+
+	/**
+	 * Determines if the abstract syntax of the source files is cached.
+	 *
+	 * @return true if and only if the abstract syntax is cached
+	 */
+
+	public boolean isSyntaxCache() {
+		return syntaxCache;
+	}
+
+	/**
+	 * Specifies if the abstract syntax of the source files must be cached in a
+	 * {@code .kitast} file next to each of them, and loaded from there, rather
+	 * than tokenising and parsing the source files again, when they have not
+	 * changed. Only the source files read from the file system are cached, and only
+	 * if the bodies are processed eagerly or kept in compact form. By default, nothing is cached.
+	 *
+	 * @param syntaxCache true if the abstract syntax must be cached
+	 */
+
+	public void setSyntaxCache(boolean syntaxCache) {
+		this.syntaxCache = syntaxCache;
+	}
+
+	/**
+	 * Determines if the bodies of the constructors, methods, tests and fixtures
+	 * are kept in compact form until their code is translated.
+	 *
+	 * @return true if and only if the bodies are kept in compact form
+	 */
+
+	public boolean isCompactSyntax() {
+		return compactSyntax;
+	}
+
+	/**
+	 * Specifies if the bodies of the constructors, methods, tests and fixtures
+	 * must be kept in compact form, as a few bytes per node, and their nodes of
+	 * abstract syntax built only when their code is translated. This reduces the
+	 * memory taken by very large source files. The bodies are parsed eagerly,
+	 * also if the bodies are processed lazily. Unless the bodies are processed
+	 * lazily, they are also type-checked with their class, so that the same errors
+	 * are reported as without compact form: their nodes are built for that and
+	 * dropped again, to be built and type-checked again when their code is translated.
+	 * By default, all nodes are built eagerly.
+	 *
+	 * @param compactSyntax true if the bodies must be kept in compact form
+	 */
+
+	public void setCompactSyntax(boolean compactSyntax) {
+		this.compactSyntax = compactSyntax;
+	}
+
+	/**
+	 * Provides the text of the source file of a class, so that it is not
+	 * read from the file system.
+	 *
+	 * @param className the name of the class
+	 * @param text the text of its source file
+	 */
+
+	public void addSource(String className, String text) {
+		texts.put(className, text);
+	}
+
+	/**
+	 * Yields the text of the source file of a class, if it has been provided
+	 * through {@link #addSource(String, String)}.
+	 *
+	 * @param className the name of the class
+	 * @return the text of its source file, or {@code null} if it must be
+	 *         read from the file system
+	 */
+
+	String getSource(String className) {
+		return texts.get(className);
+	}
+
+	/**
+	 * Yields the top type of the hierarchy of the reference types.
+	 *
+	 * @return the top type, or {@code null} if it has not been built yet
+	 */
+
+	public ClassType getObjectType() {
+		return objectType;
+	}
+
+	/**
+	 * Yields a fresh identifier for a node of abstract syntax.
+	 *
+	 * @return the identifier
+	 */
+
+	public int nextNodeIdentifier() {
+		return nodes.getAndIncrement();
+	}
+
+	/**
+	 * Yields a fresh identifier for a block of code.
+	 *
+	 * @return the identifier
+	 */
+
+	public int nextBlockIdentifier() {
+		return blocks.getAndIncrement();
+	}
+
+	/**
+	 * Yields a fresh progressive number for a fixture.
+	 *
+	 * @return the number
+	 */
+
+	int nextFixtureNumber() {
+		return fixtures.getAndIncrement();
+	}
+
+	/**
+	 * The period of time when a context is bound to a thread.
+	 */
+
+	public final static class Scope implements AutoCloseable {
+
+		/**
+		 * The context that was bound to the thread before, if any.
+		 */
+
+		private final CompilationContext previous;
+
+		private Scope(CompilationContext previous) {
+			this.previous = previous;
+		}
+
+		/**
+		 * Restores the context that was bound to the thread before this scope.
+		 */
+
+		@Override
+		public void close() {
+			if (previous == null)
+				current.remove();
+			else
+				current.set(previous);
+		}
+	}
+}
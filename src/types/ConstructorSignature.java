@@ -8,6 +8,7 @@ import org.apache.bcel.generic.InstructionFactory;
 import org.apache.bcel.generic.InstructionList;
 import org.apache.bcel.generic.MethodGen;
 
+import symbol.Symbol;
 import translation.Block;
 import absyn.ConstructorDeclaration;
 import bytecode.CONSTRUCTORCALL;
@@ -21,6 +22,12 @@ import bytecode.LOAD;
 
 public class ConstructorSignature extends CodeSignature {
 
+	/**
+	 * The name of the constructors in Java bytecode.
+	 */
+
+	private final static Symbol INIT = Symbol.of("<init>");
+
 	/**
 	 * Constructs a signature for a constructor, given its parameters types
 	 * and the class it belongs to.
@@ -32,7 +39,7 @@ public class ConstructorSignature extends CodeSignature {
 
 	public ConstructorSignature(ClassType clazz, TypeList parameters, ConstructorDeclaration abstractSyntax) {
 		// a constructor always returns void and its name is by default init
-		super(clazz, VoidType.INSTANCE, parameters, "<init>", abstractSyntax);
+		super(clazz, VoidType.INSTANCE, parameters, INIT, abstractSyntax);
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import org.apache.bcel.generic.FieldGen;
 import org.apache.bcel.generic.FieldInstruction;
 
 import absyn.FieldDeclaration;
+import symbol.Symbol;
 
 /**
  * The signature of a field of a Kitten class.
@@ -27,7 +28,7 @@ public class FieldSignature extends ClassMemberSignature {
      * The name of the field.
      */
 
-    private final String name;
+    private final Symbol name;
 
     /**
      * Constructs the signature of a field with the given type and name,
@@ -39,7 +40,7 @@ public class FieldSignature extends ClassMemberSignature {
      * @param abstractSyntax the abstract syntax of this field declaration
      */
 
-    public FieldSignature(ClassType clazz, Type type, String name, FieldDeclaration abstractSyntax) {
+    public FieldSignature(ClassType clazz, Type type, Symbol name, FieldDeclaration abstractSyntax) {
     	super(clazz,abstractSyntax);
 
     	this.type = type;
@@ -79,7 +80,7 @@ public class FieldSignature extends ClassMemberSignature {
      * @return the name of the field
      */
 
-    public String getName() {
+    public Symbol getName() {
     	return name;
     }
 
@@ -8,6 +8,7 @@ import org.apache.bcel.generic.INVOKESTATIC;
 import org.apache.bcel.generic.MethodGen;
 import org.apache.bcel.generic.Type;
 
+import symbol.Symbol;
 import translation.Block;
 import absyn.FixtureDeclaration;
 
@@ -20,7 +21,6 @@ import absyn.FixtureDeclaration;
 public class FixtureSignature extends CodeSignature {
 
 	private final int pos;
-	private static int nfixture = 0;
 
 	/**
 	 * Constructs a signature for a constructor, given its parameters types and the class it belongs to.
@@ -33,9 +33,13 @@ public class FixtureSignature extends CodeSignature {
 	 *            the abstract syntax of the declaration of this constructor
 	 */
 	public FixtureSignature(ClassType clazz, FixtureDeclaration abstractSyntax) {
+		this(clazz, abstractSyntax, clazz.getContext().nextFixtureNumber());
+	}
+
+	private FixtureSignature(ClassType clazz, FixtureDeclaration abstractSyntax, int pos) {
 		// a constructor always returns void and its name is by default init
-		super(clazz, VoidType.INSTANCE, TypeList.EMPTY, "fixture" + nfixture, abstractSyntax);
-		this.pos = nfixture++;
+		super(clazz, VoidType.INSTANCE, TypeList.EMPTY, Symbol.of("fixture" + pos), abstractSyntax);
+		this.pos = pos;
 	}
 
 	@Override
@@ -76,7 +80,7 @@ public class FixtureSignature extends CodeSignature {
 				new Type[] { this.getDefiningClass().toBCEL() }, // TODO
 				// getParameters().toBCEL(), // parameters types, if any
 				null, // parameters names we do not care too
-				getName(), // method's name
+				getName().toString(), // method's name
 				classGen.getClassName(), // defining class
 				classGen.generateJavaBytecode(getCode()), // bytecode of the
 															// method
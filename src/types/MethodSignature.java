@@ -8,6 +8,7 @@ import org.apache.bcel.generic.INVOKEVIRTUAL;
 import org.apache.bcel.generic.MethodGen;
 
 import absyn.MethodDeclaration;
+import symbol.Symbol;
 import translation.Block;
 
 /**
@@ -30,7 +31,7 @@ public class MethodSignature extends CodeSignature {
 	 */
 
 	public MethodSignature(ClassType clazz, Type returnType,
-		TypeList parameters, String name, MethodDeclaration abstractSyntax) {
+		TypeList parameters, Symbol name, MethodDeclaration abstractSyntax) {
 
 		super(clazz,returnType,parameters,name,abstractSyntax);
 	}
@@ -57,7 +58,7 @@ public class MethodSignature extends CodeSignature {
 
 	public void createMethod(JavaClassGenerator classGen) {
 		MethodGen methodGen;
-		if (getName().equals("main"))
+		if (getName() == Symbol.MAIN)
 			methodGen = new MethodGen
 				(Constants.ACC_PUBLIC | Constants.ACC_STATIC, // public and static
 				org.apache.bcel.generic.Type.VOID, // return type
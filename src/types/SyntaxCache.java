@@ -0,0 +1,240 @@
+package types;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import absyn.BinarySyntax;
+import absyn.ClassDefinition;
+import errorMsg.ErrorMsg;
+
+/**
+ * The result of the analysis of the source file of a class, as cached in a
+ * {@code .kitast} file next to the source file, so that an unchanged source
+ * file is not tokenised and parsed again. The cache is keyed by the SHA-256
+ * hash of the content of the source file and is ignored if the source file
+ * has changed since it was written. Only source files without errors are cached.
+ * <br><br>
+ * The file starts with a magic number, a version and the hash of the source
+ * file. Then come the positions of the newline characters in the source file,
+ * so that the errors found later are reported at the right line, the names
+ * of the classes referenced in the source file and the abstract syntax
+ * of the class, as serialised by {@link BinarySyntax}.
+ */
+
+final class SyntaxCache {
+
+	/**
+	 * The magic number at the beginning of each {@code .kitast} file.
+	 */
+
+	private final static int MAGIC = 0x4B495441;
+
+	/**
+	 * The version of the format of the {@code .kitast} files.
+	 */
+
+	private final static short VERSION = 2;
+
+	/**
+	 * The abstract syntax of the class.
+	 */
+
+	private final ClassDefinition abstractSyntax;
+
+	/**
+	 * The error reporting utility of the source file, that knows
+	 * the positions of its newline characters.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The names of the classes referenced in the source file.
+	 */
+
+	private final List<String> referencedClasses = new ArrayList<>();
+
+	/**
+	 * Reads the cached analysis of the source file of a class from the given buffer.
+	 *
+	 * @param name the name of the class
+	 * @param hash the hash of the current content of the source file
+	 * @param buffer the buffer, holding the content of a {@code .kitast} file
+	 * @param compact true if the bodies of the constructors, methods, tests
+	 *                and fixtures must be kept in compact form
+	 * @throws IOException if the buffer does not contain a valid cache
+	 *                     for the given content of the source file
+	 */
+
+	private SyntaxCache(String name, byte[] hash, ByteBuffer buffer, boolean compact) throws IOException {
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION)
+				throw new IOException("Not a Kitten syntax cache");
+
+			byte[] cachedHash = new byte[hash.length];
+			buffer.get(cachedHash);
+			if (!Arrays.equals(hash, cachedHash))
+				throw new IOException("Stale Kitten syntax cache");
+
+			this.errorMsg = new ErrorMsg(name + ".kit");
+			for (int count = buffer.getInt(); count > 0; count--)
+				errorMsg.newline(buffer.getInt());
+
+			for (int count = buffer.getShort() & 0xffff; count > 0; count--) {
+				byte[] bytes = new byte[buffer.getShort() & 0xffff];
+				buffer.get(bytes);
+				referencedClasses.add(new String(bytes, StandardCharsets.UTF_8));
+			}
+		}
+		catch (RuntimeException e) {
+			// the buffer is truncated or otherwise corrupted
+			throw new IOException("Corrupted Kitten syntax cache", e);
+		}
+
+		this.abstractSyntax = BinarySyntax.read(buffer, compact);
+	}
+
+	/**
+	 * Yields the abstract syntax of the class.
+	 *
+	 * @return the abstract syntax
+	 */
+
+	ClassDefinition getAbstractSyntax() {
+		return abstractSyntax;
+	}
+
+	/**
+	 * Yields the error reporting utility of the source file.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	/**
+	 * Yields the names of the classes referenced in the source file.
+	 *
+	 * @return the names of the classes
+	 */
+
+	List<String> getReferencedClasses() {
+		return referencedClasses;
+	}
+
+	/**
+	 * Computes the hash of the content of the source file of the given class.
+	 *
+	 * @param name the name of the class
+	 * @return the hash, or {@code null} if the source file cannot be read
+	 */
+
+	static byte[] hash(String name) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(new File(name + ".kit").toPath()));
+		}
+		catch (IOException e) {
+			// the error is reported when the source file is parsed
+			return null;
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Loads the cached analysis of the source file of the given class,
+	 * if it exists and the source file has not changed since it was cached.
+	 * The {@code .kitast} file is memory-mapped.
+	 *
+	 * @param name the name of the class
+	 * @param hash the hash of the current content of the source file
+	 * @param compact true if the bodies of the constructors, methods, tests
+	 *                and fixtures must be kept in compact form
+	 * @return the cached analysis, or {@code null} if there is no valid cache
+	 */
+
+	static SyntaxCache load(String name, byte[] hash, boolean compact) {
+		File file = new File(name + ".kitast");
+		if (!file.isFile())
+			return null;
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return new SyntaxCache(name, hash, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), compact);
+		}
+		catch (IOException e) {
+			// we fall back to the source file
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the analysis of the source file of the given class.
+	 * The cache is only an optimisation, hence it is silently
+	 * not written if that is not possible.
+	 *
+	 * @param name the name of the class
+	 * @param hash the hash of the content of the source file
+	 * @param abstractSyntax the abstract syntax of the class, as serialised by {@link BinarySyntax}
+	 * @param errorMsg the error reporting utility of the source file
+	 * @param referencedClasses the names of the classes referenced in the source file
+	 */
+
+	static void store(String name, byte[] hash, byte[] abstractSyntax, ErrorMsg errorMsg, Collection<String> referencedClasses) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.write(hash);
+
+			int[] newlines = errorMsg.getNewlines();
+			out.writeInt(newlines.length);
+			for (int pos: newlines)
+				out.writeInt(pos);
+
+			out.writeShort(referencedClasses.size());
+			for (String referenced: referencedClasses) {
+				byte[] encoded = referenced.getBytes(StandardCharsets.UTF_8);
+				out.writeShort(encoded.length);
+				out.write(encoded);
+			}
+
+			out.write(abstractSyntax);
+		}
+		catch (IOException e) {
+			// impossible for an in-memory stream
+			throw new IllegalStateException(e);
+		}
+
+		File file = new File(name + ".kitast");
+
+		try {
+			// we write a temporary file and then rename it, so that a
+			// concurrent reader never sees a partially written cache
+			File temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+			Files.write(temp.toPath(), bytes.toByteArray());
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			// the source file will be parsed again next time
+		}
+	}
+}
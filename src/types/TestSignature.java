@@ -8,6 +8,7 @@ import org.apache.bcel.generic.INVOKESTATIC;
 import org.apache.bcel.generic.MethodGen;
 import org.apache.bcel.generic.Type;
 
+import symbol.Symbol;
 import translation.Block;
 import absyn.TestDeclaration;
 
@@ -24,7 +25,7 @@ public class TestSignature extends CodeSignature {
 	 *            the abstract syntax of the declaration of this test
 	 */
 
-	public TestSignature(ClassType clazz, String name, TestDeclaration abstractSyntax) {
+	public TestSignature(ClassType clazz, Symbol name, TestDeclaration abstractSyntax) {
 
 		// super(clazz,returnType,parameters,name,abstractSyntax);
 		super(clazz, VoidType.INSTANCE, TypeList.EMPTY, name, abstractSyntax);
@@ -55,7 +56,7 @@ public class TestSignature extends CodeSignature {
 				// getParameters().toBCEL(), // parameters types, if any
 				null, // parameters names: yo man, we do not give a fuck too.
 						// Peace.
-				getName(), // method's name
+				getName().toString(), // method's name
 				classGen.getClassName(), // defining class
 				classGen.generateJavaBytecode(getCode()), // bytecode of the method
 				classGen.getConstantPool()); // constant pool
@@ -8,12 +8,6 @@ package types;
 
 public abstract class Type {
 
-	/**
-	 * The top of the hierarchy of the reference types.
-	 */
-
-	private static ClassType objectType;
-
 	/**
 	 * Builds a type object.
 	 */
@@ -21,21 +15,14 @@ public abstract class Type {
 	protected Type() {}
 
 	/**
-	 * Yields the top type of the hierarchy of the reference types.
+	 * Yields the top type of the hierarchy of the reference types,
+	 * in the compilation context of the current thread.
 	 *
 	 * @return the top type
 	 */
 
 	public static final ClassType getObjectType() {
-		return objectType;
-	}
-
-	/**
-	 * Sets the top type of the hierarchy of the reference types.
-	 */
-
-	protected static final void setObjectType(ClassType objectType) {
-		Type.objectType = objectType;
+		return CompilationContext.current().getObjectType();
 	}
 
 	/**
@@ -53,6 +40,17 @@ public abstract class Type {
 	@Override
 	public abstract String toString();
 
+	/**
+	 * Types are unique by name inside their compilation context,
+	 * hence their hash code is that of their name. This keeps the
+	 * generated code independent from the history of the allocations.
+	 */
+
+	@Override
+	public int hashCode() {
+		return toString().hashCode();
+	}
+
 	/**
 	 * Determines whether this type can be assigned to a given type.
 	 * Type {@code void} cannot be assigned to any type, not even to itself.
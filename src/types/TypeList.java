@@ -1,8 +1,24 @@
 package types;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A list of stack Kitten types. It is assumed that each type
  * uses as many elements as its size.
+ * <br><br>
+ * Lists of types are hash-consed: since they are all built by pushing
+ * types on {@link #EMPTY}, each list keeps the lists obtained by pushing a
+ * type on it, so that structurally equal lists are the same object.
+ * The lists with a single element are kept by the compilation context of
+ * the thread that builds them, rather than by {@link #EMPTY}, that is
+ * shared by all contexts. Hence the lists of types of a compilation are
+ * reclaimed together with its context, and structurally equal lists
+ * are the same object only inside the same context.
+ * Their hash code is computed once, when they are built.
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -28,6 +44,26 @@ public class TypeList {
 
 	private final TypeList tail;
 
+	/**
+	 * The hash code of this list.
+	 */
+
+	private final int hash;
+
+	/**
+	 * The lists obtained by pushing a type on this list, indexed by that type.
+	 * It is {@code null} until the first type is pushed on this list, and always
+	 * for {@link #EMPTY}, whose extensions are kept by the compilation contexts.
+	 */
+
+	private volatile ConcurrentMap<Type, TypeList> extensions;
+
+	/**
+	 * A cache for {@link #toBCEL()}.
+	 */
+
+	private volatile org.apache.bcel.generic.Type[] bcel;
+
 	/**
 	 * Builds a list of types.
 	 *
@@ -38,6 +74,9 @@ public class TypeList {
 	private TypeList(Type head, TypeList tail) {
 		this.head = head;
 		this.tail = tail;
+
+		// unused elements do not affect the hash code, as for the equality
+		this.hash = (tail == null ? 0 : tail.hash << 1) + (head == UnusedType.INSTANCE ? 0 : head.hashCode());
 	}
 
 	/**
@@ -89,7 +128,13 @@ public class TypeList {
 
 	@Override
 	public boolean equals(Object other) {
-		if (!(other instanceof TypeList))
+		if (other == this)
+			return true;
+
+		// lists are hash-consed, hence distinct lists can only be equal
+		// if they have been built in distinct compilation contexts
+		// or if they differ for trailing unused elements
+		if (!(other instanceof TypeList) || ((TypeList) other).hash != hash)
 			return false;
 
 		TypeList otherTL = (TypeList) other, cursor = this;
@@ -112,15 +157,7 @@ public class TypeList {
 
 	@Override
 	public int hashCode() {
-		TypeList cursor = this;
-		Type t;
-		int code = 0;
-
-		for (int i = 0; cursor != EMPTY; cursor = cursor.tail, i++)
-			if ((t = cursor.head) != UnusedType.INSTANCE)
-				code += (t.hashCode() << i);
-
-		return code;
+		return hash;
 	}
 
 	/**
@@ -211,11 +248,79 @@ public class TypeList {
 
 		int s = type.getSize();
 		while (s-- > 0)
-			result = new TypeList(type,result);
+			result = result.extend(type);
+
+		return result;
+	}
+
+	/**
+	 * Yields the unique list of types equal to this but beginning with
+	 * a further element of the given type.
+	 *
+	 * @param type the type of the further element
+	 * @return the resulting list of types
+	 */
+
+	private TypeList extend(Type type) {
+		ConcurrentMap<Type, TypeList> extensions = this == EMPTY ? CompilationContext.current().typeLists : this.extensions;
+		if (extensions == null)
+			synchronized (this) {
+				if ((extensions = this.extensions) == null)
+					this.extensions = extensions = new ConcurrentHashMap<>();
+			}
+
+		TypeList result = extensions.get(type);
+		if (result == null) {
+			// lists of types can be built by code generators running in parallel:
+			// only the first one that gets registered is ever used
+			TypeList previous = extensions.putIfAbsent(type, result = new TypeList(type, this));
+			if (previous != null)
+				result = previous;
+		}
 
 		return result;
 	}
 
+	/**
+	 * Forgets the lists of types containing one of the given class types
+	 * or an array type whose elements are, directly or through other
+	 * array types, one of the given class types.
+	 *
+	 * @param context the compilation context where the lists of types are forgotten
+	 * @param classes the class types that are not valid anymore
+	 */
+
+	static void forget(CompilationContext context, Set<ClassType> classes) {
+		forget(context.typeLists, classes);
+	}
+
+	/**
+	 * Forgets the given lists of types, and those obtained by pushing types on them,
+	 * that contain one of the given class types, also through array types.
+	 *
+	 * @param extensions the lists of types, indexed by their first type.
+	 *                   It might be {@code null}
+	 * @param classes the class types that are not valid anymore
+	 */
+
+	private static void forget(Map<Type, TypeList> extensions, Set<ClassType> classes) {
+		if (extensions == null)
+			return;
+
+		Iterator<Map.Entry<Type, TypeList>> it = extensions.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Type, TypeList> entry = it.next();
+			Type type = entry.getKey();
+			while (type instanceof ArrayType)
+				type = ((ArrayType) type).getElementsType();
+
+			if (classes.contains(type))
+				it.remove();
+			else
+				forget(entry.getValue().extensions, classes);
+		}
+	}
+
 	/**
 	 * Yields the first element in this list.
 	 *
@@ -232,11 +337,26 @@ public class TypeList {
 
 	/**
 	 * Converts this list of types into an array of BCEL types.
+	 * The array is computed once and shared, hence it must not be modified.
 	 *
 	 * @return an array of BCEL types corresponding to this list of Kitten types
 	 */
 
 	public org.apache.bcel.generic.Type[] toBCEL() {
+		// concurrent computations yield equal arrays
+		if (bcel == null)
+			bcel = computeBCEL();
+
+		return bcel;
+	}
+
+	/**
+	 * Computes the array of BCEL types corresponding to this list of types.
+	 *
+	 * @return the array of BCEL types
+	 */
+
+	private org.apache.bcel.generic.Type[] computeBCEL() {
 		TypeList cursor;
 		int pos;
 
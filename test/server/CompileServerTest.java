@@ -0,0 +1,109 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Checks that a compilation server builds the same code as a cold compilation
+ * when a later request adds a subclass of a class built by an earlier request.
+ * It must be run in an empty directory, where the source files are written.
+ * Its only argument is the directory of the Kitten testcases, where
+ * {@code Object.kit} and {@code String.kit} are copied from.
+ */
+
+public class CompileServerTest {
+
+	public static void main(String[] args) throws Exception {
+		File testcases = new File(args.length > 0 ? args[0] : "testcases");
+		for (String name: new String[] { "Object.kit", "String.kit" })
+			Files.copy(new File(testcases, name).toPath(), new File(name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		write("A.kit",
+			"class A {",
+			"  constructor() {}",
+			"",
+			"  method void m()",
+			"    \"A\".output()",
+			"}");
+
+		write("B.kit",
+			"class B extends A {",
+			"  constructor() {}",
+			"",
+			"  method void m()",
+			"    \"B\".output()",
+			"}");
+
+		// this only uses A
+		write("First.kit",
+			"class First {",
+			"  constructor() {}",
+			"",
+			"  method void main() {",
+			"    A a := new A();",
+			"    a.m()",
+			"  }",
+			"}");
+
+		// this adds a subclass of A, that overrides m
+		write("Main.kit",
+			"class Main {",
+			"  constructor() {}",
+			"",
+			"  method A make() {",
+			"    return new B()",
+			"  }",
+			"",
+			"  method void main() {",
+			"    A a := new Main().make();",
+			"    a.m()",
+			"  }",
+			"}");
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(output, true);
+		new CompileServer().serve(new BufferedReader(new StringReader("compile First.kit\ncompile Main.kit\n")), out);
+
+		String result = run("Main");
+		if (!result.equals("B"))
+			throw new AssertionError("The warm server compiled Main into code that prints \"" + result
+				+ "\" rather than \"B\". The server reported:\n" + output);
+
+		System.out.println("The warm server compiled both programs correctly");
+	}
+
+	private static void write(String fileName, String... lines) throws IOException {
+		StringBuilder text = new StringBuilder();
+		for (String line: lines)
+			text.append(line).append('\n');
+
+		Files.write(new File(fileName).toPath(), text.toString().getBytes(Charset.defaultCharset()));
+	}
+
+	private static String run(String className) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = System.out;
+
+		// the compiled classes are in the current directory, but the runtime of Kitten is not
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { new File(".").toURI().toURL() }, CompileServerTest.class.getClassLoader())) {
+			Method main = loader.loadClass(className).getMethod("main", String[].class);
+			System.setOut(new PrintStream(output, true));
+			main.invoke(null, (Object) new String[0]);
+		}
+		finally {
+			System.setOut(out);
+		}
+
+		return output.toString().trim();
+	}
+}
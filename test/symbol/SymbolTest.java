@@ -0,0 +1,38 @@
+package symbol;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Checks that symbols are unique for each name while they are used, and that
+ * the table of the symbols does not keep alive those that are not used anymore,
+ * such as the symbols of the finished compilations of a compilation server.
+ */
+
+public class SymbolTest {
+
+	public static void main(String[] args) throws Exception {
+		String name = "symbolTest" + System.nanoTime();
+
+		Symbol symbol = Symbol.of(name);
+		if (Symbol.of(new String(name)) != symbol)
+			throw new AssertionError("Two symbols have been created for " + name);
+
+		long id = symbol.getId();
+		WeakReference<Symbol> reference = new WeakReference<>(symbol);
+		symbol = null;
+
+		for (int attempt = 0; attempt < 100 && reference.get() != null; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		if (reference.get() != null)
+			throw new AssertionError("A symbol is kept alive after it has been used");
+
+		// the symbols created again are distinct from all those still in use
+		if (Symbol.of(name).getId() <= id || Symbol.of(name) != Symbol.of(name))
+			throw new AssertionError("The symbol for " + name + " has not been created again");
+
+		System.out.println("The symbols are reclaimed when they are not used anymore");
+	}
+}
@@ -0,0 +1,99 @@
+package types;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+/**
+ * Checks that the lists of types built by a compilation are kept by its
+ * compilation context, rather than by the lists shared by all contexts,
+ * so that they are released together with the context.
+ * Its only argument is the directory of the Kitten testcases, that are compiled.
+ */
+
+public class TypeListTest {
+
+	private final static int ROUNDS = 10;
+
+	public static void main(String[] args) throws Exception {
+		File dir = new File(args.length > 0 ? args[0] : "testcases");
+
+		// the main thread never enters a context, hence this is the default context
+		int lists = CompilationContext.current().typeLists.size();
+
+		WeakReference<CompilationContext> context = null;
+		WeakReference<TypeList> list = null;
+		for (int round = 0; round < ROUNDS; round++) {
+			CompilationContext compilation = compile(dir);
+
+			// a list of types of the compilation, that refers to one of its class types
+			CompilationContext.Scope scope = compilation.enter();
+			try {
+				list = new WeakReference<>(TypeList.EMPTY.push(compilation.getObjectType()).push(IntType.INSTANCE));
+			}
+			finally {
+				scope.close();
+			}
+
+			context = new WeakReference<>(compilation);
+		}
+
+		if (CompilationContext.current().typeLists.size() != lists)
+			throw new AssertionError("The lists of types of the compilations are kept by the default context");
+
+		// nothing shared by all compilations must keep their lists of types alive
+		for (int attempt = 0; attempt < 100 && (context.get() != null || list.get() != null); attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		if (context.get() != null)
+			throw new AssertionError("A compilation context is kept alive after its compilation");
+
+		if (list.get() != null)
+			throw new AssertionError("A list of types is kept alive after the context of its compilation");
+
+		System.out.println("The lists of types are released together with their compilation context");
+	}
+
+	private static CompilationContext compile(File dir) throws Exception {
+		// every compilation starts from scratch
+		CompilationContext context = new CompilationContext();
+		for (File file: dir.listFiles())
+			if (file.getName().endsWith(".kit"))
+				context.addSource(file.getName().substring(0, file.getName().length() - 4),
+					new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset()));
+
+		// the errors in the testcases are not relevant here
+		PrintStream out = System.out, err = System.err;
+		PrintStream discard = new PrintStream(new Discard());
+		System.setOut(discard);
+		System.setErr(discard);
+
+		CompilationContext.Scope scope = context.enter();
+		try {
+			for (File file: dir.listFiles())
+				if (file.getName().endsWith(".kit")) {
+					ClassType clazz = ClassType.mkFromFileName(file.getName());
+					if (clazz.getErrorMsg() != null && !clazz.getErrorMsg().anyErrors())
+						clazz.translate();
+				}
+		}
+		finally {
+			scope.close();
+			System.setOut(out);
+			System.setErr(err);
+		}
+
+		return context;
+	}
+
+	private static class Discard extends OutputStream {
+
+		@Override
+		public void write(int b) {}
+	}
+}